@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.CounterStorage;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Registers 1M counters in a {@link SimpleMeterRegistry} with each
+ * {@link CounterStorage}, increments them from several threads, and reports the heap
+ * retained per counter, including the registry's own bookkeeping for each meter, as the
+ * {@code retainedBytesPerCounter} secondary result.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CounterStorageBenchmark {
+
+    private static final int COUNTERS = 1_000_000;
+
+    private static final int INCREMENTING_THREADS = 4;
+
+    @Param({ "METER", "ARENA" })
+    CounterStorage storage;
+
+    SimpleMeterRegistry registry;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytesPerCounter;
+
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        registry = null;
+    }
+
+    @Benchmark
+    public SimpleMeterRegistry registerAndIncrement(Footprint footprint) {
+        long before = usedHeap();
+        SimpleConfig config = key -> "simple.counterStorage".equals(key) ? storage.name() : null;
+        registry = new SimpleMeterRegistry(config, Clock.SYSTEM);
+        Counter[] counters = new Counter[COUNTERS];
+        for (int i = 0; i < COUNTERS; i++) {
+            counters[i] = registry.counter("jmh.counter", "index", String.valueOf(i));
+        }
+        // threads walking the counters in the same order contend on them, which is what
+        // makes a DoubleAdder grow cells
+        IntStream.range(0, INCREMENTING_THREADS).parallel().forEach(thread -> {
+            for (Counter counter : counters) {
+                counter.increment();
+            }
+        });
+        footprint.retainedBytesPerCounter = (usedHeap() - before) / COUNTERS;
+        return registry;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CounterStorageBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
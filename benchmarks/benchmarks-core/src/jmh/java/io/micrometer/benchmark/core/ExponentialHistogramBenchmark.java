@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording cost and footprint of a {@link CumulativeBase2ExponentialHistogram} against
+ * the histograms registries use today for percentile histograms: the 276 fixed buckets
+ * of {@link TimeWindowFixedBoundaryHistogram} and the HdrHistogram ring buffer of
+ * {@link TimeWindowPercentileHistogram}. Each iteration records the same log-normally
+ * distributed latencies, as in {@code CompareOTLPHistograms}, into 100 histograms, and
+ * the heap retained per histogram is measured with JOL as the
+ * {@code retainedBytesPerHistogram} secondary result.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Djdk.attach.allowAttachSelf=true")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ExponentialHistogramBenchmark {
+
+    private static final int HISTOGRAMS = 100;
+
+    private static final int VALUES = 100_000;
+
+    @Param({ "base2Exponential", "fixedBoundary", "hdrHistogram" })
+    String histogramType;
+
+    long[] latencies;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytesPerHistogram;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setupLatencies() {
+        Random random = new Random(1234567891L);
+        latencies = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            latencies[i] = (long) Math.exp(14 + 1.5 * random.nextGaussian());
+        }
+    }
+
+    @Benchmark
+    public Histogram[] record(Footprint footprint) {
+        Histogram[] histograms = new Histogram[HISTOGRAMS];
+        for (int i = 0; i < HISTOGRAMS; i++) {
+            histograms[i] = newHistogram();
+            for (long latency : latencies) {
+                histograms[i].recordLong(latency);
+            }
+        }
+        footprint.retainedBytesPerHistogram = GraphLayout.parseInstance((Object[]) histograms).totalSize()
+                / HISTOGRAMS;
+        return histograms;
+    }
+
+    private Histogram newHistogram() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .percentiles(0.5, 0.99)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        switch (histogramType) {
+            case "fixedBoundary":
+                return new TimeWindowFixedBoundaryHistogram(Clock.SYSTEM, config, true);
+            case "hdrHistogram":
+                return new TimeWindowPercentileHistogram(Clock.SYSTEM, config, true);
+            case "base2Exponential":
+            default:
+                return new CumulativeBase2ExponentialHistogram(20, 160, 0.0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExponentialHistogramBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
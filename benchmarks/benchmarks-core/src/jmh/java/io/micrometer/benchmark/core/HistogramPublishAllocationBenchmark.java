@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.HistogramSnapshotBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Garbage produced by reading the distribution statistics of 10k timers with percentile
+ * histograms, as a registry does on each publish, by taking a {@link HistogramSnapshot}
+ * of each or by visiting each snapshot into a reused {@link HistogramSnapshotBuffer}.
+ * Run with the GC profiler and compare {@code gc.alloc.rate.norm}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HistogramPublishAllocationBenchmark {
+
+    private static final int TIMERS = 10_000;
+
+    SimpleMeterRegistry registry;
+
+    Timer[] timers;
+
+    HistogramSnapshotBuffer buffer = new HistogramSnapshotBuffer();
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        timers = new Timer[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            timers[i] = Timer.builder("jmh.timer")
+                .tags(Tags.of("index", String.valueOf(i)))
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(Duration.ofMillis(100))
+                .register(registry);
+            for (int j = 1; j <= 100; j++) {
+                timers[i].record(j, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public void takeSnapshots(Blackhole blackhole) {
+        for (Timer timer : timers) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            blackhole.consume(snapshot.count());
+            blackhole.consume(snapshot.histogramCounts().length);
+        }
+    }
+
+    @Benchmark
+    public void visitSnapshots(Blackhole blackhole) {
+        for (Timer timer : timers) {
+            timer.visitSnapshot(buffer);
+            blackhole.consume(buffer.count());
+            blackhole.consume(buffer.bucketCount());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HistogramPublishAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+}
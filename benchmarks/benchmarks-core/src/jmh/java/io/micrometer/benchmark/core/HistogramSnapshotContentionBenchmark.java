@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of recording to a timer with client-side percentiles while another thread
+ * takes snapshots, which compute the percentiles. Each snapshot first moves the clock by
+ * a rotation period, so recording threads keep finding a rotation due while a snapshot
+ * is in progress. Compare the tail of {@code recordDuringSnapshot:record} with
+ * {@code recordAlone}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Group)
+public class HistogramSnapshotContentionBenchmark {
+
+    private static final Duration EXPIRY = Duration.ofMinutes(1);
+
+    private static final int BUFFER_LENGTH = 3;
+
+    MockClock clock;
+
+    Timer timer;
+
+    @Setup
+    public void setup() {
+        clock = new MockClock();
+        timer = Timer.builder("jmh.timer")
+            .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .distributionStatisticExpiry(EXPIRY)
+            .distributionStatisticBufferLength(BUFFER_LENGTH)
+            .register(new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock));
+    }
+
+    @Benchmark
+    @Group("recordDuringSnapshot")
+    @GroupThreads(3)
+    public void record() {
+        timer.record(ThreadLocalRandom.current().nextLong(1, 1_000_000_000L), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Group("recordDuringSnapshot")
+    @GroupThreads(1)
+    public HistogramSnapshot snapshot() {
+        clock.add(EXPIRY.dividedBy(BUFFER_LENGTH));
+        return timer.takeSnapshot();
+    }
+
+    @Benchmark
+    @Group("recordAlone")
+    @GroupThreads(3)
+    public void recordAlone() {
+        record();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HistogramSnapshotContentionBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration of new meters through a platform-like chain of 44 filters, most of them
+ * scoped to name prefixes that don't match the registered meters.
+ */
+@Fork(1)
+@Warmup(iterations = 5, batchSize = 1000)
+@Measurement(iterations = 50, batchSize = 1000)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MeterFilterChainBenchmark {
+
+    private static final String[] PREFIXES = { "jvm", "process", "system", "tomcat", "jetty", "hikaricp", "jdbc",
+            "kafka", "cache", "logback", "executor", "disk" };
+
+    MeterRegistry registry;
+
+    int i;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        registry.config().commonTags("application", "abcservice", "az", "xyz", "environment", "production");
+        for (String prefix : PREFIXES) {
+            registry.config()
+                .meterFilter(MeterFilter.renameTag(prefix, "name", prefix + ".name"))
+                .meterFilter(MeterFilter.maximumAllowableTags(prefix, "id", 1000, MeterFilter.deny()))
+                .meterFilter(MeterFilter.maxExpected(prefix, Duration.ofSeconds(10)));
+        }
+        registry.config()
+            .meterFilter(MeterFilter.denyNameStartsWith("jvm.gc.pause.legacy"))
+            .meterFilter(MeterFilter.denyNameStartsWith("tomcat.sessions"))
+            .meterFilter(MeterFilter.denyNameStartsWith("kafka.consumer.fetch.manager"))
+            .meterFilter(MeterFilter.denyNameStartsWith("system.load"))
+            .meterFilter(MeterFilter.ignoreTags("instance"))
+            .meterFilter(MeterFilter.acceptNameStartsWith("http"))
+            .meterFilter(MeterFilter.maximumAllowableTags("http", "uri", 10_000, MeterFilter.deny()));
+    }
+
+    @Benchmark
+    public Timer registerNewTimer() {
+        return registry.timer("http.server.requests", "uri", "/api/" + i++, "status", "200");
+    }
+
+    @Benchmark
+    public Counter registerNewCounter() {
+        return registry.counter("app.orders", "order", String.valueOf(i++));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MeterFilterChainBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
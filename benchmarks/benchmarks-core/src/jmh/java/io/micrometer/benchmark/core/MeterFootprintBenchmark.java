@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained per meter, by meter type and registry implementation, measured with JOL
+ * by walking the object graph of the registry before and after registering meters. The
+ * {@code retainedBytesPerMeter} secondary result is the measurement and
+ * {@code estimatedBytesPerMeter} is what {@link MeterRegistry#estimateRetainedBytes()}
+ * reports for the same meters. The primary result, the time to register the meters, is
+ * incidental.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Djdk.attach.allowAttachSelf=true")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MeterFootprintBenchmark {
+
+    private static final int METERS = 1000;
+
+    @Param({ "simple", "prometheus", "otlp" })
+    String registryType;
+
+    @Param({ "counter", "gauge", "timer", "timerWithHistogram", "timerWithPercentiles", "summary",
+            "longTaskTimer" })
+    String meterType;
+
+    MeterRegistry registry;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytesPerMeter;
+
+        public long estimatedBytesPerMeter;
+
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        switch (registryType) {
+            case "prometheus":
+                registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+                break;
+            case "otlp":
+                registry = new OtlpMeterRegistry(new OtlpConfig() {
+                    @Override
+                    public boolean enabled() {
+                        return false;
+                    }
+
+                    @Override
+                    public String get(String key) {
+                        return null;
+                    }
+                }, Clock.SYSTEM);
+                break;
+            case "simple":
+            default:
+                registry = new SimpleMeterRegistry();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public MeterRegistry registerMeters(Footprint footprint) {
+        long before = GraphLayout.parseInstance(registry).totalSize();
+        for (int i = 0; i < METERS; i++) {
+            register("jmh.meter", Tags.of("index", String.valueOf(i)));
+        }
+        footprint.retainedBytesPerMeter = (GraphLayout.parseInstance(registry).totalSize() - before) / METERS;
+        footprint.estimatedBytesPerMeter = registry.estimateRetainedBytes() / METERS;
+        return registry;
+    }
+
+    private void register(String name, Tags tags) {
+        switch (meterType) {
+            case "gauge":
+                Gauge.builder(name, () -> 1.0).tags(tags).register(registry);
+                break;
+            case "timer":
+                Timer.builder(name).tags(tags).register(registry);
+                break;
+            case "timerWithHistogram":
+                Timer.builder(name)
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(Duration.ofMillis(100))
+                    .register(registry);
+                break;
+            case "timerWithPercentiles":
+                Timer.builder(name).tags(tags).publishPercentiles(0.5, 0.99).register(registry);
+                break;
+            case "summary":
+                DistributionSummary.builder(name).tags(tags).register(registry);
+                break;
+            case "longTaskTimer":
+                LongTaskTimer.builder(name).tags(tags).register(registry);
+                break;
+            case "counter":
+            default:
+                Counter.builder(name).tags(tags).register(registry);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MeterFootprintBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
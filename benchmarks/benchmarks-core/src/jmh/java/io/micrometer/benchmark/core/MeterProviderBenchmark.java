@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up an existing timer with per-request tag values through the builder, a
+ * {@link Meter.MeterProvider} and a {@link TagValuesMeterProvider}. Run with the GC
+ * profiler (as {@link #main(String[])} does) to compare allocations per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MeterProviderBenchmark {
+
+    private static final String[] METHODS = { "GET", "POST", "PUT", "DELETE" };
+
+    private static final String[] STATUSES = { "200", "201", "400", "404", "500" };
+
+    MeterRegistry registry;
+
+    Meter.MeterProvider<Timer> meterProvider;
+
+    TagValuesMeterProvider<Timer> tagValuesMeterProvider;
+
+    int i;
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        registry.config().commonTags("application", "abcservice", "az", "xyz");
+        meterProvider = Timer.builder("jmh.requests").tag("uri", "/api").withRegistry(registry);
+        tagValuesMeterProvider = meterProvider.withTagKeys("method", "status");
+        for (String method : METHODS) {
+            for (String status : STATUSES) {
+                meterProvider.withTags("method", method, "status", status);
+            }
+        }
+    }
+
+    @Benchmark
+    public Timer builder() {
+        int n = i++;
+        return Timer.builder("jmh.requests")
+            .tags("uri", "/api", "method", METHODS[n & 3], "status", STATUSES[n % STATUSES.length])
+            .register(registry);
+    }
+
+    @Benchmark
+    public Timer meterProvider() {
+        int n = i++;
+        return meterProvider.withTags("method", METHODS[n & 3], "status", STATUSES[n % STATUSES.length]);
+    }
+
+    @Benchmark
+    public Timer tagValuesMeterProvider() {
+        int n = i++;
+        return tagValuesMeterProvider.withTagValues(METHODS[n & 3], STATUSES[n % STATUSES.length]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MeterProviderBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+}
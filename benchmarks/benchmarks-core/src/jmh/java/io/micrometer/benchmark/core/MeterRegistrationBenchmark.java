@@ -26,6 +26,7 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Fork(1)
 @Warmup(iterations = 2)
@@ -79,6 +80,19 @@ public class MeterRegistrationBenchmark {
         return registry.counter("jmh.stale");
     }
 
+    /**
+     * Every thread registers its own distinct ids, as happens during startup or with
+     * high-cardinality churn. Run with {@code -t} to vary the number of threads.
+     */
+    @Benchmark
+    @Warmup(iterations = 5, batchSize = 1000)
+    @Measurement(iterations = 50, batchSize = 1000)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Meter registerNewConcurrently(ThreadIds ids) {
+        return registry.counter("jmh.concurrent.counter", "thread", ids.thread, "i", String.valueOf(ids.next++));
+    }
+
     @Benchmark
     public Meter registerExistingCounter() {
         return registry.counter("jmh.existing", tags);
@@ -89,6 +103,17 @@ public class MeterRegistrationBenchmark {
         return counterMeterProvider.withTag("k1", "v1");
     }
 
+    @State(Scope.Thread)
+    public static class ThreadIds {
+
+        private static final AtomicInteger threadCount = new AtomicInteger();
+
+        final String thread = String.valueOf(threadCount.getAndIncrement());
+
+        int next;
+
+    }
+
     public static void main(String[] args) throws RunnerException {
         new Runner(new OptionsBuilder().include(MeterRegistrationBenchmark.class.getSimpleName())
             .addProfiler(GCProfiler.class)
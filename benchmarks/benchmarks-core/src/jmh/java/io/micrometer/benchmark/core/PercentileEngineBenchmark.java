@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.PercentileEngine;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Footprint and accuracy of each {@link PercentileEngine}. Timers publishing client-side
+ * percentiles record the same log-normally distributed latencies, then the heap retained
+ * per timer is measured with JOL as the {@code retainedBytesPerTimer} secondary result,
+ * and the largest relative error of the published percentiles against the exact ones,
+ * in parts per million, as {@code maxRelativeErrorPpm}. The primary result, the time to
+ * register and record to the timers, is incidental.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Djdk.attach.allowAttachSelf=true")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PercentileEngineBenchmark {
+
+    private static final int TIMERS = 100;
+
+    private static final int VALUES = 10_000;
+
+    private static final double[] PERCENTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+    @Param({ "HDR_HISTOGRAM", "SKETCH", "BASE2_EXPONENTIAL" })
+    PercentileEngine engine;
+
+    @Param({ "1", "2" })
+    int precision;
+
+    long[] latencies;
+
+    long[] sortedLatencies;
+
+    MeterRegistry registry;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytesPerTimer;
+
+        public long maxRelativeErrorPpm;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setupLatencies() {
+        Random random = new Random(42);
+        latencies = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            // median around 1ms, with a long tail
+            latencies[i] = (long) Math.exp(14 + 1.5 * random.nextGaussian());
+        }
+        sortedLatencies = latencies.clone();
+        Arrays.sort(sortedLatencies);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                    .percentileEngine(engine)
+                    .percentilePrecision(precision)
+                    .build()
+                    .merge(config);
+            }
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public MeterRegistry recordLatencies(Footprint footprint) {
+        long before = GraphLayout.parseInstance(registry).totalSize();
+        Timer[] timers = new Timer[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            timers[i] = Timer.builder("jmh.timer")
+                .tag("index", String.valueOf(i))
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+            for (long latency : latencies) {
+                timers[i].record(latency, TimeUnit.NANOSECONDS);
+            }
+        }
+        footprint.retainedBytesPerTimer = (GraphLayout.parseInstance(registry).totalSize() - before) / TIMERS;
+
+        double maxRelativeError = 0;
+        for (ValueAtPercentile valueAtPercentile : timers[0].takeSnapshot().percentileValues()) {
+            double exact = sortedLatencies[(int) Math.ceil(valueAtPercentile.percentile() * VALUES) - 1];
+            double estimate = valueAtPercentile.value(TimeUnit.NANOSECONDS);
+            maxRelativeError = Math.max(maxRelativeError, Math.abs(estimate - exact) / exact);
+        }
+        footprint.maxRelativeErrorPpm = (long) (maxRelativeError * 1_000_000);
+        return registry;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PercentileEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Searches in a registry with many meters, through {@link Search}, which uses the
+ * registry's meter index, and through a linear scan of all meters, as {@code Search} did
+ * before the index existed.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({ "1000", "200000" })
+    int meterCount;
+
+    MeterRegistry registry;
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        for (int i = 0; i < meterCount; i++) {
+            registry.counter("jmh.search.counter" + (i % 100), "index", String.valueOf(i), "shard",
+                    String.valueOf(i % 10));
+        }
+    }
+
+    @Benchmark
+    public Collection<Meter> byName() {
+        return registry.find("jmh.search.counter42").meters();
+    }
+
+    @Benchmark
+    public List<Meter> byNameLinearScan() {
+        return registry.getMeters()
+            .stream()
+            .filter(m -> m.getId().getName().equals("jmh.search.counter42"))
+            .collect(toList());
+    }
+
+    @Benchmark
+    public Meter byNameAndTag() {
+        return registry.find("jmh.search.counter42").tag("index", "42").meter();
+    }
+
+    @Benchmark
+    public Meter byNameAndTagLinearScan() {
+        Tag tag = Tag.of("index", "42");
+        return registry.getMeters()
+            .stream()
+            .filter(m -> m.getId().getName().equals("jmh.search.counter42") && m.getId().getTags().contains(tag))
+            .findAny()
+            .orElse(null);
+    }
+
+    @Benchmark
+    public Collection<Meter> byNamePrefix() {
+        return Search.in(registry).nameStartsWith("jmh.search.counter4").meters();
+    }
+
+    @Benchmark
+    public List<Meter> byNamePrefixLinearScan() {
+        return registry.getMeters()
+            .stream()
+            .filter(m -> m.getId().getName().startsWith("jmh.search.counter4"))
+            .collect(toList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SearchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time taken by {@link StepMeterRegistry} to roll over all of its meters at a step
+ * boundary, with rollover on the polling thread only or split across threads with
+ * {@link StepRegistryConfig#rolloverParallelism()}. Meters are half counters and half
+ * timers, each recorded to once per step.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StepRolloverBenchmark {
+
+    private static final Duration STEP = Duration.ofMinutes(1);
+
+    @Param({ "100000", "1000000" })
+    int meters;
+
+    @Param({ "1", "4", "8" })
+    int rolloverParallelism;
+
+    MockClock clock;
+
+    StepMeterRegistry registry;
+
+    Counter[] counters;
+
+    Timer[] timers;
+
+    Method pollMetersToRollover;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        clock = new MockClock();
+        registry = new BenchmarkStepMeterRegistry(new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "benchmark";
+            }
+
+            @Override
+            public Duration step() {
+                return STEP;
+            }
+
+            @Override
+            public int rolloverParallelism() {
+                return rolloverParallelism;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        }, clock);
+        counters = new Counter[meters / 2];
+        timers = new Timer[meters / 2];
+        for (int i = 0; i < meters / 2; i++) {
+            counters[i] = registry.counter("counter", "index", String.valueOf(i));
+            timers[i] = registry.timer("timer", "index", String.valueOf(i));
+        }
+        // rollover runs on the registry's own polling thread, which is not public
+        pollMetersToRollover = StepMeterRegistry.class.getDeclaredMethod("pollMetersToRollover");
+        pollMetersToRollover.setAccessible(true);
+    }
+
+    @Setup(Level.Invocation)
+    public void recordAndAdvanceToNextStep() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i].increment();
+            timers[i].record(i, TimeUnit.MICROSECONDS);
+        }
+        clock.add(STEP);
+    }
+
+    @Benchmark
+    public void rollover() throws ReflectiveOperationException {
+        pollMetersToRollover.invoke(registry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registry.close();
+    }
+
+    static class BenchmarkStepMeterRegistry extends StepMeterRegistry {
+
+        BenchmarkStepMeterRegistry(StepRegistryConfig config, MockClock clock) {
+            super(config, clock);
+        }
+
+        @Override
+        protected void publish() {
+        }
+
+        @Override
+        protected TimeUnit getBaseTimeUnit() {
+            return TimeUnit.SECONDS;
+        }
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StepRolloverBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -49,6 +49,10 @@ public class TagsBenchmark {
 
     static final Tag[] unorderedTagsSet2 = new Tag[] { Tag.of("key1", "value"), Tag.of("key0", "value") };
 
+    static final Tags tagsSet10 = Tags.of(orderedTagsSet10);
+
+    static final Tags internedTagsSet10 = Tags.of(orderedTagsSet10).intern();
+
     @Benchmark
     public Tags tagsOfOrderedTagsSet10() {
         return Tags.of(orderedTagsSet10);
@@ -89,6 +93,27 @@ public class TagsBenchmark {
         return Tags.of("key", "value").and("key2", "value2", "key3", "value3", "key4", "value4", "key5", "value5");
     }
 
+    @Benchmark
+    public Tags intern() {
+        return Tags.of("key", "value", "key2", "value2", "key3", "value3", "key4", "value4", "key5", "value5")
+            .intern();
+    }
+
+    @Benchmark
+    public boolean equalsTagsSet10() {
+        return Tags.of(orderedTagsSet10).equals(tagsSet10);
+    }
+
+    @Benchmark
+    public boolean equalsInternedTagsSet10() {
+        return Tags.of(orderedTagsSet10).intern().equals(internedTagsSet10);
+    }
+
+    @Benchmark
+    public int hashCodeTagsSet10() {
+        return tagsSet10.hashCode();
+    }
+
     public static void main(String[] args) throws RunnerException {
         new Runner(new OptionsBuilder().include(TagsBenchmark.class.getSimpleName())
             // .addProfiler(GCProfiler.class)
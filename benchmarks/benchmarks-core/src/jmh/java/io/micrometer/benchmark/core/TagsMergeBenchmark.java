@@ -15,6 +15,7 @@
  */
 package io.micrometer.benchmark.core;
 
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
@@ -38,11 +39,32 @@ public class TagsMergeBenchmark {
     static final Tags right = Tags.of("key", "value", "key1", "value1", "key2", "value2", "key3", "value3", "key4",
             "value4", "key5", "value5", "keyA", "valueA", "keyB", "valueB", "keyD", "valueD");
 
+    static final Tags leftCopy = Tags.of(left.stream().toArray(Tag[]::new));
+
+    static final Tags internedLeft = left.intern();
+
+    static final Tags internedRight = right.intern();
+
     @Benchmark
     public Tags mergeTags() {
         return left.and(right);
     }
 
+    @Benchmark
+    public Tags mergeEqualTags() {
+        return left.and(leftCopy);
+    }
+
+    @Benchmark
+    public Tags mergeEqualInternedTags() {
+        return internedLeft.and(internedLeft);
+    }
+
+    @Benchmark
+    public Tags mergeInternedTags() {
+        return internedLeft.and(internedRight);
+    }
+
     public static void main(String[] args) throws RunnerException {
         new Runner(new OptionsBuilder().include(TagsMergeBenchmark.class.getSimpleName())
             // .addProfiler(GCProfiler.class)
@@ -15,8 +15,11 @@
  */
 package io.micrometer.benchmark.core;
 
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import org.openjdk.jmh.annotations.*;
@@ -24,6 +27,7 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 @Fork(1)
@@ -38,10 +42,13 @@ public class TimerBenchmark {
 
     private Timer timer;
 
+    private TimeWindowMax max;
+
     @Setup
     public void setup() {
         registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
         timer = registry.timer("timer");
+        max = new TimeWindowMax(Clock.SYSTEM, DistributionStatisticConfig.DEFAULT);
     }
 
     @Benchmark
@@ -61,6 +68,22 @@ public class TimerBenchmark {
         return registry.timer("timer").record(this::doSomething);
     }
 
+    /**
+     * Increasing samples from several threads, the worst case for the max: most samples
+     * raise it.
+     */
+    @Benchmark
+    @Threads(4)
+    public void maxRecordedConcurrently() {
+        max.record(System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void timerRecordedConcurrently() {
+        timer.record(ThreadLocalRandom.current().nextLong(1_000_000), TimeUnit.NANOSECONDS);
+    }
+
     int doSomething() {
         return 923 + 123;
     }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.benchmark.core;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording to a single hot timer with a percentile histogram from many threads at once,
+ * where every thread increments the same bucket counts. {@code sameBucket} records a
+ * constant duration, the worst case, and {@code spreadBuckets} random durations across
+ * the histogram's range. Prometheus counts buckets in a time-window histogram and OTLP
+ * with delta temporality in a step histogram. {@link #main(String[])} runs the scenario with 1 to 64 threads.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimerHistogramConcurrencyBenchmark {
+
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    @Param({ "prometheus", "otlpDelta" })
+    String registryType;
+
+    Timer timer;
+
+    @Setup
+    public void setup() {
+        timer = Timer.builder("jmh.hot.timer")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(1))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(registry());
+    }
+
+    private MeterRegistry registry() {
+        if ("otlpDelta".equals(registryType)) {
+            return new OtlpMeterRegistry(new OtlpConfig() {
+                @Override
+                public boolean enabled() {
+                    return false;
+                }
+
+                @Override
+                public String get(String key) {
+                    return "otlp.aggregationTemporality".equals(key) ? "delta" : null;
+                }
+            }, Clock.SYSTEM);
+        }
+        return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    @Benchmark
+    public void sameBucket() {
+        timer.record(1_000_000, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void spreadBuckets() {
+        timer.record(ThreadLocalRandom.current().nextLong(1, 10_000_000_000L), TimeUnit.NANOSECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder().include(TimerHistogramConcurrencyBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()).run();
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.concurrencytests;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.TimeWindowFixedBoundaryHistogram;
+import io.micrometer.core.instrument.distribution.TimeWindowPercentileHistogram;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.time.Duration;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Concurrency tests for recording to time window histograms while a snapshot is taken
+ * and a rotation is due, so that the recording and snapshot threads race to rotate.
+ */
+public class TimeWindowHistogramConcurrencyTest {
+
+    private static final DistributionStatisticConfig CONFIG = DistributionStatisticConfig.builder()
+        .serviceLevelObjectives(1, 10)
+        .percentiles(0.5)
+        .build()
+        .merge(DistributionStatisticConfig.DEFAULT);
+
+    private static int countAtFirstBucket(HistogramSnapshot snapshot) {
+        return (int) snapshot.histogramCounts()[0].count();
+    }
+
+    @JCStressTest
+    @State
+    @Outcome(id = { "0, 1", "1, 1" }, expect = ACCEPTABLE,
+            desc = "The recording is in the later snapshot, and may be in the concurrent one")
+    @Outcome(expect = FORBIDDEN, desc = "The recording is lost or counted twice")
+    public static class RecordDuringRotatingSnapshotFixedBoundary {
+
+        MockClock clock = new MockClock();
+
+        TimeWindowFixedBoundaryHistogram histogram = new TimeWindowFixedBoundaryHistogram(clock, CONFIG, false);
+
+        {
+            clock.add(CONFIG.getExpiry().dividedBy(CONFIG.getBufferLength()).plus(Duration.ofMillis(1)));
+        }
+
+        @Actor
+        public void record() {
+            histogram.recordLong(1);
+        }
+
+        @Actor
+        public void snapshot(II_Result r) {
+            r.r1 = countAtFirstBucket(histogram.takeSnapshot(0, 0, 0));
+        }
+
+        @Arbiter
+        public void arbiter(II_Result r) {
+            r.r2 = countAtFirstBucket(histogram.takeSnapshot(0, 0, 0));
+        }
+
+    }
+
+    @JCStressTest
+    @State
+    @Outcome(id = { "0, 1", "1, 1" }, expect = ACCEPTABLE,
+            desc = "The recording is in the later snapshot, and may be in the concurrent one")
+    @Outcome(expect = FORBIDDEN, desc = "The recording is lost or counted twice")
+    public static class RecordDuringRotatingSnapshotPercentiles {
+
+        MockClock clock = new MockClock();
+
+        TimeWindowPercentileHistogram histogram = new TimeWindowPercentileHistogram(clock, CONFIG, false);
+
+        {
+            clock.add(CONFIG.getExpiry().dividedBy(CONFIG.getBufferLength()).plus(Duration.ofMillis(1)));
+        }
+
+        @Actor
+        public void record() {
+            histogram.recordLong(1);
+        }
+
+        @Actor
+        public void snapshot(II_Result r) {
+            r.r1 = countAtFirstBucket(histogram.takeSnapshot(0, 0, 0));
+        }
+
+        @Arbiter
+        public void arbiter(II_Result r) {
+            r.r2 = countAtFirstBucket(histogram.takeSnapshot(0, 0, 0));
+        }
+
+    }
+
+}
@@ -19,7 +19,6 @@ import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.distribution.HistogramSnapshot;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -97,9 +96,9 @@ public class AppOpticsMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
+        String bodyMeasurementsPrefix = getBodyMeasurementsPrefix();
         try {
-            String bodyMeasurementsPrefix = getBodyMeasurementsPrefix();
-            for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+            publishInBatches(batch -> {
                 // @formatter:off
                 final List<String> meters = batch.stream()
                     .map(meter -> meter.match(
@@ -117,7 +116,7 @@ public class AppOpticsMeterRegistry extends StepMeterRegistry {
                     .collect(Collectors.toList());
                 // @formatter:on
                 if (meters.isEmpty()) {
-                    continue;
+                    return;
                 }
                 httpClient.post(config.uri())
                     .withBasicAuthentication(config.apiToken(), "")
@@ -133,7 +132,7 @@ public class AppOpticsMeterRegistry extends StepMeterRegistry {
                         }
                     })
                     .onError(response -> logger.error("failed to send metrics to appoptics: {}", response.body()));
-            }
+            });
         }
         catch (Throwable t) {
             logger.warn("failed to send metrics to appoptics", t);
@@ -30,6 +30,7 @@ public class SpectatorCounter extends AbstractMeter implements Counter {
 
     @Override
     public void increment(double amount) {
+        markRecorded();
         counter.increment((long) amount);
     }
 
@@ -81,7 +81,7 @@ public class AzureMonitorMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
-        for (Meter meter : getMeters()) {
+        for (Meter meter : getMetersToPublish()) {
             // @formatter:off
             meter
                 .match(
@@ -154,7 +154,7 @@ public class CloudWatchMeterRegistry extends StepMeterRegistry {
     List<MetricDatum> metricData() {
         Batch batch = new Batch();
         // @formatter:off
-        return getMeters().stream()
+        return getMetersToPublish().stream()
             .flatMap(m -> m.match(
                     batch::gaugeData,
                     batch::counterData,
@@ -17,7 +17,6 @@ package io.micrometer.datadog;
 
 import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -26,7 +25,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URLEncoder;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -106,12 +104,12 @@ public class DatadogMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
-        Map<String, DatadogMetricMetadata> metadataToSend = new HashMap<>();
+        Map<String, DatadogMetricMetadata> metadataToSend = new ConcurrentHashMap<>();
 
         String datadogEndpoint = config.uri() + "/api/v1/series?api_key=" + config.apiKey();
 
         try {
-            for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+            publishStreaming("{\"series\":[", ",", "]}", (meter, payload) -> {
                 // @formatter:off
                 /*
                 Example post body from Datadog API docs. Host and tags are optional.
@@ -125,7 +123,7 @@ public class DatadogMeterRegistry extends StepMeterRegistry {
                         ]
                 }"
                 */
-                String body = batch.stream().flatMap(meter -> meter.match(
+                meter.match(
                         m -> writeMeter(m, metadataToSend), // visitGauge
                         m -> writeMeter(m, metadataToSend), // visitCounter
                         timer -> writeTimer(timer, metadataToSend), // visitTimer
@@ -134,18 +132,20 @@ public class DatadogMeterRegistry extends StepMeterRegistry {
                         m -> writeMeter(m, metadataToSend), // visitTimeGauge
                         m -> writeMeter(m, metadataToSend), // visitFunctionCounter
                         timer -> writeTimer(timer, metadataToSend), // visitFunctionTimer
-                        m -> writeMeter(m, metadataToSend)) // visitMeter
-                ).collect(joining(",", "{\"series\":[", "]}"));
+                        m -> writeMeter(m, metadataToSend) // visitMeter
+                ).forEach(payload::add);
                 // @formatter:on
+            }, payload -> {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("sending metrics batch to datadog:{}{}", System.lineSeparator(), payload);
+                }
 
-                logger.trace("sending metrics batch to datadog:{}{}", System.lineSeparator(), body);
-
-                httpClient.post(datadogEndpoint)
-                    .withJsonContent(body)
+                payload.writeTo(httpClient.post(datadogEndpoint), "application/json")
                     .send()
-                    .onSuccess(response -> logger.debug("successfully sent {} metrics to datadog", batch.size()))
+                    .onSuccess(
+                            response -> logger.debug("successfully sent {} metrics to datadog", payload.meterCount()))
                     .onError(response -> logger.error("failed to send metrics to datadog: {}", response.body()));
-            }
+            });
         }
         catch (Throwable e) {
             logger.warn("failed to send metrics to datadog", e);
@@ -19,8 +19,8 @@ import io.micrometer.common.util.StringUtils;
 import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.push.MeterPayload;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -39,7 +39,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static io.micrometer.core.instrument.util.StringEscapeUtils.escapeJson;
-import static java.util.stream.Collectors.joining;
 
 /**
  * {@link MeterRegistry} for Elasticsearch.
@@ -114,38 +113,42 @@ public class ElasticMeterRegistry extends StepMeterRegistry {
         createIndexTemplateIfNeeded();
 
         String uri = config.host() + "/" + indexName() + "/_bulk";
-        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
-            try {
-                String requestBody = batch.stream()
-                    .map(m -> m.match(this::writeGauge, this::writeCounter, this::writeTimer, this::writeSummary,
-                            this::writeLongTaskTimer, this::writeTimeGauge, this::writeFunctionCounter,
-                            this::writeFunctionTimer, this::writeMeter))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(joining("\n", "", "\n"));
-                connect(HttpSender.Method.POST, uri).withJsonContent(requestBody).send().onSuccess(response -> {
-                    int numberOfSentItems = batch.size();
-                    String responseBody = response.body();
-                    if (responseBody.contains(ERROR_RESPONSE_BODY_SIGNATURE)) {
-                        int numberOfCreatedItems = countCreatedItems(responseBody);
-                        logger.debug("failed metrics payload: {}", requestBody);
-                        logger.error("failed to send metrics to elastic (sent {} metrics but created {} metrics): {}",
-                                numberOfSentItems, numberOfCreatedItems, responseBody);
-                    }
-                    else {
-                        logger.debug("successfully sent {} metrics to elastic", numberOfSentItems);
-                    }
-                }).onError(response -> {
-                    logger.debug("failed metrics payload: {}", requestBody);
-                    logger.error("failed to send metrics to elastic: {}", response.body());
-                });
-            }
-            catch (Throwable e) {
-                logger.error("failed to send metrics to elastic", e);
-            }
+        try {
+            publishStreaming("", "\n", "\n", this::addToPayload, payload -> {
+                payload.writeTo(connect(HttpSender.Method.POST, uri), "application/json")
+                    .send()
+                    .onSuccess(response -> {
+                        int numberOfSentItems = payload.meterCount();
+                        String responseBody = response.body();
+                        if (responseBody.contains(ERROR_RESPONSE_BODY_SIGNATURE)) {
+                            int numberOfCreatedItems = countCreatedItems(responseBody);
+                            logger.debug("failed metrics payload: {}", payload);
+                            logger.error(
+                                    "failed to send metrics to elastic (sent {} metrics but created {} metrics): {}",
+                                    numberOfSentItems, numberOfCreatedItems, responseBody);
+                        }
+                        else {
+                            logger.debug("successfully sent {} metrics to elastic", numberOfSentItems);
+                        }
+                    })
+                    .onError(response -> {
+                        logger.debug("failed metrics payload: {}", payload);
+                        logger.error("failed to send metrics to elastic: {}", response.body());
+                    });
+            });
+        }
+        catch (Throwable e) {
+            logger.error("failed to send metrics to elastic", e);
         }
     }
 
+    private void addToPayload(Meter meter, MeterPayload payload) {
+        meter
+            .match(this::writeGauge, this::writeCounter, this::writeTimer, this::writeSummary, this::writeLongTaskTimer,
+                    this::writeTimeGauge, this::writeFunctionCounter, this::writeFunctionTimer, this::writeMeter)
+            .ifPresent(payload::add);
+    }
+
     private void createIndexTemplateIfNeeded() {
         if (this.checkedForIndexTemplate || !this.config.autoCreateIndex()) {
             return;
@@ -117,7 +117,7 @@ public class GangliaMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
-        for (Meter meter : getMeters()) {
+        for (Meter meter : getMetersToPublish()) {
             // @formatter:off
             meter.use(
                     this::announceGauge,
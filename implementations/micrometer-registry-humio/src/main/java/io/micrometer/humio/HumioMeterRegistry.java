@@ -19,7 +19,6 @@ import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.distribution.HistogramSnapshot;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
 import io.micrometer.core.instrument.util.DoubleFormat;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -83,47 +82,45 @@ public class HumioMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
-        for (List<Meter> meters : MeterPartition.partition(this, config.batchSize())) {
-            try {
+        Batch batch = new Batch(config().clock().wallTime());
+
+        String tags = "";
+        Map<String, String> datasourceTags = config.tags();
+        if (datasourceTags != null && !datasourceTags.isEmpty()) {
+            tags = datasourceTags.entrySet()
+                .stream()
+                .map(tag -> "\"" + tag.getKey() + "\": \"" + tag.getValue() + "\"")
+                .collect(joining(",", "\"tags\":{", "},"));
+        }
+
+        // @formatter:off
+        try {
+            publishStreaming("[{" + tags + "\"events\": [", ",", "]}]", (meter, payload) -> payload.add(meter.match(
+                    batch::writeGauge,
+                    batch::writeCounter,
+                    batch::writeTimer,
+                    batch::writeSummary,
+                    batch::writeLongTaskTimer,
+                    batch::writeTimeGauge,
+                    batch::writeFunctionCounter,
+                    batch::writeFunctionTimer,
+                    batch::writeMeter)), payload -> {
                 HttpSender.Request.Builder post = httpClient.post(config.uri() + "/api/v1/ingest/humio-structured");
                 String token = config.apiToken();
                 if (token != null) {
                     post.withHeader("Authorization", "Bearer " + token);
                 }
 
-                Batch batch = new Batch(config().clock().wallTime());
-
-                String tags = "";
-                Map<String, String> datasourceTags = config.tags();
-                if (datasourceTags != null && !datasourceTags.isEmpty()) {
-                    tags = datasourceTags.entrySet()
-                        .stream()
-                        .map(tag -> "\"" + tag.getKey() + "\": \"" + tag.getValue() + "\"")
-                        .collect(joining(",", "\"tags\":{", "},"));
-                }
-
-                // @formatter:off
-                post.withJsonContent(meters.stream()
-                    .map(m -> m.match(
-                            batch::writeGauge,
-                            batch::writeCounter,
-                            batch::writeTimer,
-                            batch::writeSummary,
-                            batch::writeLongTaskTimer,
-                            batch::writeTimeGauge,
-                            batch::writeFunctionCounter,
-                            batch::writeFunctionTimer,
-                            batch::writeMeter))
-                    .collect(joining(",", "[{" + tags + "\"events\": [", "]}]")))
+                payload.writeTo(post, "application/json")
                     .send()
-                    .onSuccess(response -> logger.debug("successfully sent {} metrics to humio.", meters.size()))
+                    .onSuccess(response -> logger.debug("successfully sent {} metrics to humio.", payload.meterCount()))
                     .onError(response -> logger.error("failed to send metrics to humio: {}", response.body()));
-                // @formatter:on
-            }
-            catch (Throwable e) {
-                logger.warn("failed to send metrics to humio", e);
-            }
+            });
+        }
+        catch (Throwable e) {
+            logger.warn("failed to send metrics to humio", e);
         }
+        // @formatter:on
     }
 
     @Override
@@ -17,9 +17,9 @@ package io.micrometer.influx;
 
 import io.micrometer.common.util.StringUtils;
 import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.push.MeterPayload;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
 import io.micrometer.core.instrument.util.DoubleFormat;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -54,7 +54,7 @@ public class InfluxMeterRegistry extends StepMeterRegistry {
 
     private final Logger logger = LoggerFactory.getLogger(InfluxMeterRegistry.class);
 
-    private boolean databaseExists = false;
+    private volatile boolean databaseExists = false;
 
     @SuppressWarnings("deprecation")
     public InfluxMeterRegistry(InfluxConfig config, Clock clock) {
@@ -125,36 +125,29 @@ public class InfluxMeterRegistry extends StepMeterRegistry {
     protected void publish() {
         createDatabaseIfNecessary();
 
+        String influxEndpoint;
         try {
-            String influxEndpoint = config.apiVersion().writeEndpoint(config);
+            influxEndpoint = config.apiVersion().writeEndpoint(config);
+        }
+        catch (Throwable e) {
+            logger.error("failed to send metrics to influx", e);
+            return;
+        }
 
-            for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+        try {
+            publishStreaming("", "\n", "", this::addToPayload, payload -> {
                 HttpSender.Request.Builder requestBuilder = httpClient.post(influxEndpoint)
                     .withBasicAuthentication(config.userName(), config.password());
                 config.apiVersion().addHeaderToken(config, requestBuilder);
-                // @formatter:off
-                requestBuilder
-                    .withPlainText(batch.stream()
-                        .flatMap(m -> m.match(
-                                gauge -> writeGauge(gauge.getId(), gauge.value()),
-                                counter -> writeCounter(counter.getId(), counter.count()),
-                                this::writeTimer,
-                                this::writeSummary,
-                                this::writeLongTaskTimer,
-                                gauge -> writeGauge(gauge.getId(), gauge.value(getBaseTimeUnit())),
-                                counter -> writeCounter(counter.getId(), counter.count()),
-                                this::writeFunctionTimer,
-                                this::writeMeter))
-                        .collect(joining("\n")))
+                payload.writeTo(requestBuilder, "text/plain")
                     .compressWhen(config::compressed)
                     .send()
                     .onSuccess(response -> {
-                        logger.debug("successfully sent {} metrics to InfluxDB.", batch.size());
+                        logger.debug("successfully sent {} metrics to InfluxDB.", payload.meterCount());
                         databaseExists = true;
                     })
                     .onError(response -> logger.error("failed to send metrics to influx: {}", response.body()));
-                // @formatter:on
-            }
+            });
         }
         catch (MalformedURLException e) {
             throw new IllegalArgumentException(
@@ -165,6 +158,22 @@ public class InfluxMeterRegistry extends StepMeterRegistry {
         }
     }
 
+    private void addToPayload(Meter meter, MeterPayload payload) {
+        // @formatter:off
+        meter.match(
+                gauge -> writeGauge(gauge.getId(), gauge.value()),
+                counter -> writeCounter(counter.getId(), counter.count()),
+                this::writeTimer,
+                this::writeSummary,
+                this::writeLongTaskTimer,
+                gauge -> writeGauge(gauge.getId(), gauge.value(getBaseTimeUnit())),
+                counter -> writeCounter(counter.getId(), counter.count()),
+                this::writeFunctionTimer,
+                this::writeMeter)
+            .forEach(payload::add);
+        // @formatter:on
+    }
+
     // VisibleForTesting
     Stream<String> writeMeter(Meter m) {
         List<Field> fields = new ArrayList<>();
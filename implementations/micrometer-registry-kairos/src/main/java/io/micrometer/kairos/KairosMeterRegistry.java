@@ -18,7 +18,6 @@ package io.micrometer.kairos;
 import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
 import io.micrometer.core.instrument.util.DoubleFormat;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -76,8 +75,8 @@ public class KairosMeterRegistry extends StepMeterRegistry {
 
     @Override
     protected void publish() {
-        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
-            try {
+        try {
+            publishInBatches(batch -> {
                 // @formatter:off
                 httpClient.post(config.uri())
                     .withBasicAuthentication(config.userName(), config.password())
@@ -97,10 +96,10 @@ public class KairosMeterRegistry extends StepMeterRegistry {
                     .onSuccess(response -> logger.debug("successfully sent {} metrics to kairos.", batch.size()))
                     .onError(response -> logger.error("failed to send metrics to kairos: {}", response.body()));
                 // @formatter:on
-            }
-            catch (Throwable t) {
-                logger.warn("failed to send metrics to kairos", t);
-            }
+            });
+        }
+        catch (Throwable t) {
+            logger.warn("failed to send metrics to kairos", t);
         }
     }
 
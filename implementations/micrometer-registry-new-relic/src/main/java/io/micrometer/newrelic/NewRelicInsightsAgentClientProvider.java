@@ -73,7 +73,7 @@ public class NewRelicInsightsAgentClientProvider implements NewRelicClientProvid
         // New Relic's Java Agent Insights API is backed by a reservoir/buffer
         // and handles the actual publishing of events to New Relic.
         // 1:1 mapping between Micrometer meters and New Relic events
-        for (Meter meter : meterRegistry.getMeters()) {
+        for (Meter meter : meterRegistry.getMetersToPublish()) {
             // @formatter:off
             sendEvents(meter.getId(), meter.match(
                     this::writeGauge,
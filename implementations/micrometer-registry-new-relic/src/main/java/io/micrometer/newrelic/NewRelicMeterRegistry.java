@@ -16,12 +16,14 @@
 package io.micrometer.newrelic;
 
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.config.NamingConvention;
 import io.micrometer.core.instrument.step.StepMeterRegistry;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -103,6 +105,12 @@ public class NewRelicMeterRegistry extends StepMeterRegistry {
         clientProvider.publish(this);
     }
 
+    // Overridden so that the client providers in this package can see it.
+    @Override
+    protected List<Meter> getMetersToPublish() {
+        return super.getMetersToPublish();
+    }
+
     @Override
     protected TimeUnit getBaseTimeUnit() {
         return TimeUnit.SECONDS;
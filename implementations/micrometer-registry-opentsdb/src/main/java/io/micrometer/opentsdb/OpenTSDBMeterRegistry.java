@@ -29,7 +29,6 @@ import io.micrometer.core.instrument.internal.DefaultGauge;
 import io.micrometer.core.instrument.internal.DefaultMeter;
 import io.micrometer.core.instrument.push.PushMeterRegistry;
 import io.micrometer.core.instrument.util.DoubleFormat;
-import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
 import io.micrometer.core.ipc.http.HttpSender;
 import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
@@ -163,8 +162,8 @@ public class OpenTSDBMeterRegistry extends PushMeterRegistry {
 
     @Override
     protected void publish() {
-        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
-            try {
+        try {
+            publishInBatches(batch -> {
                 httpClient.post(config.uri())
                     .withBasicAuthentication(config.userName(), config.password())
                     .withJsonContent(batch.stream()
@@ -176,10 +175,10 @@ public class OpenTSDBMeterRegistry extends PushMeterRegistry {
                     .send()
                     .onSuccess(response -> logger.debug("successfully sent {} metrics to opentsdb.", batch.size()))
                     .onError(response -> logger.error("failed to send metrics to opentsdb: {}", response.body()));
-            }
-            catch (Throwable t) {
-                logger.warn("failed to send metrics to opentsdb", t);
-            }
+            });
+        }
+        catch (Throwable t) {
+            logger.warn("failed to send metrics to opentsdb", t);
         }
     }
 
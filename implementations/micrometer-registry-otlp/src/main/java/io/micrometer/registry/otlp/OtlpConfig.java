@@ -234,7 +234,7 @@ public interface OtlpConfig extends PushRegistryConfig {
      * {@link HistogramFlavor#EXPLICIT_BUCKET_HISTOGRAM} is used for the supported meters.
      * When this is set to {@link HistogramFlavor#BASE2_EXPONENTIAL_BUCKET_HISTOGRAM} and
      * {@code publishPercentileHistogram} is enabled
-     * {@link io.micrometer.registry.otlp.internal.Base2ExponentialHistogram} is used for
+     * {@link io.micrometer.core.instrument.distribution.Base2ExponentialHistogram} is used for
      * recording distributions.
      * <p>
      * Note: If specific SLO's are configured, this property is not honored and
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.registry.otlp;
+
+import io.micrometer.core.instrument.distribution.CumulativeBase2ExponentialHistogram;
+import io.opentelemetry.proto.metrics.v1.Exemplar;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class OtlpCumulativeBase2ExponentialHistogram extends CumulativeBase2ExponentialHistogram
+        implements OtlpExemplarsSupport {
+
+    private final OtlpExponentialHistogramExemplars exemplars;
+
+    OtlpCumulativeBase2ExponentialHistogram(int maxScale, int maxBucketsCount, double zeroThreshold,
+            @Nullable TimeUnit baseUnit, @Nullable OtlpExemplarSamplerFactory exemplarSamplerFactory) {
+        super(maxScale, maxBucketsCount, zeroThreshold, baseUnit);
+        this.exemplars = new OtlpExponentialHistogramExemplars(exemplarSamplerFactory, baseUnit != null);
+    }
+
+    @Override
+    protected void recordedInBucket(double value) {
+        exemplars.sample(value);
+    }
+
+    @Override
+    public List<Exemplar> exemplars() {
+        return exemplars.exemplars();
+    }
+
+    @Override
+    public void closingExemplarsRollover() {
+        exemplars.closingExemplarsRollover();
+    }
+
+}
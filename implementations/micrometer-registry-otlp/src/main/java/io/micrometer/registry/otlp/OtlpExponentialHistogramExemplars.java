@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.registry.otlp;
+
+import io.opentelemetry.proto.metrics.v1.Exemplar;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The exemplars of an OTLP exponential histogram, which has no buckets known upfront to
+ * sample them by. Shared by {@link OtlpCumulativeBase2ExponentialHistogram} and
+ * {@link OtlpDeltaBase2ExponentialHistogram}, which delegate to it.
+ */
+class OtlpExponentialHistogramExemplars implements OtlpExemplarsSupport {
+
+    private final @Nullable ExemplarSampler exemplarSampler;
+
+    OtlpExponentialHistogramExemplars(@Nullable OtlpExemplarSamplerFactory exemplarSamplerFactory,
+            boolean timeBased) {
+        this.exemplarSampler = exemplarSamplerFactory != null ? exemplarSamplerFactory.create(16, timeBased) : null;
+    }
+
+    void sample(double value) {
+        if (exemplarSampler != null) {
+            // record "raw" value (nanos in case of time-based histogram)
+            exemplarSampler.sampleMeasurement(value);
+        }
+    }
+
+    @Override
+    public List<Exemplar> exemplars() {
+        return exemplarSampler != null ? exemplarSampler.collectExemplars() : Collections.emptyList();
+    }
+
+    @Override
+    public void closingExemplarsRollover() {
+        if (exemplarSampler != null) {
+            exemplarSampler.close();
+        }
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package io.micrometer.registry.otlp;
 
+import io.micrometer.core.instrument.distribution.ExponentialHistogramSnapShot;
 import org.jspecify.annotations.Nullable;
 
 interface OtlpHistogramSupport {
@@ -171,7 +171,7 @@ public class OtlpMeterRegistry extends PushMeterRegistry {
 
     @Override
     protected void publish() {
-        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+        for (List<Meter> batch : new MeterPartition(getMetersToPublish(), config.batchSize())) {
             OtlpMetricConverter otlpMetricConverter = new OtlpMetricConverter(clock, config.step(), getBaseTimeUnit(),
                     config.aggregationTemporality(), config().namingConvention(),
                     config.publishMaxGaugeForHistograms());
@@ -445,9 +445,10 @@ public class OtlpMeterRegistry extends PushMeterRegistry {
                 }
 
                 return config.aggregationTemporality() == AggregationTemporality.DELTA
-                        ? new DeltaBase2ExponentialHistogram(config.maxScale(), getMaxBuckets(id), minimumExpectedValue,
-                                baseTimeUnit, clock, config.step().toMillis(), exemplarSamplerFactory)
-                        : new CumulativeBase2ExponentialHistogram(config.maxScale(), getMaxBuckets(id),
+                        ? new OtlpDeltaBase2ExponentialHistogram(config.maxScale(), getMaxBuckets(id),
+                                minimumExpectedValue, baseTimeUnit, clock, config.step().toMillis(),
+                                exemplarSamplerFactory)
+                        : new OtlpCumulativeBase2ExponentialHistogram(config.maxScale(), getMaxBuckets(id),
                                 minimumExpectedValue, baseTimeUnit, exemplarSamplerFactory);
             }
 
@@ -459,6 +460,12 @@ public class OtlpMeterRegistry extends PushMeterRegistry {
         }
 
         if (distributionStatisticConfig.isPublishingPercentiles()) {
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.SKETCH) {
+                return new TimeWindowSketchHistogram(clock, distributionStatisticConfig, false);
+            }
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.BASE2_EXPONENTIAL) {
+                return new TimeWindowBase2ExponentialHistogram(clock, distributionStatisticConfig, false);
+            }
             return new TimeWindowPercentileHistogram(clock, distributionStatisticConfig, false);
         }
         return NoopHistogram.INSTANCE;
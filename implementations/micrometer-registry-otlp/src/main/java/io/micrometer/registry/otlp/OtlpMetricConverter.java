@@ -18,10 +18,9 @@ package io.micrometer.registry.otlp;
 import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.config.NamingConvention;
-import io.micrometer.core.instrument.distribution.CountAtBucket;
-import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ExponentialHistogramSnapShot;
+import io.micrometer.core.instrument.distribution.HistogramSnapshotBuffer;
 import io.micrometer.core.instrument.distribution.HistogramSupport;
-import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.micrometer.core.instrument.util.TimeUtils;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.KeyValue;
@@ -59,6 +58,11 @@ class OtlpMetricConverter {
 
     private final long deltaTimeUnixNano;
 
+    /**
+     * Reused for the snapshots of all histograms converted.
+     */
+    private final HistogramSnapshotBuffer histogramSnapshot = new HistogramSnapshotBuffer();
+
     OtlpMetricConverter(Clock clock, Duration step, TimeUnit baseTimeUnit,
             AggregationTemporality aggregationTemporality, NamingConvention namingConvention,
             boolean publishMaxGaugeForHistograms) {
@@ -122,7 +126,7 @@ class OtlpMetricConverter {
     private void writeHistogramSupport(HistogramSupport histogramSupport) {
         Meter.Id id = histogramSupport.getId();
         boolean isTimeBased = isTimeBasedMeter(id);
-        HistogramSnapshot histogramSnapshot = histogramSupport.takeSnapshot();
+        histogramSupport.visitSnapshot(histogramSnapshot);
         List<Exemplar> exemplars = getExemplars(histogramSupport);
 
         Iterable<KeyValue> tags = getKeyValuesForId(id);
@@ -136,8 +140,8 @@ class OtlpMetricConverter {
         }
 
         // if percentiles configured, use summary
-        if (histogramSnapshot.percentileValues().length != 0) {
-            buildSummaryDataPoint(histogramSupport, tags, startTimeNanos, total, count, isTimeBased, histogramSnapshot);
+        if (histogramSnapshot.percentileCount() != 0) {
+            buildSummaryDataPoint(histogramSupport, tags, startTimeNanos, total, count, isTimeBased);
             return;
         }
 
@@ -149,7 +153,7 @@ class OtlpMetricConverter {
         }
         else {
             buildHistogramDataPoint(histogramSupport, tags, startTimeNanos, total, max, count, isTimeBased,
-                    histogramSnapshot, exemplars);
+                    exemplars);
         }
 
     }
@@ -205,7 +209,7 @@ class OtlpMetricConverter {
 
     private void buildHistogramDataPoint(HistogramSupport histogramSupport, Iterable<KeyValue> tags,
             long startTimeNanos, double total, double max, long count, boolean isTimeBased,
-            HistogramSnapshot histogramSnapshot, List<Exemplar> exemplars) {
+            List<Exemplar> exemplars) {
         Metric.Builder metricBuilder = getOrCreateMetricBuilder(histogramSupport.getId(), DataCase.HISTOGRAM);
         HistogramDataPoint.Builder histogramDataPoint = HistogramDataPoint.newBuilder()
             .addAllAttributes(tags)
@@ -220,16 +224,17 @@ class OtlpMetricConverter {
         }
 
         // if histogram enabled, add histogram buckets
-        for (CountAtBucket countAtBucket : histogramSnapshot.histogramCounts()) {
-            if (countAtBucket.bucket() != Double.POSITIVE_INFINITY) {
+        for (int i = 0; i < histogramSnapshot.bucketCount(); i++) {
+            double bucket = histogramSnapshot.bucket(i);
+            if (bucket != Double.POSITIVE_INFINITY) {
                 // OTLP expects explicit bounds to not contain POSITIVE_INFINITY but
                 // there should be a
                 // bucket count representing values between last bucket and
                 // POSITIVE_INFINITY.
                 histogramDataPoint
-                    .addExplicitBounds(isTimeBased ? countAtBucket.bucket(baseTimeUnit) : countAtBucket.bucket());
+                    .addExplicitBounds(isTimeBased ? TimeUtils.nanosToUnit(bucket, baseTimeUnit) : bucket);
             }
-            histogramDataPoint.addBucketCounts((long) countAtBucket.count());
+            histogramDataPoint.addBucketCounts((long) histogramSnapshot.countAtBucket(i));
         }
 
         setHistogramDataPoint(metricBuilder, histogramDataPoint.build());
@@ -268,7 +273,7 @@ class OtlpMetricConverter {
     }
 
     private void buildSummaryDataPoint(HistogramSupport histogramSupport, Iterable<KeyValue> tags, long startTimeNanos,
-            double total, long count, boolean isTimeBased, HistogramSnapshot histogramSnapshot) {
+            double total, long count, boolean isTimeBased) {
         Metric.Builder metricBuilder = getOrCreateMetricBuilder(histogramSupport.getId(), DataCase.SUMMARY);
         SummaryDataPoint.Builder summaryDataPoint = SummaryDataPoint.newBuilder()
             .addAllAttributes(tags)
@@ -276,10 +281,10 @@ class OtlpMetricConverter {
             .setTimeUnixNano(getTimeUnixNano())
             .setSum(total)
             .setCount(count);
-        for (ValueAtPercentile percentile : histogramSnapshot.percentileValues()) {
-            double value = percentile.value();
+        for (int i = 0; i < histogramSnapshot.percentileCount(); i++) {
+            double value = histogramSnapshot.percentileValue(i);
             summaryDataPoint.addQuantileValues(SummaryDataPoint.ValueAtQuantile.newBuilder()
-                .setQuantile(percentile.percentile())
+                .setQuantile(histogramSnapshot.percentile(i))
                 .setValue(isTimeBased ? TimeUtils.convert(value, TimeUnit.NANOSECONDS, baseTimeUnit) : value));
         }
 
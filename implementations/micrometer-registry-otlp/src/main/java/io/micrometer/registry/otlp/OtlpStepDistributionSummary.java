@@ -17,6 +17,8 @@ package io.micrometer.registry.otlp;
 
 import io.micrometer.core.instrument.AbstractDistributionSummary;
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.Base2ExponentialHistogram;
+import io.micrometer.core.instrument.distribution.ExponentialHistogramSnapShot;
 import io.micrometer.core.instrument.distribution.Histogram;
 import io.opentelemetry.proto.metrics.v1.Exemplar;
 import org.jspecify.annotations.Nullable;
@@ -127,7 +129,9 @@ class OtlpStepDistributionSummary extends AbstractDistributionSummary
         }
         else if (histogram instanceof Base2ExponentialHistogram) {
             histogram.close();
-            ((Base2ExponentialHistogram) histogram).closingExemplarsRollover();
+            if (histogram instanceof OtlpExemplarsSupport) {
+                ((OtlpExemplarsSupport) histogram).closingExemplarsRollover();
+            }
         }
         this.closingExemplarsRollover();
     }
@@ -17,6 +17,8 @@ package io.micrometer.registry.otlp;
 
 import io.micrometer.core.instrument.AbstractTimer;
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.Base2ExponentialHistogram;
+import io.micrometer.core.instrument.distribution.ExponentialHistogramSnapShot;
 import io.micrometer.core.instrument.distribution.Histogram;
 import io.micrometer.core.instrument.distribution.pause.PauseDetector;
 import io.micrometer.core.instrument.util.TimeUtils;
@@ -121,7 +123,9 @@ class OtlpStepTimer extends AbstractTimer implements OtlpHistogramSupport, OtlpE
         }
         else if (histogram instanceof Base2ExponentialHistogram) {
             histogram.close();
-            ((Base2ExponentialHistogram) histogram).closingExemplarsRollover();
+            if (histogram instanceof OtlpExemplarsSupport) {
+                ((OtlpExemplarsSupport) histogram).closingExemplarsRollover();
+            }
         }
         this.closingExemplarsRollover();
     }
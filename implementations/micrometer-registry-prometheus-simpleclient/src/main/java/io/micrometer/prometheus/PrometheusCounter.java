@@ -55,6 +55,7 @@ public class PrometheusCounter extends AbstractMeter implements Counter {
     @Override
     public void increment(double amount) {
         if (amount > 0) {
+            markRecorded();
             count.add(amount);
             if (exemplarSampler != null) {
                 updateExemplar(amount, exemplarSampler);
@@ -562,14 +562,16 @@ public class PrometheusMeterRegistry extends MeterRegistry {
     }
 
     private void onMeterRemoved(Meter meter) {
-        MicrometerCollector collector = collectorMap.get(getConventionName(meter.getId()));
-        if (collector != null) {
+        // Meters with the same name may be registered concurrently, so the collector is
+        // only dropped atomically with respect to applyToCollector.
+        collectorMap.computeIfPresent(getConventionName(meter.getId()), (name, collector) -> {
             collector.remove(meter.getId());
             if (collector.isEmpty()) {
-                collectorMap.remove(getConventionName(meter.getId()));
                 getPrometheusRegistry().unregister(collector);
+                return null;
             }
-        }
+            return collector;
+        });
     }
 
     private MetricMetadata getMetadata(String name, @Nullable String description) {
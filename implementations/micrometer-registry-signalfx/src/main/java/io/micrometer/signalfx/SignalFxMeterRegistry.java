@@ -113,7 +113,7 @@ public class SignalFxMeterRegistry extends StepMeterRegistry {
                 this.dataPointReceiverFactory, this.eventReceiverFactory,
                 new StaticAuthToken(this.config.accessToken()), this.onSendErrorHandlerCollection);
 
-        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+        for (List<Meter> batch : new MeterPartition(getMetersToPublish(), config.batchSize())) {
             try (AggregateMetricSender.Session session = metricSender.createSession()) {
                 // @formatter:off
                 batch.stream()
@@ -200,7 +200,7 @@ public class StackdriverMeterRegistry extends StepMeterRegistry {
         AtomicLong partitioningCounter = new AtomicLong();
         long partitionSize = Math.min(config.batchSize(), TIMESERIES_PER_REQUEST_LIMIT);
 
-        Collection<List<TimeSeries>> series = getMeters().stream()
+        Collection<List<TimeSeries>> series = getMetersToPublish().stream()
             .flatMap(meter -> meter.match(m -> createGauge(publishBatch, m), m -> createCounter(publishBatch, m),
                     m -> createTimer(publishBatch, m), m -> createSummary(publishBatch, m),
                     m -> createLongTaskTimer(publishBatch, m), m -> createTimeGauge(publishBatch, m),
@@ -43,6 +43,7 @@ public class StatsdCounter extends AbstractMeter implements Counter {
     @Override
     public void increment(double amount) {
         if (!shutdown && amount > 0) {
+            markRecorded();
             count.add(amount);
             sink.next(lineBuilder.count((long) amount));
         }
@@ -20,10 +20,23 @@ import org.jspecify.annotations.Nullable;
 
 public abstract class AbstractDistributionSummary extends AbstractMeter implements DistributionSummary {
 
+    /**
+     * Whether a subclass overrides {@link #takeSnapshot()}, in which case
+     * {@link #visitSnapshot(HistogramVisitor)} visits what it returns.
+     */
+    private static final TakeSnapshotOverrides overridesTakeSnapshot = new TakeSnapshotOverrides(
+            AbstractDistributionSummary.class);
+
     protected final Histogram histogram;
 
     private final double scale;
 
+    /**
+     * The distribution statistic configuration the registry created this summary with, for
+     * {@link MeterRegistry#estimateRetainedBytes()}. Set before the summary is published.
+     */
+    private @Nullable DistributionStatisticConfig distributionStatisticConfig;
+
     protected AbstractDistributionSummary(Id id, Clock clock, DistributionStatisticConfig distributionStatisticConfig,
             double scale, boolean supportsAggregablePercentiles) {
         this(id, scale, defaultHistogram(clock, distributionStatisticConfig, supportsAggregablePercentiles));
@@ -53,6 +66,13 @@ public abstract class AbstractDistributionSummary extends AbstractMeter implemen
     protected static Histogram defaultHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
             boolean supportsAggregablePercentiles) {
         if (distributionStatisticConfig.isPublishingPercentiles()) {
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.SKETCH) {
+                return new TimeWindowSketchHistogram(clock, distributionStatisticConfig, supportsAggregablePercentiles);
+            }
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.BASE2_EXPONENTIAL) {
+                return new TimeWindowBase2ExponentialHistogram(clock, distributionStatisticConfig,
+                        supportsAggregablePercentiles);
+            }
             // hdr-based histogram
             return new TimeWindowPercentileHistogram(clock, distributionStatisticConfig, supportsAggregablePercentiles);
         }
@@ -68,6 +88,7 @@ public abstract class AbstractDistributionSummary extends AbstractMeter implemen
     @Override
     public final void record(double amount) {
         if (amount >= 0) {
+            markRecorded();
             double scaledAmount = this.scale * amount;
             histogram.recordDouble(scaledAmount);
             recordNonNegative(scaledAmount);
@@ -81,4 +102,22 @@ public abstract class AbstractDistributionSummary extends AbstractMeter implemen
         return histogram.takeSnapshot(count(), totalAmount(), max());
     }
 
+    @Override
+    public void visitSnapshot(HistogramVisitor visitor) {
+        if (overridesTakeSnapshot.get(getClass())) {
+            takeSnapshot().visit(visitor);
+        }
+        else {
+            histogram.visitSnapshot(count(), totalAmount(), max(), visitor);
+        }
+    }
+
+    void setDistributionStatisticConfig(DistributionStatisticConfig distributionStatisticConfig) {
+        this.distributionStatisticConfig = distributionStatisticConfig;
+    }
+
+    @Nullable DistributionStatisticConfig getDistributionStatisticConfig() {
+        return distributionStatisticConfig;
+    }
+
 }
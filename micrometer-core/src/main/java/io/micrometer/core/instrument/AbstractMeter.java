@@ -28,6 +28,20 @@ public abstract class AbstractMeter implements Meter {
 
     private final Meter.Id id;
 
+    /**
+     * Whether a value was recorded since {@link #takeRecorded()} was last called. Only
+     * written when not already set, so that recording to a busy meter does not write to
+     * it.
+     */
+    private volatile boolean recorded;
+
+    /**
+     * Whether this meter was removed from its registry, or a MeterFilter was added to the
+     * registry after this meter was registered, so that registering its id again may
+     * return a different meter. Never reset.
+     */
+    private volatile boolean superseded;
+
     public AbstractMeter(Id id) {
         this.id = id;
     }
@@ -37,6 +51,41 @@ public abstract class AbstractMeter implements Meter {
         return id;
     }
 
+    /**
+     * Notes that a value was recorded to this meter, so that the meter counts as recently
+     * updated when {@link MeterRegistry.Config#maximumMetersPerName(int) the number of
+     * meters with its name is capped}. Implementations call this when recording.
+     * @since 1.17.0
+     */
+    protected final void markRecorded() {
+        if (!recorded) {
+            recorded = true;
+        }
+    }
+
+    /**
+     * @return whether a value was recorded since this method was last called
+     */
+    boolean takeRecorded() {
+        if (recorded) {
+            recorded = false;
+            return true;
+        }
+        return false;
+    }
+
+    void markSuperseded() {
+        superseded = true;
+    }
+
+    /**
+     * @return whether registering the id of this meter again may return a different
+     * meter
+     */
+    boolean isSuperseded() {
+        return superseded;
+    }
+
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     @Override
     public boolean equals(@Nullable Object o) {
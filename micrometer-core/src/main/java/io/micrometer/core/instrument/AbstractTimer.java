@@ -43,6 +43,12 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
 
     private static final Map<PauseDetector, Object> pauseDetectorCache = new ConcurrentHashMap<>();
 
+    /**
+     * Whether a subclass overrides {@link #takeSnapshot()}, in which case
+     * {@link #visitSnapshot(HistogramVisitor)} visits what it returns.
+     */
+    private static final TakeSnapshotOverrides overridesTakeSnapshot = new TakeSnapshotOverrides(AbstractTimer.class);
+
     protected final Clock clock;
 
     protected final Histogram histogram;
@@ -52,6 +58,12 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
     // Only used when pause detection is enabled
     private @Nullable Object intervalEstimator;
 
+    /**
+     * The distribution statistic configuration the registry created this timer with, for
+     * {@link MeterRegistry#estimateRetainedBytes()}. Set before the timer is published.
+     */
+    private @Nullable DistributionStatisticConfig distributionStatisticConfig;
+
     private org.LatencyUtils.@Nullable PauseDetector pauseDetector;
 
     /**
@@ -120,6 +132,13 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
     protected static Histogram defaultHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
             boolean supportsAggregablePercentiles) {
         if (distributionStatisticConfig.isPublishingPercentiles()) {
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.SKETCH) {
+                return new TimeWindowSketchHistogram(clock, distributionStatisticConfig, supportsAggregablePercentiles);
+            }
+            if (distributionStatisticConfig.getPercentileEngine() == PercentileEngine.BASE2_EXPONENTIAL) {
+                return new TimeWindowBase2ExponentialHistogram(clock, distributionStatisticConfig,
+                        supportsAggregablePercentiles);
+            }
             // hdr-based histogram
             return new TimeWindowPercentileHistogram(clock, distributionStatisticConfig, supportsAggregablePercentiles);
         }
@@ -269,6 +288,7 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
     @Override
     public final void record(long amount, TimeUnit unit) {
         if (amount >= 0) {
+            markRecorded();
             histogram.recordLong(TimeUnit.NANOSECONDS.convert(amount, unit));
             recordNonNegative(amount, unit);
 
@@ -291,6 +311,16 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
         return histogram.takeSnapshot(count(), totalTime(TimeUnit.NANOSECONDS), max(TimeUnit.NANOSECONDS));
     }
 
+    @Override
+    public void visitSnapshot(HistogramVisitor visitor) {
+        if (overridesTakeSnapshot.get(getClass())) {
+            takeSnapshot().visit(visitor);
+        }
+        else {
+            histogram.visitSnapshot(count(), totalTime(TimeUnit.NANOSECONDS), max(TimeUnit.NANOSECONDS), visitor);
+        }
+    }
+
     @Override
     public TimeUnit baseTimeUnit() {
         return baseTimeUnit;
@@ -304,4 +334,12 @@ public abstract class AbstractTimer extends AbstractMeter implements Timer {
         }
     }
 
+    void setDistributionStatisticConfig(DistributionStatisticConfig distributionStatisticConfig) {
+        this.distributionStatisticConfig = distributionStatisticConfig;
+    }
+
+    @Nullable DistributionStatisticConfig getDistributionStatisticConfig() {
+        return distributionStatisticConfig;
+    }
+
 }
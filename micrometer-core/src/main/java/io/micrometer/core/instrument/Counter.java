@@ -58,7 +58,7 @@ public interface Counter extends Meter {
     /**
      * Fluent builder for counters.
      */
-    class Builder {
+    class Builder implements Meter.RegistrableBuilder<Counter> {
 
         private final String name;
 
@@ -140,6 +140,7 @@ public interface Counter extends Meter {
          * @param registry A registry to add the counter to, if it doesn't already exist.
          * @return A new or existing counter.
          */
+        @Override
         public Counter register(MeterRegistry registry) {
             return register(registry, tags);
         }
@@ -113,7 +113,7 @@ public interface DistributionSummary extends Meter, HistogramSupport {
     /**
      * Fluent builder for distribution summaries.
      */
-    class Builder {
+    class Builder implements Meter.RegistrableBuilder<DistributionSummary> {
 
         private final String name;
 
@@ -407,6 +407,7 @@ public interface DistributionSummary extends Meter, HistogramSupport {
          * already exist.
          * @return A new or existing distribution summary.
          */
+        @Override
         public DistributionSummary register(MeterRegistry registry) {
             return register(registry, tags);
         }
@@ -46,7 +46,7 @@ public interface FunctionCounter extends Meter {
      *
      * @param <T> The type of the state object from which the counter value is extracted.
      */
-    class Builder<T> {
+    class Builder<T> implements Meter.RegistrableBuilder<FunctionCounter> {
 
         private final String name;
 
@@ -121,6 +121,7 @@ public interface FunctionCounter extends Meter {
          * already exist.
          * @return A new or existing function counter.
          */
+        @Override
         public FunctionCounter register(MeterRegistry registry) {
             return registry.more().counter(new Meter.Id(name, tags, baseUnit, description, Type.COUNTER), obj, f);
         }
@@ -73,7 +73,7 @@ public interface FunctionTimer extends Meter {
      *
      * @param <T> The type of the state object from which the timer values are extracted.
      */
-    class Builder<T> {
+    class Builder<T> implements Meter.RegistrableBuilder<FunctionTimer> {
 
         private final String name;
 
@@ -144,6 +144,7 @@ public interface FunctionTimer extends Meter {
          * exist.
          * @return A new or existing function timer.
          */
+        @Override
         public FunctionTimer register(MeterRegistry registry) {
             return registry.more()
                 .timer(new Meter.Id(name, tags, null, description, Type.TIMER), obj, countFunction, totalTimeFunction,
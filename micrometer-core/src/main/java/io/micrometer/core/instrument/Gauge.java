@@ -77,7 +77,7 @@ public interface Gauge extends Meter {
      *
      * @param <T> The type of the state object from which the gauge value is extracted.
      */
-    class Builder<T> {
+    class Builder<T> implements Meter.RegistrableBuilder<Gauge> {
 
         private final String name;
 
@@ -187,6 +187,7 @@ public interface Gauge extends Meter {
          * @param registry A registry to add the gauge to, if it doesn't already exist.
          * @return A new or existing gauge.
          */
+        @Override
         public Gauge register(MeterRegistry registry) {
             return registry.gauge(new Meter.Id(name, tags, baseUnit, description, Type.GAUGE, syntheticAssociation),
                     obj, strongReference ? new StrongReferenceGaugeFunction<>(obj, f) : f);
@@ -28,15 +28,25 @@ import static java.util.Objects.requireNonNull;
  */
 public class ImmutableTag implements Tag {
 
+    private static final WeakInterner<ImmutableTag> INTERNER = new WeakInterner<>(
+            tag -> tag.getClass() == ImmutableTag.class ? tag : new ImmutableTag(tag.key, tag.value));
+
     private final String key;
 
     private final String value;
 
+    /**
+     * Tags are hashed for every lookup of a meter, so the hash is computed once. With
+     * compressed references, it fits in the padding of the object and takes no memory.
+     */
+    private final int hashCode;
+
     public ImmutableTag(String key, String value) {
         requireNonNull(key);
         requireNonNull(value);
         this.key = key;
         this.value = value;
+        this.hashCode = 31 * key.hashCode() + value.hashCode();
     }
 
     @Override
@@ -49,21 +59,32 @@ public class ImmutableTag implements Tag {
         return value;
     }
 
+    /**
+     * Return the canonical tag equal to this one, so that equal interned tags are the
+     * same instance. Canonical tags are only weakly held and are dropped once no longer
+     * in use.
+     * @return the canonical tag equal to this one
+     * @since 1.17.0
+     * @see Tags#intern()
+     */
+    public ImmutableTag intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o)
             return true;
         if (!(o instanceof ImmutableTag))
             return false;
-        Tag that = (Tag) o;
-        return Objects.equals(key, that.getKey()) && Objects.equals(value, that.getValue());
+        ImmutableTag that = (ImmutableTag) o;
+        return hashCode == that.hashCode && Objects.equals(key, that.getKey())
+                && Objects.equals(value, that.getValue());
     }
 
     @Override
     public int hashCode() {
-        int result = key.hashCode();
-        result = 31 * result + value.hashCode();
-        return result;
+        return hashCode;
     }
 
     @Override
@@ -284,7 +284,7 @@ public interface LongTaskTimer extends Meter, HistogramSupport {
     /**
      * Fluent builder for long task timers.
      */
-    class Builder {
+    class Builder implements Meter.RegistrableBuilder<LongTaskTimer> {
 
         private static final Duration DEFAULT_MINIMUM_EXPECTED_DURATION = Duration.ofMinutes(2);
 
@@ -503,6 +503,7 @@ public interface LongTaskTimer extends Meter, HistogramSupport {
          * exist.
          * @return A new or existing long task timer.
          */
+        @Override
         public LongTaskTimer register(MeterRegistry registry) {
             return register(registry, tags);
         }
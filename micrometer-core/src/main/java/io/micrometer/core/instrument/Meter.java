@@ -196,6 +196,11 @@ public interface Meter {
 
         private final @Nullable String baseUnit;
 
+        /**
+         * Cached hash code, computed on first use.
+         */
+        private int hash;
+
         @Incubating(since = "1.1.0")
         Id(String name, Tags tags, @Nullable String baseUnit, @Nullable String description, Type type,
                 Meter.@Nullable Id syntheticAssociation) {
@@ -362,8 +367,12 @@ public interface Meter {
 
         @Override
         public int hashCode() {
-            int result = name.hashCode();
-            result = 31 * result + tags.hashCode();
+            int result = hash;
+            if (result == 0) {
+                result = name.hashCode();
+                result = 31 * result + tags.hashCode();
+                hash = result;
+            }
             return result;
         }
 
@@ -398,7 +407,7 @@ public interface Meter {
     /**
      * Fluent builder for custom meters.
      */
-    class Builder {
+    class Builder implements RegistrableBuilder<Meter> {
 
         private final String name;
 
@@ -473,12 +482,32 @@ public interface Meter {
          * exist.
          * @return A new or existing custom meter.
          */
+        @Override
         public Meter register(MeterRegistry registry) {
             return registry.register(new Meter.Id(name, tags, baseUnit, description, type), type, measurements);
         }
 
     }
 
+    /**
+     * Implemented by the builders of all meter types, so that meters of different types
+     * can be registered together with {@link MeterRegistry#registerAll(java.util.Collection)}.
+     *
+     * @param <M> type of the meter built
+     * @since 1.17.0
+     */
+    interface RegistrableBuilder<M extends Meter> {
+
+        /**
+         * Add the meter to a single registry, or return an existing meter in that
+         * registry.
+         * @param registry A registry to add the meter to, if it doesn't already exist.
+         * @return A new or existing meter.
+         */
+        M register(MeterRegistry registry);
+
+    }
+
     /**
      * Convenience interface to create new meters from tags based on a common
      * "template"/builder. See usage in Meter implementations, e.g.: {@code Timer},
@@ -518,6 +547,18 @@ public interface Meter {
             return withTags(Tags.of(key, value));
         }
 
+        /**
+         * Returns a provider that looks up Meters by the values of the given tag keys,
+         * caching them so that repeated lookups with the same values are allocation
+         * free. Meant to be created once per call site.
+         * @param tagKeys the keys of the tags whose values will be provided on lookup
+         * @return A provider of Meters by tag values
+         * @since 1.17.0
+         */
+        default TagValuesMeterProvider<T> withTagKeys(String... tagKeys) {
+            return new TagValuesMeterProvider<>(this, tagKeys, TagValuesMeterProvider.DEFAULT_MAXIMUM_SIZE);
+        }
+
     }
 
     default void close() {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of meters with the same name in a registry by removing the least
+ * recently updated ones when a registration exceeds the cap.
+ * <p>
+ * Meters extending {@link AbstractMeter} {@link AbstractMeter#markRecorded() mark}
+ * themselves when recorded to. Each time meters have to be evicted, the meters with the
+ * name that were marked since the previous eviction are considered updated at this
+ * eviction, and their marks are cleared. Meters that were never updated go first, such
+ * as gauges and other meters that are not recorded to, then those updated the longest
+ * ago, in the order they were registered for equal recency.
+ */
+final class MeterCardinalityLimiter {
+
+    private final MeterRegistry registry;
+
+    private volatile int maximumMetersPerName;
+
+    private final Map<Meter, Recency> recencies = new ConcurrentHashMap<>();
+
+    private final AtomicLong registrations = new AtomicLong();
+
+    /**
+     * Number of evictions so far, the clock that update recency is measured with.
+     * Guarded by this.
+     */
+    private long evictions;
+
+    MeterCardinalityLimiter(MeterRegistry registry, int maximumMetersPerName) {
+        this.registry = registry;
+        maximumMetersPerName(maximumMetersPerName);
+    }
+
+    /**
+     * Changes the cap, keeping what is known of the recency of the meters. Takes effect
+     * at the next registration of a meter.
+     * @param maximumMetersPerName The maximum number of meters with the same name.
+     */
+    void maximumMetersPerName(int maximumMetersPerName) {
+        if (maximumMetersPerName < 1) {
+            throw new IllegalArgumentException("maximumMetersPerName must be positive");
+        }
+        this.maximumMetersPerName = maximumMetersPerName;
+    }
+
+    /**
+     * Track a newly registered meter and evict meters with the same name if there are now
+     * too many.
+     * @param meter The meter that has just been registered.
+     */
+    void onMeterAdded(Meter meter) {
+        recencies.put(meter, new Recency(meter, registrations.getAndIncrement()));
+        if (registry.getMeterIndex().withName(meter.getId().getName()).size() > maximumMetersPerName) {
+            evict(meter);
+        }
+    }
+
+    void onMeterRemoved(Meter meter) {
+        recencies.remove(meter);
+    }
+
+    private synchronized void evict(Meter added) {
+        int maximum = maximumMetersPerName;
+        List<Meter> meters = new ArrayList<>(registry.getMeterIndex().withName(added.getId().getName()));
+        if (meters.size() <= maximum) {
+            return;
+        }
+        long eviction = ++evictions;
+        List<Recency> candidates = new ArrayList<>(meters.size());
+        for (Meter meter : meters) {
+            // Synthetic meters are removed along with the meter they belong to.
+            if (meter == added || meter.getId().syntheticAssociation() != null) {
+                continue;
+            }
+            // meters registered before the cap was configured count as the oldest
+            Recency recency = recencies.computeIfAbsent(meter, m -> new Recency(m, -1));
+            if (meter instanceof AbstractMeter && ((AbstractMeter) meter).takeRecorded()) {
+                recency.lastUpdated = eviction;
+            }
+            candidates.add(recency);
+        }
+        candidates.sort(Comparator.comparingLong((Recency recency) -> recency.lastUpdated)
+            .thenComparingLong(recency -> recency.registration));
+
+        int toEvict = Math.min(candidates.size(), meters.size() - maximum);
+        for (int i = 0; i < toEvict; i++) {
+            registry.remove(candidates.get(i).meter);
+        }
+    }
+
+    private static final class Recency {
+
+        private final Meter meter;
+
+        private final long registration;
+
+        /**
+         * Eviction at which the meter was last seen to have been recorded to, or 0 if it
+         * has not been since it was registered. Guarded by the limiter.
+         */
+        private long lastUpdated;
+
+        Recency(Meter meter, long registration) {
+            this.meter = meter;
+            this.registration = registration;
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link MeterFilter MeterFilters} of a registry, in the order they were added,
+ * compiled into a dispatch table indexed by meter name. For each name, only the filters
+ * that {@link MeterFilter#appliesTo(String) apply to it} are evaluated, so filters
+ * scoped to other name prefixes cost nothing once the name has been seen. Immutable
+ * apart from the table; adding a filter creates a new chain.
+ */
+final class MeterFilterChain {
+
+    static final MeterFilterChain EMPTY = new MeterFilterChain(new MeterFilter[0]);
+
+    /**
+     * Beyond this many distinct names, applicable filters are computed on every lookup
+     * rather than cached, to bound memory when meter names are generated dynamically.
+     */
+    private static final int MAX_CACHED_NAMES = 10_000;
+
+    private static final int[] NO_FILTERS = new int[0];
+
+    private final MeterFilter[] filters;
+
+    /**
+     * Indices into {@link #filters} of the filters that apply to a meter name, in order.
+     */
+    private final Map<String, int[]> applicableFiltersByName = new ConcurrentHashMap<>();
+
+    private MeterFilterChain(MeterFilter[] filters) {
+        this.filters = filters;
+    }
+
+    MeterFilterChain and(MeterFilter filter) {
+        MeterFilter[] newFilters = Arrays.copyOf(filters, filters.length + 1);
+        newFilters[filters.length] = filter;
+        return new MeterFilterChain(newFilters);
+    }
+
+    /**
+     * The number of filters, which grows by one with each chain created by
+     * {@link #and(MeterFilter)}.
+     */
+    int size() {
+        return filters.length;
+    }
+
+    Meter.Id map(Meter.Id id) {
+        Meter.Id mappedId = id;
+        int[] applicable = applicableFilters(mappedId.getName());
+        for (int i = 0; i < applicable.length; i++) {
+            String name = mappedId.getName();
+            mappedId = filters[applicable[i]].map(mappedId);
+            if (!name.equals(mappedId.getName())) {
+                // the remaining filters are the ones that apply to the new name
+                int current = applicable[i];
+                applicable = applicableFilters(mappedId.getName());
+                i = firstAfter(applicable, current) - 1;
+            }
+        }
+        return mappedId;
+    }
+
+    boolean accept(Meter.Id id) {
+        for (int index : applicableFilters(id.getName())) {
+            MeterFilterReply reply = filters[index].accept(id);
+            if (reply == MeterFilterReply.DENY) {
+                return false;
+            }
+            else if (reply == MeterFilterReply.ACCEPT) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        for (int index : applicableFilters(id.getName())) {
+            DistributionStatisticConfig filteredConfig = filters[index].configure(id, config);
+            if (filteredConfig != null) {
+                config = filteredConfig;
+            }
+        }
+        return config;
+    }
+
+    private int[] applicableFilters(String name) {
+        if (filters.length == 0) {
+            return NO_FILTERS;
+        }
+        int[] applicable = applicableFiltersByName.get(name);
+        if (applicable == null) {
+            applicable = computeApplicableFilters(name);
+            if (applicableFiltersByName.size() < MAX_CACHED_NAMES) {
+                applicableFiltersByName.put(name, applicable);
+            }
+        }
+        return applicable;
+    }
+
+    private int[] computeApplicableFilters(String name) {
+        int[] applicable = new int[filters.length];
+        int count = 0;
+        for (int i = 0; i < filters.length; i++) {
+            if (filters[i].appliesTo(name)) {
+                applicable[count++] = i;
+            }
+        }
+        return count == 0 ? NO_FILTERS : Arrays.copyOf(applicable, count);
+    }
+
+    private static int firstAfter(int[] indices, int index) {
+        int i = 0;
+        while (i < indices.length && indices[i] <= index) {
+            i++;
+        }
+        return i;
+    }
+
+}
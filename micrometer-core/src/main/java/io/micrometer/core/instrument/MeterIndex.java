@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import io.micrometer.core.annotation.Incubating;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * An index of the meters of a {@link MeterRegistry} by name, name prefix, tag key and
+ * tag, maintained by the registry as meters are added and removed. Searches use it to
+ * look at candidate meters only, rather than every meter in the registry. The registry
+ * only builds its index once it is first asked for it, so registries that are never
+ * searched do not pay for it.
+ * <p>
+ * Lookups return live, unmodifiable views that reflect concurrent registrations and
+ * removals in a weakly consistent way, like iterators of concurrent collections.
+ *
+ * @since 1.17.0
+ * @see io.micrometer.core.instrument.search.Search
+ */
+@Incubating(since = "1.17.0")
+public final class MeterIndex {
+
+    private final Map<String, Set<Meter>> byName = new ConcurrentHashMap<>();
+
+    /**
+     * Names of {@link #byName}, sorted so that all names with a given prefix are
+     * adjacent.
+     */
+    private final NavigableSet<String> sortedNames = new ConcurrentSkipListSet<>();
+
+    private final Map<String, Set<Meter>> byTagKey = new ConcurrentHashMap<>();
+
+    private final Map<Tag, Set<Meter>> byTag = new ConcurrentHashMap<>();
+
+    MeterIndex() {
+    }
+
+    void add(Meter meter) {
+        Meter.Id id = meter.getId();
+        String name = id.getName();
+        Set<Meter> meters;
+        do {
+            meters = byName.get(name);
+            if (meters == null) {
+                meters = byName.computeIfAbsent(name, n -> {
+                    sortedNames.add(n);
+                    return ConcurrentHashMap.newKeySet();
+                });
+            }
+            meters.add(meter);
+        }
+        while (byName.get(name) != meters);
+        for (Tag tag : id.getTagsAsIterable()) {
+            addTo(byTagKey, tag.getKey(), meter);
+            addTo(byTag, immutable(tag), meter);
+        }
+    }
+
+    void remove(Meter meter) {
+        Meter.Id id = meter.getId();
+        byName.computeIfPresent(id.getName(), (name, meters) -> {
+            meters.remove(meter);
+            if (meters.isEmpty()) {
+                sortedNames.remove(name);
+                return null;
+            }
+            return meters;
+        });
+        for (Tag tag : id.getTagsAsIterable()) {
+            removeFrom(byTagKey, tag.getKey(), meter);
+            removeFrom(byTag, immutable(tag), meter);
+        }
+    }
+
+    /**
+     * @param name The exact name of the meters.
+     * @return The meters with the given name.
+     */
+    public Collection<Meter> withName(String name) {
+        return view(byName.get(name));
+    }
+
+    /**
+     * @param prefix The prefix of the names of the meters.
+     * @return The meters whose name starts with the given prefix.
+     */
+    public Collection<Meter> withNamePrefix(String prefix) {
+        List<Meter> meters = new ArrayList<>();
+        for (String name : sortedNames.tailSet(prefix, true)) {
+            if (!name.startsWith(prefix)) {
+                break;
+            }
+            meters.addAll(withName(name));
+        }
+        return Collections.unmodifiableList(meters);
+    }
+
+    /**
+     * @param tagKey The tag key.
+     * @return The meters that have a tag with the given key, whatever its value.
+     */
+    public Collection<Meter> withTagKey(String tagKey) {
+        return view(byTagKey.get(tagKey));
+    }
+
+    /**
+     * @param tag The tag.
+     * @return The meters that have the given tag.
+     */
+    public Collection<Meter> withTag(Tag tag) {
+        return view(byTag.get(immutable(tag)));
+    }
+
+    /**
+     * Adds the meter to the set of the given key without locking the entry in the common
+     * case, so that registering meters with a tag shared by many meters does not contend
+     * on that tag. Retries if the set was concurrently dropped for being empty.
+     */
+    private static <K> void addTo(Map<K, Set<Meter>> index, K key, Meter meter) {
+        Set<Meter> meters;
+        do {
+            meters = index.get(key);
+            if (meters == null) {
+                meters = index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+            }
+            meters.add(meter);
+        }
+        while (index.get(key) != meters);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Meter>> index, K key, Meter meter) {
+        index.computeIfPresent(key, (k, meters) -> {
+            meters.remove(meter);
+            return meters.isEmpty() ? null : meters;
+        });
+    }
+
+    private static Tag immutable(Tag tag) {
+        return tag instanceof ImmutableTag ? tag : Tag.of(tag.getKey(), tag.getValue());
+    }
+
+    private static Collection<Meter> view(@Nullable Set<Meter> meters) {
+        return meters == null ? Collections.emptySet() : Collections.unmodifiableSet(meters);
+    }
+
+}
@@ -21,7 +21,6 @@ import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.micrometer.common.util.internal.logging.WarnThenDebugLogger;
 import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.config.MeterFilter;
-import io.micrometer.core.instrument.config.MeterFilterReply;
 import io.micrometer.core.instrument.config.NamingConvention;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.core.instrument.distribution.pause.NoPauseDetector;
@@ -39,8 +38,10 @@ import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.*;
 import java.util.stream.Collectors;
 
@@ -85,11 +86,13 @@ public abstract class MeterRegistry {
 
     protected final Clock clock;
 
-    private final Object meterMapLock = new Object();
+    private volatile MeterFilterChain filters = MeterFilterChain.EMPTY;
 
-    private volatile MeterFilter[] filters = new MeterFilter[0];
-
-    private final List<Consumer<Meter>> meterAddedListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Replaced rather than modified, so that a registration reads the listeners once and
+     * calls exactly the listeners it took {@link #meterAddedListenersLock} for.
+     */
+    private volatile List<Consumer<Meter>> meterAddedListeners = Collections.emptyList();
 
     private final List<Consumer<Meter>> meterRemovedListeners = new CopyOnWriteArrayList<>();
 
@@ -100,40 +103,81 @@ public abstract class MeterRegistry {
     private final More more = new More();
 
     /**
-     * Even though writes are guarded by meterMapLock, iterators across value space are
-     * supported. Hence, we use CHM to support that iteration without
-     * ConcurrentModificationException risk.
+     * Writes happen while holding the {@link MeterIdClaim} of the mapped id, iterators
+     * across value space are supported. Hence, we use CHM to support that iteration
+     * without ConcurrentModificationException risk.
      */
     private final Map<Meter.Id, Meter> meterMap = new ConcurrentHashMap<>();
 
     /**
-     * write/remove guarded by meterMapLock, read in
+     * Registration and removal of a given mapped id are serialized by claiming the id in
+     * this map rather than by a registry-wide lock, so that meters with different ids can
+     * be registered in parallel. Waiters block only on the claim of the id they need.
+     */
+    private final Map<Meter.Id, MeterIdClaim> meterIdClaims = new ConcurrentHashMap<>();
+
+    /**
+     * write/remove happen while holding the {@link MeterIdClaim} of the mapped id, read
+     * in
      * {@link #getOrCreateMeter(DistributionStatisticConfig, PauseDetector, NewMeterSupplier, Meter.Id, Function)}
      * is unguarded
      */
-    private final Map<Meter.Id, Meter> preFilterIdToMeterMap = new HashMap<>();
+    private final Map<Meter.Id, Meter> preFilterIdToMeterMap = new ConcurrentHashMap<>();
 
     /**
      * For reverse looking up pre-filter ID in {@link #preFilterIdToMeterMap} from the
-     * Meter being removed in {@link #remove(Meter.Id)}. Guarded by the
-     * {@link #meterMapLock}.
+     * Meter being removed in {@link #remove(Meter.Id)}. Written while holding the
+     * {@link MeterIdClaim} of the mapped id.
+     */
+    private final Map<Meter, Meter.Id> meterToPreFilterIdMap = new ConcurrentHashMap<>();
+
+    /**
+     * Only needed when MeterFilter configured after Meters registered. Added to in
+     * {@link Config#meterFilter(MeterFilter)} and when a registration raced with a filter
+     * being added, removed in {@link #unmarkStaleId(Meter.Id, MeterFilterChain)} and other
+     * operations. Maps each stale id to the size of the smallest filter chain that a
+     * registration must have mapped it with to clear the mark, so that a registration
+     * that mapped with older filters cannot clear a mark set concurrently.
+     */
+    private final Map<Meter.Id, Integer> stalePreFilterIds = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes the registrations that call {@link #meterAddedListeners}, which may
+     * register other meters, and batches of {@link #registerAll(Collection)}, which claim
+     * several ids: two such registrations claiming ids in opposite orders would otherwise
+     * deadlock. Always taken before claiming an id, never while holding a claim.
      */
-    private final Map<Meter, Meter.Id> meterToPreFilterIdMap = new HashMap<>();
+    private final ReentrantLock meterAddedListenersLock = new ReentrantLock();
 
     /**
-     * Only needed when MeterFilter configured after Meters registered. Write/remove
-     * guarded by meterMapLock, remove in {@link #unmarkStaleId(Meter.Id)} and other
-     * operations unguarded
+     * The meter added listeners read by the outermost registration in progress on each
+     * thread. Meters registered while creating the meter or notifying the listeners are
+     * part of that registration and use the same listeners, so that a thread holding a
+     * claim never has to take {@link #meterAddedListenersLock}.
      */
-    private final Set<Meter.Id> stalePreFilterIds = new HashSet<>();
+    private final ThreadLocal<List<Consumer<Meter>>> registrationListeners = new ThreadLocal<>();
+
+    /**
+     * The batch being registered by {@link #registerAll(Collection)}, if any. Only
+     * written while holding {@link #meterAddedListenersLock}.
+     */
+    private volatile @Nullable RegistrationBatch registrationBatch;
 
     /**
      * Map of meter id whose associated meter contains synthetic counterparts to those
      * synthetic ids. We maintain these associations so that when we remove a meter with
      * synthetics, they can removed as well.
      */
-    // Guarded by meterMapLock for both reads and writes
-    private final Map<Meter.Id, Set<Meter.Id>> syntheticAssociations = new HashMap<>();
+    private final Map<Meter.Id, Set<Meter.Id>> syntheticAssociations = new ConcurrentHashMap<>();
+
+    /**
+     * Index of the meters of {@link #meterMap} by name and tags, built on the first call
+     * to {@link #getMeterIndex()} and then updated while holding the
+     * {@link MeterIdClaim} of the mapped id.
+     */
+    private volatile @Nullable MeterIndex meterIndex;
+
+    private final Object meterIndexLock = new Object();
 
     private final AtomicBoolean closed = new AtomicBoolean();
 
@@ -141,6 +185,8 @@ public abstract class MeterRegistry {
 
     private @Nullable HighCardinalityTagsDetector highCardinalityTagsDetector;
 
+    private volatile @Nullable MeterCardinalityLimiter cardinalityLimiter;
+
     /**
      * We'll use snake case as a general-purpose default for registries because it is the
      * most likely to result in a portable name. Camel casing is also perfectly
@@ -407,6 +453,88 @@ public abstract class MeterRegistry {
                 (registry, mappedId) -> registry.newMeter(mappedId, type, measurements), NoopMeter::new);
     }
 
+    /**
+     * Register the meters of all the given builders, e.g. a binder's meters at startup.
+     * Returns the same meters as calling {@code register(this)} on each builder in
+     * iteration order, but takes the registration lock once for the whole batch: the
+     * meters are created first, then the {@link Config#onMeterAdded(Consumer) meter
+     * added listeners} are notified of all of them and they are made available together.
+     * Until then, registrations of the same ids on other threads wait for the batch. If a
+     * builder fails, e.g. because a meter of another type is registered with the same
+     * id, the meters of the builders before it are still registered and the exception
+     * is rethrown.
+     * @param builders builders of the meters to register
+     * @return the new or existing meter of each builder, in iteration order
+     * @since 1.17.0
+     */
+    public List<Meter> registerAll(Collection<? extends Meter.RegistrableBuilder<?>> builders) {
+        List<Meter> meters = new ArrayList<>(builders.size());
+        RegistrationBatch enclosing = registrationBatch;
+        if ((enclosing != null && enclosing.owner == Thread.currentThread())
+                || (registrationListeners.get() != null && !meterAddedListenersLock.isHeldByCurrentThread())) {
+            // called by a meter added listener while publishing a batch, or while
+            // creating a meter without the lock, which must not be taken under a claim
+            for (Meter.RegistrableBuilder<?> builder : builders) {
+                meters.add(builder.register(this));
+            }
+            return meters;
+        }
+
+        RegistrationBatch batch = new RegistrationBatch();
+        List<Meter> published = new ArrayList<>(builders.size());
+        RuntimeException failure = null;
+        // Taken even without listeners, so that only one thread at a time holds the
+        // claims of several ids.
+        meterAddedListenersLock.lock();
+        try {
+            registrationBatch = batch;
+            try {
+                for (Meter.RegistrableBuilder<?> builder : builders) {
+                    meters.add(builder.register(this));
+                }
+            }
+            catch (RuntimeException e) {
+                // Publish the meters created so far, as registering the builders one by
+                // one would have, since creating them may have had side effects.
+                failure = e;
+            }
+            batch.publishing = true;
+            List<Consumer<Meter>> listeners = meterAddedListeners;
+            for (PendingMeter pending : batch.pending.values()) {
+                try {
+                    publish(pending.originalId, pending.mappedId, pending.meter, pending.filtersAtMapping, listeners);
+                    published.add(pending.meter);
+                }
+                catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        finally {
+            registrationBatch = null;
+            for (PendingMeter pending : batch.pending.values()) {
+                release(pending.mappedId, pending.claim);
+            }
+            meterAddedListenersLock.unlock();
+        }
+
+        MeterCardinalityLimiter limiter = cardinalityLimiter;
+        if (limiter != null) {
+            for (Meter meter : published) {
+                limiter.onMeterAdded(meter);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return meters;
+    }
+
     /**
      * Get currently registered meters.
      * @return An unmodifiable copy of registered meters.
@@ -429,6 +557,61 @@ public abstract class MeterRegistry {
         meterMap.values().forEach(consumer);
     }
 
+    /**
+     * Estimate the heap retained by the meters currently registered, including the
+     * registry's bookkeeping for each of them, to help size the heap of applications
+     * with many meters. This is a rough estimate from the type, tags and distribution
+     * statistic configuration of each meter rather than a measurement.
+     * @return Estimated number of bytes retained by the registered meters.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    public long estimateRetainedBytes() {
+        boolean indexed = meterIndex != null;
+        long bytes = 0;
+        for (Meter meter : meterMap.values()) {
+            bytes += MeterFootprint.estimateRetainedBytes(meter, indexed);
+        }
+        return bytes;
+    }
+
+    /**
+     * Index of the currently registered meters by name and tags, which {@link Search} and
+     * {@link RequiredSearch} use to avoid iterating over every meter. The index is built
+     * on the first call and maintained from then on.
+     * @return The index of the meters of this registry.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    public MeterIndex getMeterIndex() {
+        MeterIndex index = meterIndex;
+        if (index == null) {
+            synchronized (meterIndexLock) {
+                index = meterIndex;
+                if (index == null) {
+                    index = buildMeterIndex();
+                }
+            }
+        }
+        return index;
+    }
+
+    private MeterIndex buildMeterIndex() {
+        MeterIndex index = new MeterIndex();
+        // Publish first, so that meters registered from now on index themselves, then add
+        // the meters registered before. A meter removed while being added is dropped again
+        // here, since its removal may have happened before it was added.
+        meterIndex = index;
+        for (Map.Entry<Meter.Id, Meter> entry : meterMap.entrySet()) {
+            Meter meter = entry.getValue();
+            index.add(meter);
+            if (meterMap.get(entry.getKey()) != meter) {
+                index.remove(meter);
+            }
+        }
+        return index;
+    }
+
     /**
      * @return A configuration object used to change the behavior of this registry.
      */
@@ -671,18 +854,14 @@ public abstract class MeterRegistry {
         if (m != null && !isStaleId(id)) {
             return m.getId();
         }
-        return mapId(id);
+        return mapId(id, filters);
     }
 
-    private Meter.Id mapId(Meter.Id id) {
+    private Meter.Id mapId(Meter.Id id, MeterFilterChain filters) {
         if (id.syntheticAssociation() != null) {
             return id;
         }
-        Meter.Id mappedId = id;
-        for (MeterFilter filter : filters) {
-            mappedId = filter.map(mappedId);
-        }
-        return mappedId;
+        return filters.map(id);
     }
 
     private Meter getOrCreateMeter(@Nullable DistributionStatisticConfig config,
@@ -695,15 +874,16 @@ public abstract class MeterRegistry {
             return m;
         }
 
-        Meter.Id mappedId = mapId(originalId);
+        // Map, accept and configure against the same filters so that a filter added
+        // concurrently can be detected once the meter has been registered.
+        MeterFilterChain filtersAtMapping = filters;
+        Meter.Id mappedId = mapId(originalId, filtersAtMapping);
         m = meterMap.get(mappedId);
 
         if (m != null) {
             // If the mapping exists and the meter is marked stale, then this meter is no
             // longer stale.
-            if (isStaleId(originalId)) {
-                unmarkStaleId(originalId);
-            }
+            unmarkStaleId(originalId, filtersAtMapping);
             checkAndWarnAboutDoubleRegistration(m);
         }
         else {
@@ -711,58 +891,219 @@ public abstract class MeterRegistry {
                 return noopBuilder.apply(mappedId);
             }
 
-            synchronized (meterMapLock) {
-                m = meterMap.get(mappedId);
-
-                if (m == null) {
-                    if (!accept(mappedId)) {
-                        return noopBuilder.apply(mappedId);
-                    }
+            RegistrationBatch batch = registrationBatch;
+            if (batch != null && batch.owner == Thread.currentThread()) {
+                PendingMeter pending = batch.pending.get(mappedId);
+                if (pending != null) {
+                    return pending.meter;
+                }
+                if (!batch.publishing) {
+                    return createPendingMeter(batch, config, specificPauseDetector, meterSupplier, originalId,
+                            filtersAtMapping, mappedId, noopBuilder);
+                }
+            }
 
-                    if (config != null) {
-                        for (MeterFilter filter : filters) {
-                            DistributionStatisticConfig filteredConfig = filter.configure(mappedId, config);
-                            if (filteredConfig != null) {
-                                config = filteredConfig;
-                            }
+            boolean created = false;
+            List<Consumer<Meter>> inheritedListeners = registrationListeners.get();
+            boolean locked = false;
+            try {
+                while (true) {
+                    MeterIdClaim claim = claim(mappedId);
+                    try {
+                        m = meterMap.get(mappedId);
+                        if (m != null) {
+                            break;
+                        }
+                        if (!filtersAtMapping.accept(mappedId)) {
+                            return noopBuilder.apply(mappedId);
+                        }
+                        List<Consumer<Meter>> listeners = inheritedListeners != null ? inheritedListeners
+                                : meterAddedListeners;
+                        if (listeners.isEmpty() || meterAddedListenersLock.isHeldByCurrentThread()) {
+                            m = createAndPublish(config, specificPauseDetector, meterSupplier, originalId,
+                                    filtersAtMapping, mappedId, listeners, inheritedListeners == null);
+                            created = true;
+                            break;
                         }
-                        config = config.merge(defaultHistogramConfig());
-                    }
-
-                    m = meterSupplier.create(this, mappedId, config, specificPauseDetector);
-
-                    Meter.Id synAssoc = mappedId.syntheticAssociation();
-                    if (synAssoc != null) {
-                        Set<Meter.Id> associations = syntheticAssociations.computeIfAbsent(synAssoc,
-                                k -> new HashSet<>());
-                        associations.add(mappedId);
                     }
-
-                    for (Consumer<Meter> onAdd : meterAddedListeners) {
-                        onAdd.accept(m);
+                    finally {
+                        release(mappedId, claim);
                     }
-                    meterMap.put(mappedId, m);
-                    preFilterIdToMeterMap.put(originalId, m);
-                    meterToPreFilterIdMap.put(m, originalId);
-                    unmarkStaleId(originalId);
+                    // The listeners may register other meters: claim again under the lock.
+                    meterAddedListenersLock.lock();
+                    locked = true;
+                }
+            }
+            finally {
+                if (locked) {
+                    meterAddedListenersLock.unlock();
                 }
             }
+
+            MeterCardinalityLimiter limiter = cardinalityLimiter;
+            if (created && limiter != null) {
+                // outside of the claim, since evicting claims the ids of other meters
+                limiter.onMeterAdded(m);
+            }
         }
 
         return m;
     }
 
+    private Meter newMeter(@Nullable DistributionStatisticConfig config, @Nullable PauseDetector specificPauseDetector,
+            NewMeterSupplier<? extends Meter> meterSupplier, MeterFilterChain filtersAtMapping, Meter.Id mappedId) {
+        if (config != null) {
+            config = filtersAtMapping.configure(mappedId, config).merge(defaultHistogramConfig());
+        }
+        Meter m = meterSupplier.create(this, mappedId, config, specificPauseDetector);
+        // For estimateRetainedBytes()
+        if (config != null && m instanceof AbstractTimer) {
+            ((AbstractTimer) m).setDistributionStatisticConfig(config);
+        }
+        else if (config != null && m instanceof AbstractDistributionSummary) {
+            ((AbstractDistributionSummary) m).setDistributionStatisticConfig(config);
+        }
+        return m;
+    }
+
+    private Meter createAndPublish(@Nullable DistributionStatisticConfig config,
+            @Nullable PauseDetector specificPauseDetector, NewMeterSupplier<? extends Meter> meterSupplier,
+            Meter.Id originalId, MeterFilterChain filtersAtMapping, Meter.Id mappedId,
+            List<Consumer<Meter>> listeners, boolean outermost) {
+        if (outermost) {
+            registrationListeners.set(listeners);
+        }
+        try {
+            Meter m = newMeter(config, specificPauseDetector, meterSupplier, filtersAtMapping, mappedId);
+            publish(originalId, mappedId, m, filtersAtMapping, listeners);
+            return m;
+        }
+        finally {
+            if (outermost) {
+                registrationListeners.remove();
+            }
+        }
+    }
+
+    /**
+     * Notifies the given meter added listeners of a newly created meter and makes it
+     * available for lookups, while holding the {@link MeterIdClaim} of its mapped id.
+     */
+    private void publish(Meter.Id originalId, Meter.Id mappedId, Meter m, MeterFilterChain filtersAtMapping,
+            List<Consumer<Meter>> listeners) {
+        Meter.Id synAssoc = mappedId.syntheticAssociation();
+        if (synAssoc != null) {
+            Set<Meter.Id> associations = syntheticAssociations.computeIfAbsent(synAssoc,
+                    k -> ConcurrentHashMap.newKeySet());
+            associations.add(mappedId);
+        }
+
+        for (Consumer<Meter> onAdd : listeners) {
+            onAdd.accept(m);
+        }
+        // The reverse mapping must exist before the meter becomes removable through
+        // meterMap.
+        preFilterIdToMeterMap.put(originalId, m);
+        meterToPreFilterIdMap.put(m, originalId);
+        meterMap.put(mappedId, m);
+        MeterIndex index = meterIndex;
+        if (index != null) {
+            index.add(m);
+        }
+        if (filtersAtMapping != filters) {
+            // A MeterFilter was added while this meter was being registered.
+            stalePreFilterIds.merge(originalId, filtersAtMapping.size() + 1, Math::max);
+            markSuperseded(m);
+        }
+        else {
+            unmarkStaleId(originalId, filtersAtMapping);
+        }
+    }
+
+    /**
+     * Creates the meter of a mapped id for the batch, keeping the claim of the id until
+     * the batch is published.
+     */
+    private Meter createPendingMeter(RegistrationBatch batch, @Nullable DistributionStatisticConfig config,
+            @Nullable PauseDetector specificPauseDetector, NewMeterSupplier<? extends Meter> meterSupplier,
+            Meter.Id originalId, MeterFilterChain filtersAtMapping, Meter.Id mappedId,
+            Function<Meter.Id, ? extends Meter> noopBuilder) {
+        MeterIdClaim claim = claim(mappedId);
+        boolean pending = false;
+        try {
+            Meter m = meterMap.get(mappedId);
+            if (m != null) {
+                checkAndWarnAboutDoubleRegistration(m);
+                return m;
+            }
+            if (!filtersAtMapping.accept(mappedId)) {
+                return noopBuilder.apply(mappedId);
+            }
+            m = newMeter(config, specificPauseDetector, meterSupplier, filtersAtMapping, mappedId);
+            batch.pending.put(mappedId, new PendingMeter(originalId, mappedId, m, filtersAtMapping, claim));
+            pending = true;
+            return m;
+        }
+        finally {
+            if (!pending) {
+                release(mappedId, claim);
+            }
+        }
+    }
+
+    /**
+     * Claims the given mapped id for registration or removal, waiting for any other
+     * thread currently holding a claim on the same id. Claims are reentrant: if the
+     * current thread already holds the claim, {@code null} is returned.
+     * @param mappedId id after any filter mapping has been applied
+     * @return the claim to pass to {@link #release(Meter.Id, MeterIdClaim)}
+     */
+    private @Nullable MeterIdClaim claim(Meter.Id mappedId) {
+        MeterIdClaim claim = new MeterIdClaim();
+        while (true) {
+            MeterIdClaim existing = meterIdClaims.putIfAbsent(mappedId, claim);
+            if (existing == null) {
+                return claim;
+            }
+            if (existing.owner == Thread.currentThread()) {
+                return null;
+            }
+            existing.awaitRelease();
+        }
+    }
+
+    private void release(Meter.Id mappedId, @Nullable MeterIdClaim claim) {
+        if (claim != null) {
+            meterIdClaims.remove(mappedId, claim);
+            claim.released.countDown();
+        }
+    }
+
+    /**
+     * Lets {@link TagValuesMeterProvider} drop a cached meter that registering its id
+     * again may no longer return.
+     */
+    private static void markSuperseded(Meter meter) {
+        if (meter instanceof AbstractMeter) {
+            ((AbstractMeter) meter).markSuperseded();
+        }
+    }
+
     private boolean isStaleId(Meter.Id originalId) {
-        return !stalePreFilterIds.isEmpty() && stalePreFilterIds.contains(originalId);
+        return !stalePreFilterIds.isEmpty() && stalePreFilterIds.containsKey(originalId);
     }
 
     /**
-     * Marks the ID as no longer stale if it is stale. Otherwise, does nothing.
+     * Marks the ID as no longer stale if it was marked before the given filters were
+     * added. Otherwise, does nothing.
      * @param originalId id before any filter mapping has been applied
-     * @return {@code true} if the id is stale
+     * @param filtersAtMapping the filters the id was mapped with
      */
-    private boolean unmarkStaleId(Meter.Id originalId) {
-        return !stalePreFilterIds.isEmpty() && stalePreFilterIds.remove(originalId);
+    private void unmarkStaleId(Meter.Id originalId, MeterFilterChain filtersAtMapping) {
+        if (!stalePreFilterIds.isEmpty()) {
+            stalePreFilterIds.computeIfPresent(originalId,
+                    (id, clearedBy) -> clearedBy <= filtersAtMapping.size() ? null : clearedBy);
+        }
     }
 
     private void checkAndWarnAboutDoubleRegistration(Meter meter) {
@@ -782,19 +1123,6 @@ public abstract class MeterRegistry {
             .format("This %s has been already registered (%s), the registration will be ignored.", type, id));
     }
 
-    private boolean accept(Meter.Id id) {
-        for (MeterFilter filter : filters) {
-            MeterFilterReply reply = filter.accept(id);
-            if (reply == MeterFilterReply.DENY) {
-                return false;
-            }
-            else if (reply == MeterFilterReply.ACCEPT) {
-                return true;
-            }
-        }
-        return true;
-    }
-
     /**
      * Remove a {@link Meter} from this {@link MeterRegistry registry}. This is expected
      * to be a {@link Meter} with the same {@link Meter.Id} returned when registering a
@@ -821,7 +1149,7 @@ public abstract class MeterRegistry {
     public @Nullable Meter removeByPreFilterId(Meter.Id preFilterId) {
         final Meter meterToRemove = preFilterIdToMeterMap.get(preFilterId);
         if (meterToRemove == null)
-            return remove(mapId(preFilterId));
+            return remove(mapId(preFilterId, filters));
         return remove(meterToRemove);
     }
 
@@ -837,12 +1165,20 @@ public abstract class MeterRegistry {
     @Incubating(since = "1.1.0")
     public @Nullable Meter remove(Meter.Id mappedId) {
         if (meterMap.containsKey(mappedId)) {
-            synchronized (meterMapLock) {
+            MeterIdClaim claim = claim(mappedId);
+            try {
                 final Meter removedMeter = meterMap.remove(mappedId);
                 if (removedMeter != null) {
+                    markSuperseded(removedMeter);
+                    MeterIndex index = meterIndex;
+                    if (index != null) {
+                        index.remove(removedMeter);
+                    }
                     Meter.Id preFilterIdToRemove = meterToPreFilterIdMap.remove(removedMeter);
-                    preFilterIdToMeterMap.remove(preFilterIdToRemove);
-                    stalePreFilterIds.remove(preFilterIdToRemove);
+                    if (preFilterIdToRemove != null) {
+                        preFilterIdToMeterMap.remove(preFilterIdToRemove);
+                        stalePreFilterIds.remove(preFilterIdToRemove);
+                    }
 
                     Set<Meter.Id> synthetics = syntheticAssociations.remove(mappedId);
                     if (synthetics != null) {
@@ -851,6 +1187,11 @@ public abstract class MeterRegistry {
                         }
                     }
 
+                    MeterCardinalityLimiter limiter = cardinalityLimiter;
+                    if (limiter != null) {
+                        limiter.onMeterRemoved(removedMeter);
+                    }
+
                     for (Consumer<Meter> onRemove : meterRemovedListeners) {
                         onRemove.accept(removedMeter);
                     }
@@ -858,6 +1199,9 @@ public abstract class MeterRegistry {
                     return removedMeter;
                 }
             }
+            finally {
+                release(mappedId, claim);
+            }
         }
 
         return null;
@@ -906,16 +1250,18 @@ public abstract class MeterRegistry {
          * @return This configuration instance.
          */
         public synchronized Config meterFilter(MeterFilter filter) {
+            MeterFilterChain newFilters = filters.and(filter);
+            // Publish the new filters before marking ids stale: a registration that
+            // completes in between either observes the new filters and marks itself stale
+            // or is already visible to the snapshot below.
+            filters = newFilters;
             if (!meterMap.isEmpty()) {
                 logWarningAboutLateFilter();
-                synchronized (meterMapLock) {
-                    stalePreFilterIds.addAll(preFilterIdToMeterMap.keySet());
+                for (Map.Entry<Meter.Id, Meter> entry : preFilterIdToMeterMap.entrySet()) {
+                    stalePreFilterIds.put(entry.getKey(), newFilters.size());
+                    markSuperseded(entry.getValue());
                 }
             }
-            MeterFilter[] newFilters = new MeterFilter[filters.length + 1];
-            System.arraycopy(filters, 0, newFilters, 0, filters.length);
-            newFilters[filters.length] = filter;
-            filters = newFilters;
             return this;
         }
 
@@ -935,12 +1281,20 @@ public abstract class MeterRegistry {
         }
 
         /**
-         * Register an event listener for each meter added to the registry.
+         * Register an event listener for each meter added to the registry. Listeners are
+         * called before the meter is visible in the registry and may register other
+         * meters. Once a listener is registered, the registrations of new meters are
+         * serialized by a registry-wide lock, so that listeners registering meters
+         * cannot deadlock; looking up meters that are already registered is not
+         * affected. A meter whose registration is in progress when the listener is added
+         * may not be passed to it.
          * @param meterAddedListener a meter-added event listener to be added
          * @return This configuration instance.
          */
-        public Config onMeterAdded(Consumer<Meter> meterAddedListener) {
-            meterAddedListeners.add(meterAddedListener);
+        public synchronized Config onMeterAdded(Consumer<Meter> meterAddedListener) {
+            List<Consumer<Meter>> listeners = new ArrayList<>(meterAddedListeners);
+            listeners.add(meterAddedListener);
+            meterAddedListeners = Collections.unmodifiableList(listeners);
             return this;
         }
 
@@ -1065,6 +1419,32 @@ public abstract class MeterRegistry {
             return this;
         }
 
+        /**
+         * Caps the number of meters with the same name. When registering a meter makes
+         * the number of meters with its name exceed the cap, the least recently updated
+         * meters with that name are {@link MeterRegistry#remove(Meter) removed}, so that a
+         * tag with unbounded values cannot grow the registry without bound. A meter is
+         * considered updated when a value is recorded to it, which meters extending
+         * {@link AbstractMeter} report with {@link AbstractMeter#markRecorded()}; other
+         * meters and gauges count as never updated. A removed meter still held by
+         * instrumentation is no longer published; looking it up again registers a new
+         * meter. Calling this again changes the cap.
+         * @param maximumMetersPerName The maximum number of meters with the same name.
+         * @return This configuration instance.
+         * @since 1.17.0
+         */
+        @Incubating(since = "1.17.0")
+        public synchronized Config maximumMetersPerName(int maximumMetersPerName) {
+            MeterCardinalityLimiter limiter = cardinalityLimiter;
+            if (limiter == null) {
+                cardinalityLimiter = new MeterCardinalityLimiter(MeterRegistry.this, maximumMetersPerName);
+            }
+            else {
+                limiter.maximumMetersPerName(maximumMetersPerName);
+            }
+            return this;
+        }
+
         /**
          * Returns the current {@link HighCardinalityTagsDetector}. You can "deregister"
          * it by calling {@link HighCardinalityTagsDetector#close()} or register a new one
@@ -1266,10 +1646,8 @@ public abstract class MeterRegistry {
      */
     public void close() {
         if (closed.compareAndSet(false, true)) {
-            synchronized (meterMapLock) {
-                for (Meter meter : meterMap.values()) {
-                    meter.close();
-                }
+            for (Meter meter : meterMap.values()) {
+                meter.close();
             }
         }
 
@@ -1320,6 +1698,71 @@ public abstract class MeterRegistry {
 
     }
 
+    /**
+     * Meters created by {@link #registerAll(Collection)} on the thread that owns the
+     * batch, which holds {@link #meterAddedListenersLock} and the claims of their ids
+     * until they are published.
+     */
+    private static final class RegistrationBatch {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final Map<Meter.Id, PendingMeter> pending = new LinkedHashMap<>();
+
+        private boolean publishing;
+
+    }
+
+    private static final class PendingMeter {
+
+        private final Meter.Id originalId;
+
+        private final Meter.Id mappedId;
+
+        private final Meter meter;
+
+        private final MeterFilterChain filtersAtMapping;
+
+        private final @Nullable MeterIdClaim claim;
+
+        PendingMeter(Meter.Id originalId, Meter.Id mappedId, Meter meter, MeterFilterChain filtersAtMapping,
+                @Nullable MeterIdClaim claim) {
+            this.originalId = originalId;
+            this.mappedId = mappedId;
+            this.meter = meter;
+            this.filtersAtMapping = filtersAtMapping;
+            this.claim = claim;
+        }
+
+    }
+
+    /**
+     * Claim on a mapped meter id held by the thread registering or removing it.
+     */
+    private static final class MeterIdClaim {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        void awaitRelease() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    released.await();
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
     // VisibleForTesting
     Map<Meter.Id, Meter> _getPreFilterIdToMeterMap() {
         return Collections.unmodifiableMap(preFilterIdToMeterMap);
@@ -1332,7 +1775,7 @@ public abstract class MeterRegistry {
 
     // VisibleForTesting
     Set<Meter.Id> _getStalePreFilterIds() {
-        return Collections.unmodifiableSet(stalePreFilterIds);
+        return Collections.unmodifiableSet(stalePreFilterIds.keySet());
     }
 
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Returns meters of a {@link MeterProvider} for a fixed set of tag keys, looked up by tag
+ * values alone. Meters are cached in a bounded, per-instance table keyed by the tag
+ * values, so that repeated lookups with the same values neither build {@link Tags} nor a
+ * {@link Meter.Id}, and do not allocate. Create one instance per call site and keep it,
+ * like a meter:
+ *
+ * <pre>{@code
+ * TagValuesMeterProvider<Timer> requests = Timer.builder("http.requests")
+ *     .withRegistry(registry)
+ *     .withTagKeys("method", "status");
+ *
+ * requests.withTagValues(method, status).record(duration);
+ * }</pre>
+ *
+ * The cache is direct-mapped: values whose hashes collide evict each other, in which
+ * case the meter is looked up through the wrapped {@link MeterProvider} again. A cached
+ * meter is dropped once it is removed from its registry, or once a
+ * {@link io.micrometer.core.instrument.config.MeterFilter} is added to the registry after
+ * the meter was registered, so a removed meter is never handed out. Meters not extending
+ * {@link AbstractMeter} are not cached.
+ *
+ * @param <T> type of the meters provided
+ * @since 1.17.0
+ * @see MeterProvider#withTagKeys(String...)
+ */
+public final class TagValuesMeterProvider<T extends Meter> {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final MeterProvider<T> delegate;
+
+    private final String[] tagKeys;
+
+    private final @Nullable Entry<T>[] entries;
+
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    TagValuesMeterProvider(MeterProvider<T> delegate, String[] tagKeys, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.delegate = delegate;
+        this.tagKeys = tagKeys.clone();
+        int size = Integer.highestOneBit(maximumSize);
+        this.entries = (Entry<T>[]) new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the meter for the given value of the single tag key of this provider.
+     * @param tagValue value of the tag
+     * @return A new or existing Meter
+     */
+    public T withTagValue(String tagValue) {
+        checkTagValueCount(1);
+        int hash = hash(tagValue.hashCode());
+        Entry<T> entry = currentEntry(hash);
+        if (entry != null && entry.values[0].equals(tagValue)) {
+            return entry.meter;
+        }
+        return register(hash, new String[] { tagValue });
+    }
+
+    /**
+     * Returns the meter for the given values of the two tag keys of this provider.
+     * @param tagValue1 value of the first tag
+     * @param tagValue2 value of the second tag
+     * @return A new or existing Meter
+     */
+    public T withTagValues(String tagValue1, String tagValue2) {
+        checkTagValueCount(2);
+        int hash = hash(31 * tagValue1.hashCode() + tagValue2.hashCode());
+        Entry<T> entry = currentEntry(hash);
+        if (entry != null && entry.values[0].equals(tagValue1) && entry.values[1].equals(tagValue2)) {
+            return entry.meter;
+        }
+        return register(hash, new String[] { tagValue1, tagValue2 });
+    }
+
+    /**
+     * Returns the meter for the given values of the three tag keys of this provider.
+     * @param tagValue1 value of the first tag
+     * @param tagValue2 value of the second tag
+     * @param tagValue3 value of the third tag
+     * @return A new or existing Meter
+     */
+    public T withTagValues(String tagValue1, String tagValue2, String tagValue3) {
+        checkTagValueCount(3);
+        int hash = hash(31 * (31 * tagValue1.hashCode() + tagValue2.hashCode()) + tagValue3.hashCode());
+        Entry<T> entry = currentEntry(hash);
+        if (entry != null && entry.values[0].equals(tagValue1) && entry.values[1].equals(tagValue2)
+                && entry.values[2].equals(tagValue3)) {
+            return entry.meter;
+        }
+        return register(hash, new String[] { tagValue1, tagValue2, tagValue3 });
+    }
+
+    /**
+     * Returns the meter for the given tag values, in the order of the tag keys of this
+     * provider.
+     * @param tagValues values of the tags
+     * @return A new or existing Meter
+     */
+    public T withTagValues(String... tagValues) {
+        checkTagValueCount(tagValues.length);
+        int hash = hash(Arrays.hashCode(tagValues));
+        Entry<T> entry = currentEntry(hash);
+        if (entry != null && Arrays.equals(entry.values, tagValues)) {
+            return entry.meter;
+        }
+        return register(hash, tagValues.clone());
+    }
+
+    private void checkTagValueCount(int count) {
+        if (count != tagKeys.length) {
+            throw new IllegalArgumentException("Expected " + tagKeys.length + " tag values for tag keys "
+                    + Arrays.toString(tagKeys) + " but got " + count);
+        }
+    }
+
+    private @Nullable Entry<T> currentEntry(int hash) {
+        Entry<T> entry = entries[hash & mask];
+        if (entry != null && ((AbstractMeter) entry.meter).isSuperseded()) {
+            return null;
+        }
+        return entry;
+    }
+
+    private T register(int hash, String[] tagValues) {
+        Tag[] tags = new Tag[tagKeys.length];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = Tag.of(tagKeys[i], tagValues[i]);
+        }
+        T meter = delegate.withTags(Tags.of(tags));
+        if (meter instanceof AbstractMeter) {
+            // Entries are immutable, so racy publication through the plain array is safe.
+            entries[hash & mask] = new Entry<>(tagValues, meter);
+        }
+        return meter;
+    }
+
+    private static int hash(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry<T> {
+
+        private final String[] values;
+
+        private final T meter;
+
+        Entry(String[] values, T meter) {
+            this.values = values;
+            this.meter = meter;
+        }
+
+    }
+
+}
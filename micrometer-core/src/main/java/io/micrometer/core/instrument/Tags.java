@@ -37,7 +37,9 @@ public final class Tags implements Iterable<Tag> {
 
     private static final Tag[] EMPTY_TAG_ARRAY = new Tag[0];
 
-    private static final Tags EMPTY = new Tags(EMPTY_TAG_ARRAY, 0);
+    private static final Tags EMPTY = new Tags(EMPTY_TAG_ARRAY, 0, true);
+
+    private static final WeakInterner<Tags> INTERNER = new WeakInterner<>(Tags::canonicalCopy);
 
     /**
      * An array of {@code Tag} objects containing the sorted and deduplicated tags.
@@ -49,6 +51,16 @@ public final class Tags implements Iterable<Tag> {
      */
     private final int length;
 
+    /**
+     * Whether this is the canonical instance of its equality class, see {@link #intern()}.
+     */
+    private final boolean interned;
+
+    /**
+     * Cached hash code, computed on first use. Zero until then, like {@link String}.
+     */
+    private int hash;
+
     /**
      * A constructor that initializes a {@code Tags} object with a sorted set of tags and
      * its length.
@@ -56,8 +68,13 @@ public final class Tags implements Iterable<Tag> {
      * @param length the number of valid tags in the {@code sortedSet}
      */
     private Tags(Tag[] sortedSet, int length) {
+        this(sortedSet, length, false);
+    }
+
+    private Tags(Tag[] sortedSet, int length, boolean interned) {
         this.sortedSet = sortedSet;
         this.length = length;
+        this.interned = interned;
     }
 
     /**
@@ -269,11 +286,44 @@ public final class Tags implements Iterable<Tag> {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Return the canonical instance of the tags equal to this collection. Equal interned
+     * instances are the same instance, so comparing them, and {@link Meter.Id Meter.Ids}
+     * built from them, is a reference check; the tags they contain are interned as well.
+     * Canonical instances are only weakly held and are dropped once no longer in use.
+     * Interning pays a lookup once, so it is meant for tags that are built repeatedly and
+     * then used as keys, e.g. per request before registering or looking up a meter.
+     * @return the canonical instance equal to this one
+     * @since 1.17.0
+     */
+    public Tags intern() {
+        if (interned) {
+            return this;
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        return INTERNER.intern(this);
+    }
+
+    private static Tags canonicalCopy(Tags tags) {
+        Tag[] canonicalTags = new Tag[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            Tag tag = tags.sortedSet[i];
+            canonicalTags[i] = tag instanceof ImmutableTag ? ((ImmutableTag) tag).intern() : tag;
+        }
+        return new Tags(canonicalTags, canonicalTags.length, true);
+    }
+
     @Override
     public int hashCode() {
-        int result = 1;
-        for (int i = 0; i < length; i++) {
-            result = 31 * result + sortedSet[i].hashCode();
+        int result = hash;
+        if (result == 0) {
+            result = 1;
+            for (int i = 0; i < length; i++) {
+                result = 31 * result + sortedSet[i].hashCode();
+            }
+            hash = result;
         }
         return result;
     }
@@ -287,9 +337,18 @@ public final class Tags implements Iterable<Tag> {
         if (sortedSet == obj.sortedSet)
             return true;
 
+        // there is only one interned instance per equality class
+        if (interned && obj.interned)
+            return false;
+
         if (length != obj.length)
             return false;
 
+        int thisHash = hash;
+        int otherHash = obj.hash;
+        if (thisHash != 0 && otherHash != 0 && thisHash != otherHash)
+            return false;
+
         for (int i = 0; i < length; i++) {
             if (!sortedSet[i].equals(obj.sortedSet[i]))
                 return false;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+/**
+ * Remembers, per meter implementation class, whether it overrides {@code takeSnapshot()}
+ * of the given base class. Shared by {@link AbstractTimer} and
+ * {@link AbstractDistributionSummary}, whose {@code visitSnapshot} visits what an
+ * overridden {@code takeSnapshot()} returns.
+ */
+final class TakeSnapshotOverrides extends ClassValue<Boolean> {
+
+    private final Class<?> baseClass;
+
+    TakeSnapshotOverrides(Class<?> baseClass) {
+        this.baseClass = baseClass;
+    }
+
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+        try {
+            return type.getMethod("takeSnapshot").getDeclaringClass() != baseClass;
+        }
+        catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+}
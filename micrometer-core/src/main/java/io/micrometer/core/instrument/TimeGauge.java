@@ -72,7 +72,7 @@ public interface TimeGauge extends Gauge {
     /**
      * Fluent builder for time gauges.
      */
-    class Builder<T> {
+    class Builder<T> implements Meter.RegistrableBuilder<TimeGauge> {
 
         private final String name;
 
@@ -155,6 +155,7 @@ public interface TimeGauge extends Gauge {
          * exist.
          * @return A new or existing time gauge.
          */
+        @Override
         public TimeGauge register(MeterRegistry registry) {
             return registry.more()
                 .timeGauge(new Meter.Id(name, tags, null, description, Type.GAUGE), obj, fUnits,
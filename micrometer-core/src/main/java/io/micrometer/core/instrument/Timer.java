@@ -357,7 +357,7 @@ public interface Timer extends Meter, HistogramSupport {
     /**
      * Fluent builder for timers.
      */
-    class Builder extends AbstractTimerBuilder<Builder> {
+    class Builder extends AbstractTimerBuilder<Builder> implements Meter.RegistrableBuilder<Timer> {
 
         Builder(String name) {
             super(name);
@@ -461,6 +461,7 @@ public interface Timer extends Meter, HistogramSupport {
          * @param registry A registry to add the timer to, if it doesn't already exist.
          * @return A new or existing timer.
          */
+        @Override
         public Timer register(MeterRegistry registry) {
             return register(registry, tags);
         }
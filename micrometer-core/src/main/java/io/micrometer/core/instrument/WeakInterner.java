@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns instances by equality without keeping them reachable: a canonical instance is
+ * dropped once nothing but the interner refers to it. Striped by hash code so that
+ * threads interning different values rarely contend.
+ *
+ * @param <T> type of the interned instances
+ */
+final class WeakInterner<T> {
+
+    private static final int STRIPES = 16;
+
+    private final Function<T, T> canonicalizer;
+
+    private final Map<T, WeakReference<T>>[] stripes;
+
+    /**
+     * @param canonicalizer creates the instance to keep as canonical from the first
+     * instance interned for an equality class
+     */
+    @SuppressWarnings("unchecked")
+    WeakInterner(Function<T, T> canonicalizer) {
+        this.canonicalizer = canonicalizer;
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    T intern(T instance) {
+        int h = instance.hashCode();
+        Map<T, WeakReference<T>> stripe = stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        synchronized (stripe) {
+            WeakReference<T> ref = stripe.get(instance);
+            @Nullable T canonical = ref == null ? null : ref.get();
+            if (canonical == null) {
+                canonical = canonicalizer.apply(instance);
+                stripe.put(canonical, new WeakReference<>(canonical));
+            }
+            return canonical;
+        }
+    }
+
+}
@@ -28,6 +28,7 @@ class CompositeCounter extends AbstractCompositeMeter<Counter> implements Counte
 
     @Override
     public void increment(double amount) {
+        markRecorded();
         for (Counter c : getChildren()) {
             c.increment(amount);
         }
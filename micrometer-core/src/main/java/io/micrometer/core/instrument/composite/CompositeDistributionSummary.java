@@ -36,6 +36,7 @@ class CompositeDistributionSummary extends AbstractCompositeMeter<DistributionSu
 
     @Override
     public void record(double amount) {
+        markRecorded();
         for (DistributionSummary ds : getChildren()) {
             ds.record(amount);
         }
@@ -38,6 +38,7 @@ class CompositeLongTaskTimer extends AbstractCompositeMeter<LongTaskTimer> imple
 
     @Override
     public Sample start() {
+        markRecorded();
         List<Sample> samples = new ArrayList<>();
         for (LongTaskTimer ltt : getChildren()) {
             samples.add(ltt.start());
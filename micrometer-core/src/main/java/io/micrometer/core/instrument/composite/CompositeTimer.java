@@ -50,6 +50,7 @@ class CompositeTimer extends AbstractCompositeMeter<Timer> implements Timer {
 
     @Override
     public void record(long amount, TimeUnit unit) {
+        markRecorded();
         for (Timer timer : getChildren()) {
             timer.record(amount, unit);
         }
@@ -57,6 +58,7 @@ class CompositeTimer extends AbstractCompositeMeter<Timer> implements Timer {
 
     @Override
     public void record(Duration duration) {
+        markRecorded();
         for (Timer timer : getChildren()) {
             timer.record(duration);
         }
@@ -70,6 +70,11 @@ public interface MeterFilter {
      */
     static MeterFilter renameTag(String meterNamePrefix, String fromTagKey, String toTagKey) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(meterNamePrefix);
+            }
+
             @Override
             public Meter.Id map(Meter.Id id) {
                 if (!id.getName().startsWith(meterNamePrefix))
@@ -243,6 +248,11 @@ public interface MeterFilter {
         return new MeterFilter() {
             private final Set<String> observedTagValues = ConcurrentHashMap.newKeySet();
 
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(meterNamePrefix);
+            }
+
             @Override
             public MeterFilterReply accept(Meter.Id id) {
                 String value = matchNameAndGetTagValue(id);
@@ -284,7 +294,17 @@ public interface MeterFilter {
      * @return A filter that guarantees the exclusion of matching meters.
      */
     static MeterFilter denyNameStartsWith(String prefix) {
-        return deny(id -> id.getName().startsWith(prefix));
+        return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
+            @Override
+            public MeterFilterReply accept(Meter.Id id) {
+                return id.getName().startsWith(prefix) ? MeterFilterReply.DENY : MeterFilterReply.NEUTRAL;
+            }
+        };
     }
 
     /**
@@ -295,7 +315,17 @@ public interface MeterFilter {
      * @since 1.2.0
      */
     static MeterFilter acceptNameStartsWith(String prefix) {
-        return accept(id -> id.getName().startsWith(prefix));
+        return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
+            @Override
+            public MeterFilterReply accept(Meter.Id id) {
+                return id.getName().startsWith(prefix) ? MeterFilterReply.ACCEPT : MeterFilterReply.NEUTRAL;
+            }
+        };
     }
 
     /**
@@ -307,6 +337,11 @@ public interface MeterFilter {
      */
     static MeterFilter maxExpected(String prefix, Duration max) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
             @Override
             public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
                 if (id.getType() == Meter.Type.TIMER && id.getName().startsWith(prefix)) {
@@ -345,6 +380,11 @@ public interface MeterFilter {
      */
     static MeterFilter maxExpected(String prefix, double max) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
             @Override
             public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
                 if (id.getType() == Meter.Type.DISTRIBUTION_SUMMARY && id.getName().startsWith(prefix)) {
@@ -364,6 +404,11 @@ public interface MeterFilter {
      */
     static MeterFilter minExpected(String prefix, Duration min) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
             @Override
             public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
                 if (id.getType() == Meter.Type.TIMER && id.getName().startsWith(prefix)) {
@@ -402,6 +447,11 @@ public interface MeterFilter {
      */
     static MeterFilter minExpected(String prefix, double min) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith(prefix);
+            }
+
             @Override
             public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
                 if (id.getType() == Meter.Type.DISTRIBUTION_SUMMARY && id.getName().startsWith(prefix)) {
@@ -424,6 +474,11 @@ public interface MeterFilter {
      */
     static MeterFilter forMeters(Predicate<Meter.Id> predicate, MeterFilter delegate) {
         return new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return delegate.appliesTo(meterName);
+            }
+
             @Override
             public MeterFilterReply accept(Meter.Id id) {
                 return predicate.test(id) ? delegate.accept(id) : MeterFilter.super.accept(id);
@@ -441,6 +496,23 @@ public interface MeterFilter {
         };
     }
 
+    /**
+     * Whether this filter may have an effect on meters with the given name. A registry
+     * skips this filter entirely for names it does not apply to, so for ids with such a
+     * name, {@link #accept} must return {@link MeterFilterReply#NEUTRAL}, {@link #map}
+     * must return the id unchanged and {@link #configure} must return the config
+     * unchanged. Filters scoped to a name prefix should override this so that a long
+     * chain of filters only costs what applies to each meter. The result must depend on
+     * the name alone, as registries cache it per name.
+     * @param meterName the name of a meter, with the {@link #map} transformations of
+     * preceding filters applied
+     * @return {@code false} if this filter never affects meters with this name
+     * @since 1.17.0
+     */
+    default boolean appliesTo(String meterName) {
+        return true;
+    }
+
     /**
      * @param id Id with {@link MeterFilter#map} transformations applied.
      * @return After all transformations, should a real meter be registered for this id,
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.cumulative;
+
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.instrument.AbstractMeter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Storage for the values of many cumulative counters in shared slabs of {@code long}s,
+ * one slot per counter, rather than a {@link java.util.concurrent.atomic.DoubleAdder}
+ * per counter as in {@link CumulativeCounter}. The counters handed out are thin handles
+ * holding the index of their slot. A slot always takes 8 bytes, whereas a
+ * {@code DoubleAdder} that has been incremented concurrently grows cells padded to a
+ * cache line each, which costs hundreds of bytes per counter across many counters.
+ * <p>
+ * Every increment is a compare-and-set on the counter's slot, so a single counter that is
+ * incremented from many threads at once scales worse than a {@link CumulativeCounter}.
+ * Consecutive slots are spread across the slab so that counters registered one after the
+ * other do not share a cache line.
+ * <p>
+ * Slots of {@link #release(Counter) released} counters are reused by counters created
+ * later. A released counter ignores further increments and reports a count of zero. Only
+ * release counters that are no longer incremented, such as counters removed from their
+ * registry: an increment racing with the release may be counted by the next counter
+ * using the slot.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public final class CounterArena {
+
+    private static final int SLAB_SHIFT = 12;
+
+    private static final int SLAB_SIZE = 1 << SLAB_SHIFT;
+
+    private static final int SLAB_MASK = SLAB_SIZE - 1;
+
+    /**
+     * Number of interleaved stripes in a slab; consecutive slots go to different stripes.
+     */
+    private static final int STRIPE_SHIFT = 3;
+
+    private static final int STRIPE_MASK = (1 << STRIPE_SHIFT) - 1;
+
+    private static final int RELEASED = -1;
+
+    private volatile AtomicLongArray[] slabs = new AtomicLongArray[0];
+
+    private int nextSlot;
+
+    private int[] freeSlots = new int[16];
+
+    private int freeSlotCount;
+
+    /**
+     * Create a counter whose value is stored in this arena.
+     * @param id The id of the counter.
+     * @return A new counter with a count of zero.
+     */
+    public Counter newCounter(Meter.Id id) {
+        return new ArenaCounter(id, this, allocate());
+    }
+
+    /**
+     * Release the slot of a counter created by this arena so that it can be reused, for
+     * instance once the counter has been removed from its registry. Counters from other
+     * arenas or other implementations are ignored.
+     * @param counter The counter to release.
+     */
+    public void release(Counter counter) {
+        if (counter instanceof ArenaCounter) {
+            ArenaCounter arenaCounter = (ArenaCounter) counter;
+            if (arenaCounter.arena == this) {
+                int slot = arenaCounter.release();
+                if (slot != RELEASED) {
+                    free(slot);
+                }
+            }
+        }
+    }
+
+    private synchronized int allocate() {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        }
+        else {
+            slot = nextSlot++;
+            int slab = slot >>> SLAB_SHIFT;
+            if (slab == slabs.length) {
+                AtomicLongArray[] newSlabs = Arrays.copyOf(slabs, slab + 1);
+                newSlabs[slab] = new AtomicLongArray(SLAB_SIZE);
+                slabs = newSlabs;
+            }
+        }
+        slabs[slot >>> SLAB_SHIFT].set(index(slot), Double.doubleToLongBits(0.0));
+        return slot;
+    }
+
+    private synchronized void free(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void add(int slot, double amount) {
+        AtomicLongArray slab = slabs[slot >>> SLAB_SHIFT];
+        int index = index(slot);
+        long current;
+        long next;
+        do {
+            current = slab.get(index);
+            next = Double.doubleToRawLongBits(Double.longBitsToDouble(current) + amount);
+        }
+        while (!slab.compareAndSet(index, current, next));
+    }
+
+    private double get(int slot) {
+        return Double.longBitsToDouble(slabs[slot >>> SLAB_SHIFT].get(index(slot)));
+    }
+
+    /**
+     * Index of a slot within its slab, interleaving stripes so that consecutive slots are
+     * {@code SLAB_SIZE / 8} longs apart.
+     */
+    private static int index(int slot) {
+        int offset = slot & SLAB_MASK;
+        return ((offset & STRIPE_MASK) << (SLAB_SHIFT - STRIPE_SHIFT)) | (offset >>> STRIPE_SHIFT);
+    }
+
+    private static final class ArenaCounter extends AbstractMeter implements Counter {
+
+        private final CounterArena arena;
+
+        private volatile int slot;
+
+        ArenaCounter(Id id, CounterArena arena, int slot) {
+            super(id);
+            this.arena = arena;
+            this.slot = slot;
+        }
+
+        @Override
+        public void increment(double amount) {
+            int slot = this.slot;
+            if (slot != RELEASED) {
+                markRecorded();
+                arena.add(slot, amount);
+            }
+        }
+
+        @Override
+        public double count() {
+            int slot = this.slot;
+            return slot == RELEASED ? 0 : arena.get(slot);
+        }
+
+        private synchronized int release() {
+            int released = slot;
+            slot = RELEASED;
+            return released;
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ public class CumulativeCounter extends AbstractMeter implements Counter {
 
     @Override
     public void increment(double amount) {
+        markRecorded();
         value.add(amount);
     }
 
@@ -27,6 +27,11 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 /**
  * An abstract base class for histogram implementations who maintain samples in a ring
  * buffer to decay older samples and give greater weight to recent samples.
+ * <p>
+ * Rotating the ring buffer and taking a snapshot are done by one thread at a time, which
+ * owns the ring buffer and the accumulated histogram by setting a flag. Recording never
+ * waits for the flag: a recording thread that finds a rotation due while the flag is set
+ * leaves the rotation to the next recording or snapshot.
  *
  * @param <T> the type of the buckets in a ring buffer
  * @param <U> the type of accumulated histogram
@@ -55,7 +60,7 @@ abstract class AbstractTimeWindowHistogram<T, U> implements Histogram {
     private volatile long lastRotateTimestampMillis;
 
     @SuppressWarnings({ "unused", "FieldCanBeLocal" })
-    private volatile int rotating; // 0 - not rotating, 1 - rotating
+    private volatile int rotating; // 0 - not rotating, 1 - rotating or taking a snapshot
 
     @SuppressWarnings("NullAway.Init")
     private U accumulatedHistogram;
@@ -127,28 +132,101 @@ abstract class AbstractTimeWindowHistogram<T, U> implements Histogram {
      */
     abstract CountAtBucket @Nullable [] countsAtBuckets();
 
+    /**
+     * Passes the counts at the monitored histogram buckets to a visitor. Implementations
+     * should override this to avoid allocating the counts.
+     */
+    void visitCountsAtBuckets(HistogramVisitor visitor) {
+        CountAtBucket[] counts = countsAtBuckets();
+        if (counts != null) {
+            for (CountAtBucket countAtBucket : counts) {
+                visitor.bucket(countAtBucket.bucket(), countAtBucket.count());
+            }
+        }
+    }
+
+    /**
+     * Passes the count at each of the given buckets, in order, to a consumer. Histograms
+     * that compute bucket counts from the recorded values implement this once and
+     * delegate to {@link #countsAtBuckets(BucketIndex)} and
+     * {@link #visitCountsAtBuckets(BucketIndex, HistogramVisitor)}.
+     */
+    abstract void forEachCountAtBucket(double[] buckets, BucketCountConsumer consumer);
+
+    final CountAtBucket[] countsAtBuckets(BucketIndex bucketIndex) {
+        CountAtBucket[] counts = new CountAtBucket[bucketIndex.getBuckets().length];
+        forEachCountAtBucket(bucketIndex.getBuckets(),
+                (index, count) -> counts[index] = bucketIndex.countAtBucket(index, count));
+        return counts;
+    }
+
+    final void visitCountsAtBuckets(BucketIndex bucketIndex, HistogramVisitor visitor) {
+        double[] buckets = bucketIndex.getBuckets();
+        forEachCountAtBucket(buckets, (index, count) -> visitor.bucket(buckets[index], count));
+    }
+
     void outputSummary(PrintStream out, double bucketScaling) {
     }
 
     @Override
     public final HistogramSnapshot takeSnapshot(long count, double total, double max) {
-        rotate();
-
         final ValueAtPercentile[] values;
         final CountAtBucket[] counts;
-        synchronized (this) {
-            accumulateIfStale();
+        acquireForSnapshot();
+        try {
             values = takeValueSnapshot();
             counts = countsAtBuckets();
         }
+        finally {
+            rotating = 0;
+        }
 
         return new HistogramSnapshot(count, total, max, values, counts, this::outputSummary);
     }
 
+    @Override
+    public final void visitSnapshot(long count, double total, double max, HistogramVisitor visitor) {
+        acquireForSnapshot();
+        try {
+            visitor.summary(count, total, max);
+            double[] monitoredPercentiles = distributionStatisticConfig.getPercentiles();
+            if (monitoredPercentiles != null) {
+                for (double percentile : monitoredPercentiles) {
+                    visitor.percentile(percentile, valueAtPercentile(percentile * 100));
+                }
+            }
+            visitCountsAtBuckets(visitor);
+        }
+        finally {
+            rotating = 0;
+        }
+    }
+
+    /**
+     * Waits for the flag, then rotates and accumulates as needed. The caller must clear
+     * {@link #rotating} once it has read the snapshot.
+     */
+    private void acquireForSnapshot() {
+        while (!rotatingUpdater.compareAndSet(this, 0, 1)) {
+            // Another snapshot or a rotation is in progress.
+            Thread.yield();
+        }
+        try {
+            rotateIfDue();
+            accumulateIfStale();
+        }
+        catch (RuntimeException | Error e) {
+            rotating = 0;
+            throw e;
+        }
+    }
+
     private void accumulateIfStale() {
         if (accumulatedHistogramStale) {
-            accumulate();
+            // cleared first so that a value recorded while accumulating is accumulated by
+            // the next snapshot
             accumulatedHistogramStale = false;
+            accumulate();
         }
     }
 
@@ -208,32 +286,50 @@ abstract class AbstractTimeWindowHistogram<T, U> implements Histogram {
         }
 
         if (!rotatingUpdater.compareAndSet(this, 0, 1)) {
-            // Being rotated by other thread already.
+            // Being rotated by other thread already, or a snapshot is being taken, which
+            // rotates first.
             return;
         }
 
         try {
-            int iterations = 0;
-            synchronized (this) {
-                do {
-                    resetBucket(ringBuffer[currentBucket]);
-                    if (++currentBucket >= ringBuffer.length) {
-                        currentBucket = 0;
-                    }
-                    timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
-                    lastRotateTimestampMillis += durationBetweenRotatesMillis;
-                }
-                while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
-
-                resetAccumulatedHistogram();
-                accumulatedHistogramStale = true;
-            }
+            rotateIfDue();
         }
         finally {
             rotating = 0;
         }
     }
 
+    /**
+     * Must only be called by the thread that set {@link #rotating}.
+     */
+    private void rotateIfDue() {
+        long timeSinceLastRotateMillis = clock.wallTime() - lastRotateTimestampMillis;
+        if (timeSinceLastRotateMillis < durationBetweenRotatesMillis) {
+            return;
+        }
+
+        int iterations = 0;
+        do {
+            resetBucket(ringBuffer[currentBucket]);
+            if (++currentBucket >= ringBuffer.length) {
+                currentBucket = 0;
+            }
+            timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
+            lastRotateTimestampMillis += durationBetweenRotatesMillis;
+        }
+        while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
+
+        resetAccumulatedHistogram();
+        accumulatedHistogramStale = true;
+    }
+
+    @FunctionalInterface
+    interface BucketCountConsumer {
+
+        void accept(int index, double count);
+
+    }
+
     protected U accumulatedHistogram() {
         return accumulatedHistogram;
     }
@@ -13,12 +13,10 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
-import io.micrometer.core.instrument.distribution.Histogram;
-import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.util.TimeUtils;
-import io.opentelemetry.proto.metrics.v1.Exemplar;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Arrays;
@@ -28,7 +26,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
-import static io.micrometer.registry.otlp.ExponentialHistogramSnapShot.ExponentialBuckets.EMPTY_EXPONENTIAL_BUCKET;
+import static io.micrometer.core.instrument.distribution.ExponentialHistogramSnapShot.ExponentialBuckets.EMPTY_EXPONENTIAL_BUCKET;
 
 /**
  * A ExponentialHistogram implementation that compresses bucket boundaries using an
@@ -39,11 +37,22 @@ import static io.micrometer.registry.otlp.ExponentialHistogramSnapShot.Exponenti
  * techniques outlined in the OTLP specification mentioned above. This implementation
  * supports only recording positive values (enforced by
  * {@link io.micrometer.core.instrument.AbstractTimer#record(long, TimeUnit)}).
+ * <p>
+ * The histogram starts at its maximum scale and lowers it whenever a value would not fit
+ * within the maximum number of buckets. Registries read its buckets from
+ * {@link #getLatestExponentialHistogramSnapshot()}, and can convert them to a
+ * {@link MergeableExponentialHistogram} to compute percentiles or combine them with other
+ * histograms; {@link #takeSnapshot(long, double, double)} only bridges the count, total
+ * and max. To have Micrometer compute percentiles and histogram buckets from exponential
+ * buckets instead, use {@link PercentileEngine#BASE2_EXPONENTIAL}.
  *
  * @author Lenin Jaganathan
- * @since 1.14.0
+ * @since 1.17.0
+ * @see CumulativeBase2ExponentialHistogram
+ * @see DeltaBase2ExponentialHistogram
  */
-abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupport {
+@Incubating(since = "1.17.0")
+public abstract class Base2ExponentialHistogram implements Histogram {
 
     private final int maxScale;
 
@@ -61,8 +70,6 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
 
     private int scale;
 
-    private final @Nullable ExemplarSampler exemplarSampler;
-
     /**
      * Creates an Base2ExponentialHistogram that records positive values.
      * @param maxScale - maximum scale that can be used. The recordings start with this
@@ -76,14 +83,12 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
      * @param baseUnit - an Optional TimeUnit. If set to a non-null unit, the recorded
      * values are converted to this unit.
      */
-    Base2ExponentialHistogram(int maxScale, int maxBucketsCount, double minimumExpectedValue,
-            @Nullable TimeUnit baseUnit, @Nullable OtlpExemplarSamplerFactory exemplarSamplerFactory) {
+    protected Base2ExponentialHistogram(int maxScale, int maxBucketsCount, double minimumExpectedValue,
+            @Nullable TimeUnit baseUnit) {
         this.maxScale = maxScale;
         this.scale = maxScale;
         this.maxBucketsCount = maxBucketsCount;
         this.baseUnit = baseUnit;
-        this.exemplarSampler = exemplarSamplerFactory != null ? exemplarSamplerFactory.create(16, baseUnit != null)
-                : null;
         this.zeroThreshold = getZeroThreshHoldFromMinExpectedValue(minimumExpectedValue, baseUnit);
 
         this.circularCountHolder = new CircularCountHolder(maxBucketsCount);
@@ -109,14 +114,14 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
      * current set of values. It is recommended to use this method to consume values
      * recorded in this Histogram as this will provide consistency in recorded values.
      */
-    abstract ExponentialHistogramSnapShot getLatestExponentialHistogramSnapshot();
+    public abstract ExponentialHistogramSnapShot getLatestExponentialHistogramSnapshot();
 
     /**
      * Takes a snapshot of the values that are recorded.
      */
-    abstract void takeExponentialHistogramSnapShot();
+    protected abstract void takeExponentialHistogramSnapShot();
 
-    int getScale() {
+    public int getScale() {
         return scale;
     }
 
@@ -132,7 +137,7 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
     /**
      * Returns the snapshot of current recorded values.
      */
-    ExponentialHistogramSnapShot getCurrentValuesSnapshot() {
+    protected ExponentialHistogramSnapShot getCurrentValuesSnapshot() {
         return (circularCountHolder.isEmpty() && zeroCount.longValue() == 0)
                 ? DefaultExponentialHistogramSnapShot.getEmptySnapshotForScale(scale)
                 : new DefaultExponentialHistogramSnapShot(scale, zeroCount.longValue(), zeroThreshold,
@@ -165,21 +170,79 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
             return;
         }
         recordToHistogram(valueToRecord);
-        if (exemplarSampler != null) {
-            // record "raw" value (nanos in case of time-based histogram)
-            exemplarSampler.sampleMeasurement(value);
-        }
+        recordedInBucket(value);
     }
 
-    @Override
-    public List<Exemplar> exemplars() {
-        return exemplarSampler != null ? exemplarSampler.collectExemplars() : Collections.emptyList();
+    /**
+     * Called after a value larger than the zero threshold has been counted in a bucket,
+     * for instance to sample exemplars.
+     * @param value The value as passed to {@link #recordDouble(double)}, in
+     * {@link TimeUnit#NANOSECONDS} if recording time.
+     */
+    protected void recordedInBucket(double value) {
     }
 
-    @Override
-    public void closingExemplarsRollover() {
-        if (exemplarSampler != null) {
-            exemplarSampler.close();
+    /**
+     * Estimates the value at a percentile of the values recorded since the last reset,
+     * interpolating log-linearly within the bucket holding it.
+     * @param percentile The percentile, from 0 to 100.
+     */
+    synchronized double valueAtPercentile(double percentile) {
+        long total = zeroCount.longValue();
+        boolean empty = circularCountHolder.isEmpty();
+        int start = empty ? 0 : circularCountHolder.getStartIndex();
+        int end = empty ? -1 : circularCountHolder.getEndIndex();
+        for (int i = start; i <= end; i++) {
+            total += circularCountHolder.getValueAtIndex(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double rank = percentile / 100 * total;
+        double countBelow = zeroCount.longValue();
+        if (countBelow > 0 && rank <= countBelow) {
+            return zeroThreshold;
+        }
+        for (int i = start; i <= end; i++) {
+            long count = circularCountHolder.getValueAtIndex(i);
+            if (count > 0 && countBelow + count >= rank) {
+                return Math.pow(2, Math.scalb(i + (rank - countBelow) / count, -scale));
+            }
+            countBelow += count;
+        }
+        return Math.pow(2, Math.scalb((double) end + 1, -scale));
+    }
+
+    /**
+     * Passes the estimated count of the values recorded since the last reset at or below
+     * each of the ascending bounds to a consumer, in a single pass over the buckets. The
+     * bucket holding a bound is split log-linearly at the bound.
+     * @param bounds Ascending bounds.
+     * @param cumulative Whether to pass the count at or below each bound, rather than the
+     * count between the previous bound and this one.
+     * @param consumer Receives the index of each bound and its count.
+     */
+    synchronized void forEachCountAtOrBelow(double[] bounds, boolean cumulative,
+            AbstractTimeWindowHistogram.BucketCountConsumer consumer) {
+        long zeros = zeroCount.longValue();
+        boolean empty = circularCountHolder.isEmpty();
+        int index = empty ? 0 : circularCountHolder.getStartIndex();
+        int end = empty ? -1 : circularCountHolder.getEndIndex();
+        double countBelowIndex = 0;
+        double previous = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            // the bucket at index i holds the values whose position is in (i, i + 1]
+            double position = Math.scalb(Math.log(bounds[i]) / Math.log(2), scale);
+            while (index <= end && index + 1 <= position) {
+                countBelowIndex += circularCountHolder.getValueAtIndex(index++);
+            }
+            double count = countBelowIndex + (bounds[i] >= zeroThreshold ? zeros : 0);
+            if (index <= end && position > index) {
+                count += circularCountHolder.getValueAtIndex(index) * (position - index);
+            }
+            consumer.accept(i, cumulative ? count : count - previous);
+            previous = count;
         }
     }
 
@@ -253,9 +316,8 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
      * used scale but makes the best attempt based on data recorded for last interval. In
      * most cases the range of values recorded within an {@link Base2ExponentialHistogram}
      * instance stays same, and we should avoid re-scaling to minimize garbage creation.
-     * This applies only for
-     * {@link io.micrometer.registry.otlp.AggregationTemporality#DELTA} where values are
-     * reset for every interval.
+     * This applies only for {@link DeltaBase2ExponentialHistogram} where values are reset
+     * for every interval.
      * @return - a factor by which the {@link Base2ExponentialHistogram#scale} should be
      * increased.
      */
@@ -300,7 +362,7 @@ abstract class Base2ExponentialHistogram implements Histogram, OtlpExemplarsSupp
      * Reset the current values and possibly increase the scale based on current recorded
      * values;
      */
-    synchronized void reset() {
+    protected synchronized void reset() {
         int upscaleFactor = getUpscaleFactor();
         if (upscaleFactor > 0) {
             this.updateScale(this.scale + upscaleFactor);
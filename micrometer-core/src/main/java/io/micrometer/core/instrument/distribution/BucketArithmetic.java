@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import io.micrometer.core.annotation.Incubating;
+
+/**
+ * Element-wise arithmetic over arrays of histogram bucket counts, used when taking
+ * snapshots of fixed boundary histograms and merging them. The implementation returned by
+ * {@link #get()} is picked once: when {@code micrometer-java21} is on the class path and
+ * the {@code jdk.incubator.vector} module is available, bucket counts are added and
+ * accumulated with SIMD instructions, and otherwise with plain loops.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public abstract class BucketArithmetic {
+
+    private static final String VECTOR_IMPLEMENTATION = "io.micrometer.java21.instrument.distribution"
+            + ".VectorBucketArithmetic";
+
+    private static final BucketArithmetic SCALAR = new Scalar();
+
+    private static final BucketArithmetic INSTANCE = load();
+
+    protected BucketArithmetic() {
+    }
+
+    /**
+     * @return The fastest implementation available in this JVM.
+     */
+    public static BucketArithmetic get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return The implementation with plain loops, available everywhere.
+     */
+    public static BucketArithmetic scalar() {
+        return SCALAR;
+    }
+
+    private static BucketArithmetic load() {
+        try {
+            return (BucketArithmetic) Class.forName(VECTOR_IMPLEMENTATION).getDeclaredConstructor().newInstance();
+        }
+        catch (ClassNotFoundException e) {
+            return SCALAR;
+        }
+        catch (Exception | LinkageError e) {
+            // typically the jdk.incubator.vector module was not added to the JVM
+            InternalLogger logger = InternalLoggerFactory.getInstance(BucketArithmetic.class);
+            logger.debug("Vectorized bucket arithmetic is not available, using plain loops", e);
+            return SCALAR;
+        }
+    }
+
+    /**
+     * Add counts to others, element by element.
+     * @param target The counts to add to, {@code target[i] += source[i]}.
+     * @param source The counts to add.
+     * @param length The number of counts to add, from the start of both arrays.
+     */
+    public abstract void add(long[] target, long[] source, int length);
+
+    /**
+     * Replace each count with the sum of itself and the counts before it.
+     * @param counts The counts to accumulate in place.
+     * @param length The number of counts to accumulate, from the start of the array.
+     */
+    public abstract void cumulativeSum(long[] counts, int length);
+
+    private static final class Scalar extends BucketArithmetic {
+
+        @Override
+        public void add(long[] target, long[] source, int length) {
+            for (int i = 0; i < length; i++) {
+                target[i] += source[i];
+            }
+        }
+
+        @Override
+        public void cumulativeSum(long[] counts, int length) {
+            long sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += counts[i];
+                counts[i] = sum;
+            }
+        }
+
+    }
+
+}
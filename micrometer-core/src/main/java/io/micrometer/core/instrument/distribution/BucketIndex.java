@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps a value to the least bucket that is greater than or equal to it.
+ * <p>
+ * Positive values are first narrowed down by the position of their highest set bit: a
+ * table gives, for each power of 2, the least bucket greater than or equal to it, so the
+ * bucket of a value lies between the entries for the powers of 2 around it. The buckets
+ * of {@link PercentileHistogramBuckets} are geometric, with at most 6 bounds between two
+ * powers of 2, so the remaining range is scanned in constant time. Ranges holding many
+ * buckets, as happens with many service level objectives, are binary searched.
+ * <p>
+ * Histograms with the same bucket boundaries, typically every timer with the same
+ * distribution statistic config, share an index and its boundaries through
+ * {@link #shared(double[])}, along with a {@link CountAtBucket} with a count of zero per
+ * bucket, which snapshots use for empty buckets.
+ */
+final class BucketIndex {
+
+    /**
+     * Distinct bucket layouts beyond this many are not shared, so that meters with
+     * generated boundaries cannot grow the cache without bound.
+     */
+    private static final int MAX_SHARED_LAYOUTS = 1024;
+
+    private static final Map<Layout, BucketIndex> SHARED = new ConcurrentHashMap<>();
+
+    /**
+     * Widest range of buckets between two powers of 2 that is scanned linearly rather
+     * than binary searched.
+     */
+    private static final int MAX_SCAN = 8;
+
+    private final double[] buckets;
+
+    /**
+     * Index of the least bucket greater than or equal to {@code 2^i}, or the number of
+     * buckets if there is none.
+     */
+    private final int[] leastBucketAtPowerOf2 = new int[64];
+
+    private final CountAtBucket[] zeroCounts;
+
+    /**
+     * @param buckets sorted bucket boundaries
+     */
+    BucketIndex(double[] buckets) {
+        this.buckets = buckets;
+        for (int i = 0; i < leastBucketAtPowerOf2.length; i++) {
+            leastBucketAtPowerOf2[i] = binarySearch(0, buckets.length, Math.scalb(1.0, i));
+        }
+        this.zeroCounts = new CountAtBucket[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            zeroCounts[i] = new CountAtBucket(buckets[i], 0);
+        }
+    }
+
+    /**
+     * The index of a bucket layout, shared with other histograms that have the same
+     * boundaries.
+     * @param buckets sorted bucket boundaries, which must not be modified afterwards
+     */
+    static BucketIndex shared(double[] buckets) {
+        Layout layout = new Layout(buckets);
+        BucketIndex index = SHARED.get(layout);
+        if (index == null) {
+            index = new BucketIndex(buckets);
+            if (SHARED.size() < MAX_SHARED_LAYOUTS) {
+                BucketIndex existing = SHARED.putIfAbsent(layout, index);
+                if (existing != null) {
+                    index = existing;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Shared bucket boundaries. They must not be modified.
+     */
+    double[] getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * A count of zero at a bucket, shared by all snapshots of histograms with this
+     * layout.
+     */
+    CountAtBucket zeroCount(int index) {
+        return zeroCounts[index];
+    }
+
+    /**
+     * @param index index of a bucket
+     * @param count count at the bucket
+     * @return the count at the bucket, without allocating it if it is zero
+     */
+    CountAtBucket countAtBucket(int index, double count) {
+        return count == 0 ? zeroCounts[index] : new CountAtBucket(buckets[index], count);
+    }
+
+    /**
+     * A new array of counts of zero at every bucket.
+     */
+    CountAtBucket[] emptyCounts() {
+        return zeroCounts.clone();
+    }
+
+    /**
+     * The least bucket that is greater than or equal to a value. Returns -1 if the value
+     * is greater than the highest bucket.
+     */
+    int indexOf(long value) {
+        if (value <= 0) {
+            return leastLessThanOrEqualTo((double) value);
+        }
+        int powerOf2 = 63 - Long.numberOfLeadingZeros(value);
+        int low = leastBucketAtPowerOf2[powerOf2];
+        int high = leastBucketAtPowerOf2[powerOf2 + 1];
+        double valueToRecord = (double) value;
+        int index;
+        if (high - low > MAX_SCAN) {
+            index = binarySearch(low, high, valueToRecord);
+        }
+        else {
+            index = low;
+            while (index < high && buckets[index] < valueToRecord) {
+                index++;
+            }
+        }
+        return index < buckets.length ? index : -1;
+    }
+
+    /**
+     * The least bucket that is greater than or equal to a value, found by binary search
+     * over all buckets. Returns -1 if the value is greater than the highest bucket.
+     */
+    int leastLessThanOrEqualTo(double valueToRecord) {
+        int index = binarySearch(0, buckets.length, valueToRecord);
+        return index < buckets.length ? index : -1;
+    }
+
+    /**
+     * The least bucket in {@code [low, high)} that is greater than or equal to a value, or
+     * {@code high} if there is none.
+     */
+    private int binarySearch(int low, int high, double valueToRecord) {
+        high--;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double bucket = buckets[mid];
+            if (bucket < valueToRecord)
+                low = mid + 1;
+            else if (bucket > valueToRecord)
+                high = mid - 1;
+            else
+                return mid; // exact match
+        }
+        return low;
+    }
+
+    private static final class Layout {
+
+        private final double[] buckets;
+
+        private final int hashCode;
+
+        Layout(double[] buckets) {
+            this.buckets = buckets;
+            this.hashCode = Arrays.hashCode(buckets);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Layout && Arrays.equals(buckets, ((Layout) o).buckets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
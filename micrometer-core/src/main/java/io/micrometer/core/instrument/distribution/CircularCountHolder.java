@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
 import java.util.Arrays;
 
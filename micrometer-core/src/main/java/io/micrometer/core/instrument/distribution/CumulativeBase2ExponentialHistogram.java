@@ -13,8 +13,9 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import org.jspecify.annotations.Nullable;
 
 import java.util.concurrent.TimeUnit;
@@ -24,9 +25,10 @@ import java.util.concurrent.TimeUnit;
  * value.
  *
  * @author Lenin Jaganathan
- * @since 1.14.0
+ * @since 1.17.0
  */
-class CumulativeBase2ExponentialHistogram extends Base2ExponentialHistogram {
+@Incubating(since = "1.17.0")
+public class CumulativeBase2ExponentialHistogram extends Base2ExponentialHistogram {
 
     private ExponentialHistogramSnapShot exponentialHistogramSnapShot;
 
@@ -43,9 +45,9 @@ class CumulativeBase2ExponentialHistogram extends Base2ExponentialHistogram {
      * @param baseUnit - an Optional TimeUnit. If set to a non-null unit, the recorded
      * values are converted to this unit.
      */
-    CumulativeBase2ExponentialHistogram(final int maxScale, final int maxBucketsCount, final double zeroThreshold,
-            @Nullable final TimeUnit baseUnit, @Nullable OtlpExemplarSamplerFactory exemplarSamplerFactory) {
-        super(maxScale, maxBucketsCount, zeroThreshold, baseUnit, exemplarSamplerFactory);
+    public CumulativeBase2ExponentialHistogram(final int maxScale, final int maxBucketsCount,
+            final double zeroThreshold, @Nullable final TimeUnit baseUnit) {
+        super(maxScale, maxBucketsCount, zeroThreshold, baseUnit);
         this.exponentialHistogramSnapShot = DefaultExponentialHistogramSnapShot.getEmptySnapshotForScale(maxScale);
     }
 
@@ -55,7 +57,7 @@ class CumulativeBase2ExponentialHistogram extends Base2ExponentialHistogram {
     }
 
     @Override
-    synchronized void takeExponentialHistogramSnapShot() {
+    protected synchronized void takeExponentialHistogramSnapShot() {
         this.exponentialHistogramSnapShot = getCurrentValuesSnapshot();
     }
 
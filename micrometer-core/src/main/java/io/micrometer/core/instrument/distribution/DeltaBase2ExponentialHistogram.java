@@ -13,8 +13,9 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.step.StepValue;
 import org.jspecify.annotations.Nullable;
@@ -27,9 +28,10 @@ import java.util.function.Supplier;
  * Internally, this uses {@link StepValue} to roll the HistogramSnapshot for every step.
  *
  * @author Lenin Jaganathan
- * @since 1.14.0
+ * @since 1.17.0
  */
-class DeltaBase2ExponentialHistogram extends Base2ExponentialHistogram {
+@Incubating(since = "1.17.0")
+public class DeltaBase2ExponentialHistogram extends Base2ExponentialHistogram {
 
     private final StepExponentialHistogramSnapShot stepExponentialHistogramSnapShot;
 
@@ -50,10 +52,9 @@ class DeltaBase2ExponentialHistogram extends Base2ExponentialHistogram {
      * @param clock - clock to be used.
      * @param stepMillis - window for delta aggregation
      */
-    DeltaBase2ExponentialHistogram(final int maxScale, final int maxBucketsCount, final double zeroThreshold,
-            @Nullable final TimeUnit baseUnit, final Clock clock, final long stepMillis,
-            @Nullable OtlpExemplarSamplerFactory exemplarSamplerFactory) {
-        super(maxScale, maxBucketsCount, zeroThreshold, baseUnit, exemplarSamplerFactory);
+    public DeltaBase2ExponentialHistogram(final int maxScale, final int maxBucketsCount, final double zeroThreshold,
+            @Nullable final TimeUnit baseUnit, final Clock clock, final long stepMillis) {
+        super(maxScale, maxBucketsCount, zeroThreshold, baseUnit);
         this.stepExponentialHistogramSnapShot = new StepExponentialHistogramSnapShot(clock, stepMillis, maxScale);
     }
 
@@ -63,7 +64,7 @@ class DeltaBase2ExponentialHistogram extends Base2ExponentialHistogram {
     }
 
     @Override
-    synchronized void takeExponentialHistogramSnapShot() {
+    protected synchronized void takeExponentialHistogramSnapShot() {
         stepExponentialHistogramSnapShot.poll();
     }
 
@@ -15,6 +15,7 @@
  */
 package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.config.InvalidConfigurationException;
 import io.micrometer.core.instrument.internal.Mergeable;
 import org.jspecify.annotations.Nullable;
@@ -53,6 +54,8 @@ public class DistributionStatisticConfig implements Mergeable<DistributionStatis
 
     private @Nullable Integer percentilePrecision;
 
+    private @Nullable PercentileEngine percentileEngine;
+
     private double @Nullable [] serviceLevelObjectives;
 
     private @Nullable Double minimumExpectedValue;
@@ -84,6 +87,7 @@ public class DistributionStatisticConfig implements Mergeable<DistributionStatis
                     this.serviceLevelObjectives == null ? parent.serviceLevelObjectives : this.serviceLevelObjectives)
             .percentilePrecision(
                     this.percentilePrecision == null ? parent.percentilePrecision : this.percentilePrecision)
+            .percentileEngine(this.percentileEngine == null ? parent.percentileEngine : this.percentileEngine)
             .minimumExpectedValue(
                     this.minimumExpectedValue == null ? parent.minimumExpectedValue : this.minimumExpectedValue)
             .maximumExpectedValue(
@@ -149,6 +153,17 @@ public class DistributionStatisticConfig implements Mergeable<DistributionStatis
         return percentilePrecision;
     }
 
+    /**
+     * How percentiles computed by Micrometer are estimated.
+     * @return The percentile engine, or {@code null} for the default
+     * {@link PercentileEngine#HDR_HISTOGRAM}.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    public @Nullable PercentileEngine getPercentileEngine() {
+        return percentileEngine;
+    }
+
     /**
      * The minimum value that the meter is expected to observe. Sets a lower bound on
      * histogram buckets that are shipped to monitoring systems that support aggregable
@@ -288,6 +303,22 @@ public class DistributionStatisticConfig implements Mergeable<DistributionStatis
             return this;
         }
 
+        /**
+         * Determines how percentiles computed by Micrometer are estimated.
+         * {@link PercentileEngine#SKETCH} and {@link PercentileEngine#BASE2_EXPONENTIAL}
+         * take a fraction of the memory of the default
+         * {@link PercentileEngine#HDR_HISTOGRAM}, which matters with many meters
+         * publishing percentiles.
+         * @param percentileEngine The percentile engine.
+         * @return This builder.
+         * @since 1.17.0
+         */
+        @Incubating(since = "1.17.0")
+        public Builder percentileEngine(@Nullable PercentileEngine percentileEngine) {
+            config.percentileEngine = percentileEngine;
+            return this;
+        }
+
         /**
          * Publish at a minimum a histogram containing your defined Service Level
          * Objective (SLO) boundaries. When used in conjunction with
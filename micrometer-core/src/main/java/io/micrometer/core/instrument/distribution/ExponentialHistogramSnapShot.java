@@ -13,16 +13,21 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
 
 import java.util.Collections;
 import java.util.List;
 
 /**
+ * The buckets of a {@link Base2ExponentialHistogram}.
+ *
  * @author Lenin Jaganathan
- * @since 1.14.0
+ * @since 1.17.0
  */
-interface ExponentialHistogramSnapShot {
+@Incubating(since = "1.17.0")
+public interface ExponentialHistogramSnapShot {
 
     /**
      * Returns the scale of the ExponentialHistogram.
@@ -69,15 +74,15 @@ interface ExponentialHistogramSnapShot {
             this.bucketCounts = bucketCounts;
         }
 
-        int offset() {
+        public int offset() {
             return offset;
         }
 
-        List<Long> bucketCounts() {
+        public List<Long> bucketCounts() {
             return bucketCounts;
         }
 
-        boolean isEmpty() {
+        public boolean isEmpty() {
             return bucketCounts.isEmpty();
         }
 
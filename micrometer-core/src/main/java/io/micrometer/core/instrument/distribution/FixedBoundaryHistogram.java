@@ -15,14 +15,48 @@
  */
 package io.micrometer.core.instrument.distribution;
 
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * Counts of values per bucket. Counts are striped like a
+ * {@link java.util.concurrent.atomic.LongAdder}: there is a single set of counts until
+ * concurrent recordings contend on it. Each thread records to the set picked by its probe,
+ * a random number that is rehashed when the thread contends, so that it moves to another
+ * set. The number of sets doubles, up to the number of processors, only when a thread
+ * still contends after moving. Sets are padded so that they do not share cache lines.
+ * Reads sum the sets.
+ */
 class FixedBoundaryHistogram {
 
-    final AtomicLongArray values;
+    private static final int MAX_STRIPES = Math.min(64,
+            Math.max(1, Integer.highestOneBit((Runtime.getRuntime().availableProcessors() - 1) << 1)));
+
+    /**
+     * Unused counts after those of each stripe, so that the counts of two stripes never
+     * share a cache line.
+     */
+    private static final int PADDING = 16;
+
+    private static final BucketArithmetic ARITHMETIC = BucketArithmetic.get();
+
+    /**
+     * The probe of each thread, shared by all histograms like the thread probe of
+     * {@link java.util.concurrent.atomic.LongAdder}, which is not accessible here. Never
+     * zero, so that rehashing never gets stuck.
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> {
+        int probe = ThreadLocalRandom.current().nextInt();
+        return new int[] { probe == 0 ? 1 : probe };
+    });
+
+    private volatile AtomicLongArray[] stripes;
 
     private final double[] buckets;
 
+    private final BucketIndex bucketIndex;
+
     private final boolean isCumulativeBucketCounts;
 
     /**
@@ -33,8 +67,20 @@ class FixedBoundaryHistogram {
      * count of lower buckets and current bucket.
      */
     FixedBoundaryHistogram(double[] buckets, boolean isCumulativeBucketCounts) {
-        this.buckets = buckets;
-        this.values = new AtomicLongArray(buckets.length);
+        this(BucketIndex.shared(buckets), isCumulativeBucketCounts);
+    }
+
+    /**
+     * Creates a FixedBoundaryHistogram which tracks the count of values for each bucket
+     * of an index that may be shared with other histograms.
+     * @param bucketIndex index of sorted bucket boundaries
+     * @param isCumulativeBucketCounts - whether the count values should be cumulative
+     * count of lower buckets and current bucket.
+     */
+    FixedBoundaryHistogram(BucketIndex bucketIndex, boolean isCumulativeBucketCounts) {
+        this.buckets = bucketIndex.getBuckets();
+        this.bucketIndex = bucketIndex;
+        this.stripes = new AtomicLongArray[] { newStripe() };
         this.isCumulativeBucketCounts = isCumulativeBucketCounts;
     }
 
@@ -43,15 +89,84 @@ class FixedBoundaryHistogram {
     }
 
     void reset() {
-        for (int i = 0; i < values.length(); i++) {
-            values.set(i, 0);
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < buckets.length; i++) {
+                stripe.set(i, 0);
+            }
         }
     }
 
     void record(long value) {
-        int index = leastLessThanOrEqualTo((double) value);
+        int index = bucketIndex.indexOf(value);
         if (index > -1)
-            values.incrementAndGet(index);
+            increment(index);
+    }
+
+    private void increment(int index) {
+        AtomicLongArray[] stripes = this.stripes;
+        if (stripes.length == 1 && tryIncrement(stripes[0], index)) {
+            return;
+        }
+        int[] probe = PROBE.get();
+        boolean collided = false;
+        while (!tryIncrement(stripes[probe[0] & (stripes.length - 1)], index)) {
+            AtomicLongArray[] current = this.stripes;
+            if (current != stripes) {
+                stripes = current;
+                collided = false;
+            }
+            else if (!collided || stripes.length >= MAX_STRIPES) {
+                collided = true;
+            }
+            else {
+                addStripes(stripes);
+                stripes = this.stripes;
+                collided = false;
+            }
+            probe[0] = rehash(probe[0]);
+        }
+    }
+
+    private static boolean tryIncrement(AtomicLongArray stripe, int index) {
+        long count = stripe.get(index);
+        return stripe.compareAndSet(index, count, count + 1);
+    }
+
+    /**
+     * Doubles the number of stripes after repeated contention on
+     * {@code contendedStripes}, unless another thread already did.
+     */
+    private synchronized void addStripes(AtomicLongArray[] contendedStripes) {
+        if (stripes == contendedStripes && contendedStripes.length < MAX_STRIPES) {
+            AtomicLongArray[] newStripes = Arrays.copyOf(contendedStripes, contendedStripes.length * 2);
+            for (int i = contendedStripes.length; i < newStripes.length; i++) {
+                newStripes[i] = newStripe();
+            }
+            stripes = newStripes;
+        }
+    }
+
+    private AtomicLongArray newStripe() {
+        return new AtomicLongArray(buckets.length + PADDING);
+    }
+
+    /**
+     * Moves a probe to another stripe with a xorshift, as
+     * {@link java.util.concurrent.atomic.LongAdder} does.
+     */
+    private static int rehash(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+
+    long count(int index) {
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            count += stripe.get(index);
+        }
+        return count;
     }
 
     /**
@@ -60,21 +175,19 @@ class FixedBoundaryHistogram {
      */
     // VisibleForTesting
     int leastLessThanOrEqualTo(double valueToRecord) {
-        int low = 0;
-        int high = buckets.length - 1;
-
-        while (low <= high) {
-            int mid = (low + high) >>> 1;
-            double bucket = buckets[mid];
-            if (bucket < valueToRecord)
-                low = mid + 1;
-            else if (bucket > valueToRecord)
-                high = mid - 1;
-            else
-                return mid; // exact match
-        }
+        return bucketIndex.leastLessThanOrEqualTo(valueToRecord);
+    }
 
-        return low < buckets.length ? low : -1;
+    /**
+     * Passes the count at each of the buckets tracked by this histogram to a visitor.
+     */
+    void visitCountAtBuckets(HistogramVisitor visitor) {
+        long cumulativeCount = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            long valueAtCurrentBucket = count(i);
+            cumulativeCount += valueAtCurrentBucket;
+            visitor.bucket(buckets[i], isCumulativeBucketCounts ? cumulativeCount : valueAtCurrentBucket);
+        }
     }
 
     /**
@@ -82,20 +195,38 @@ class FixedBoundaryHistogram {
      * histogram.
      */
     CountAtBucket[] getCountAtBuckets() {
+        long[] counts = getCounts();
         CountAtBucket[] countAtBuckets = new CountAtBucket[this.buckets.length];
-        long cumulativeCount = 0;
-
         for (int i = 0; i < this.buckets.length; i++) {
-            final long valueAtCurrentBucket = values.get(i);
-            if (isCumulativeBucketCounts) {
-                cumulativeCount += valueAtCurrentBucket;
-                countAtBuckets[i] = new CountAtBucket(buckets[i], cumulativeCount);
-            }
-            else {
-                countAtBuckets[i] = new CountAtBucket(buckets[i], valueAtCurrentBucket);
-            }
+            countAtBuckets[i] = bucketIndex.countAtBucket(i, counts[i]);
         }
         return countAtBuckets;
     }
 
+    /**
+     * Returns the count at each of the buckets, summing the stripes and accumulating the
+     * counts with {@link BucketArithmetic}.
+     */
+    long[] getCounts() {
+        AtomicLongArray[] stripes = this.stripes;
+        long[] counts = read(stripes[0], new long[buckets.length]);
+        if (stripes.length > 1) {
+            long[] stripeCounts = new long[buckets.length];
+            for (int i = 1; i < stripes.length; i++) {
+                ARITHMETIC.add(counts, read(stripes[i], stripeCounts), buckets.length);
+            }
+        }
+        if (isCumulativeBucketCounts) {
+            ARITHMETIC.cumulativeSum(counts, buckets.length);
+        }
+        return counts;
+    }
+
+    private static long[] read(AtomicLongArray stripe, long[] counts) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = stripe.get(i);
+        }
+        return counts;
+    }
+
 }
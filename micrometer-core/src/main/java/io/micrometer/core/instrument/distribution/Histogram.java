@@ -15,6 +15,7 @@
  */
 package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
 
@@ -33,6 +34,19 @@ public interface Histogram extends AutoCloseable {
 
     HistogramSnapshot takeSnapshot(long count, double total, double max);
 
+    /**
+     * Passes the statistics of a snapshot to a visitor rather than returning them.
+     * @param count The count of the snapshot.
+     * @param total The total of the snapshot.
+     * @param max The max of the snapshot.
+     * @param visitor The visitor to pass the snapshot to.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    default void visitSnapshot(long count, double total, double max, HistogramVisitor visitor) {
+        takeSnapshot(count, total, max).visit(visitor);
+    }
+
     @Override
     default void close() {
     }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Variable-length encoding of the non-negative counts of a {@link MergeableHistogram},
+ * seven bits per byte, so that the many small or zero counts of a histogram take a byte
+ * each.
+ */
+final class HistogramEncoding {
+
+    private HistogramEncoding() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length count");
+    }
+
+    static long readCount(DataInput in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0) {
+            throw new IOException("Invalid histogram count " + count);
+        }
+        return count;
+    }
+
+    static int readLength(DataInput in, int maximum) throws IOException {
+        long length = readVarLong(in);
+        if (length < 0 || length > maximum) {
+            throw new IOException("Invalid histogram length " + length);
+        }
+        return (int) length;
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.util.TimeUtils;
 import org.jspecify.annotations.Nullable;
 
@@ -95,6 +96,22 @@ public final class HistogramSnapshot {
         return histogramCounts;
     }
 
+    /**
+     * Passes the statistics of this snapshot to a visitor.
+     * @param visitor The visitor to pass this snapshot to.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    public void visit(HistogramVisitor visitor) {
+        visitor.summary(count, total, max);
+        for (ValueAtPercentile percentileValue : percentileValues) {
+            visitor.percentile(percentileValue.percentile(), percentileValue.value());
+        }
+        for (CountAtBucket countAtBucket : histogramCounts) {
+            visitor.bucket(countAtBucket.bucket(), countAtBucket.count());
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder buf = new StringBuilder();
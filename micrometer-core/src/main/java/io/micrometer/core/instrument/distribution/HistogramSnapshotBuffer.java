@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.instrument.util.TimeUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link HistogramVisitor} that keeps the last snapshot it visited in arrays reused
+ * from one snapshot to the next, so that a registry can publish many histograms one
+ * after the other without allocating per histogram. Not thread-safe.
+ *
+ * <pre>
+ * HistogramSnapshotBuffer buffer = new HistogramSnapshotBuffer();
+ * for (Timer timer : timers) {
+ *     timer.visitSnapshot(buffer);
+ *     for (int i = 0; i &lt; buffer.bucketCount(); i++) {
+ *         write(buffer.bucket(i), buffer.countAtBucket(i));
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public final class HistogramSnapshotBuffer implements HistogramVisitor {
+
+    private long count;
+
+    private double total;
+
+    private double max;
+
+    private double[] percentiles = new double[4];
+
+    private double[] percentileValues = new double[4];
+
+    private int percentileCount;
+
+    private double[] buckets = new double[16];
+
+    private double[] countsAtBuckets = new double[16];
+
+    private int bucketCount;
+
+    @Override
+    public void summary(long count, double total, double max) {
+        this.count = count;
+        this.total = total;
+        this.max = max;
+        this.percentileCount = 0;
+        this.bucketCount = 0;
+    }
+
+    @Override
+    public void percentile(double percentile, double value) {
+        if (percentileCount == percentiles.length) {
+            percentiles = Arrays.copyOf(percentiles, percentileCount * 2);
+            percentileValues = Arrays.copyOf(percentileValues, percentileCount * 2);
+        }
+        percentiles[percentileCount] = percentile;
+        percentileValues[percentileCount++] = value;
+    }
+
+    @Override
+    public void bucket(double bucket, double count) {
+        if (bucketCount == buckets.length) {
+            buckets = Arrays.copyOf(buckets, bucketCount * 2);
+            countsAtBuckets = Arrays.copyOf(countsAtBuckets, bucketCount * 2);
+        }
+        buckets[bucketCount] = bucket;
+        countsAtBuckets[bucketCount++] = count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double total() {
+        return total;
+    }
+
+    public double total(TimeUnit unit) {
+        return TimeUtils.nanosToUnit(total, unit);
+    }
+
+    public double max() {
+        return max;
+    }
+
+    public double max(TimeUnit unit) {
+        return TimeUtils.nanosToUnit(max, unit);
+    }
+
+    public int percentileCount() {
+        return percentileCount;
+    }
+
+    /**
+     * @param index index of the percentile, less than {@link #percentileCount()}
+     * @return the percentile, from 0 to 1
+     */
+    public double percentile(int index) {
+        return percentiles[index];
+    }
+
+    public double percentileValue(int index) {
+        return percentileValues[index];
+    }
+
+    public int bucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * @param index index of the bucket, less than {@link #bucketCount()}
+     * @return the upper bound of the bucket
+     */
+    public double bucket(int index) {
+        return buckets[index];
+    }
+
+    public double countAtBucket(int index) {
+        return countsAtBuckets[index];
+    }
+
+}
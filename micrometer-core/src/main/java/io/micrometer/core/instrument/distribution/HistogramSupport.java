@@ -15,6 +15,7 @@
  */
 package io.micrometer.core.instrument.distribution;
 
+import io.micrometer.core.annotation.Incubating;
 import io.micrometer.core.instrument.Meter;
 
 public interface HistogramSupport extends Meter {
@@ -41,4 +42,16 @@ public interface HistogramSupport extends Meter {
         return takeSnapshot();
     }
 
+    /**
+     * Passes the statistics of a snapshot to a visitor rather than returning them, which
+     * built-in meters do without allocating. Reuse a {@link HistogramSnapshotBuffer} to
+     * publish many meters with little garbage.
+     * @param visitor The visitor to pass the snapshot to.
+     * @since 1.17.0
+     */
+    @Incubating(since = "1.17.0")
+    default void visitSnapshot(HistogramVisitor visitor) {
+        takeSnapshot().visit(visitor);
+    }
+
 }
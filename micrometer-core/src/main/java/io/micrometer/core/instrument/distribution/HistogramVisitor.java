@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+
+/**
+ * Receives the distribution statistics of a snapshot one value at a time, as an
+ * alternative to {@link HistogramSnapshot} that does not allocate arrays of
+ * {@link ValueAtPercentile} and {@link CountAtBucket}. Values are in the same units as
+ * in a {@link HistogramSnapshot}: nanoseconds for timers.
+ * <p>
+ * {@link #summary(long, double, double)} is called first, then
+ * {@link #percentile(double, double)} for each percentile and
+ * {@link #bucket(double, double)} for each histogram bucket, in increasing order. A
+ * visitor must not take snapshots itself and should return quickly, as it may be called
+ * while the histogram is held for the snapshot.
+ *
+ * @see HistogramSupport#visitSnapshot(HistogramVisitor)
+ * @see HistogramSnapshotBuffer
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public interface HistogramVisitor {
+
+    default void summary(long count, double total, double max) {
+    }
+
+    /**
+     * @param percentile The percentile, from 0 to 1.
+     * @param value The value at the percentile.
+     */
+    default void percentile(double percentile, double value) {
+    }
+
+    /**
+     * @param bucket The upper bound of the bucket.
+     * @param count The count at the bucket, cumulative or not as in
+     * {@link HistogramSnapshot#histogramCounts()}.
+     */
+    default void bucket(double bucket, double count) {
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts of values in logarithmically sized buckets, from which percentiles are estimated
+ * with a bounded relative error, as in DDSketch. A value {@code v} falls in the bucket
+ * {@code ceil(log(v) / log(gamma))} where {@code gamma = (1 + a) / (1 - a)} for a relative
+ * accuracy {@code a}, and the value reported for a bucket is within {@code a} of any
+ * value in it.
+ * <p>
+ * Counts are kept in chunks of 32 buckets that are only allocated once a value falls in
+ * them, and only the chunks between the lowest and the highest allocated ones are
+ * referenced, so memory is proportional to the range of values actually recorded, usually
+ * a few chunks, whatever the accuracy. Recording is lock-free once the chunk of a value
+ * is allocated.
+ */
+final class LogBucketSketch {
+
+    private static final int CHUNK_SHIFT = 5;
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Values below this are counted as zero.
+     */
+    private static final double MIN_INDEXABLE = 0x1p-32;
+
+    /**
+     * Values above this are counted in the bucket of this value.
+     */
+    private static final double MAX_INDEXABLE = 0x1p64;
+
+    private final double gamma;
+
+    private final double logGamma;
+
+    /**
+     * Index of the bucket of {@link #MIN_INDEXABLE}, the first bucket of chunk 0.
+     */
+    private final int minIndex;
+
+    /**
+     * Replaced, while holding the lock of this sketch, when a value falls in a chunk that
+     * is not allocated yet.
+     */
+    private volatile Chunks chunks = Chunks.EMPTY;
+
+    private final AtomicLong zeroCount = new AtomicLong();
+
+    LogBucketSketch(double relativeAccuracy) {
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.minIndex = index(MIN_INDEXABLE);
+    }
+
+    /**
+     * The relative accuracy for a number of significant decimal digits, which gives
+     * errors comparable to an HdrHistogram with the same precision.
+     */
+    static double relativeAccuracy(int digitsOfPrecision) {
+        return 0.5 * Math.pow(10, -digitsOfPrecision);
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    void record(double value) {
+        if (!(value >= MIN_INDEXABLE)) {
+            zeroCount.incrementAndGet();
+            return;
+        }
+        int bucket = index(Math.min(value, MAX_INDEXABLE)) - minIndex;
+        int chunkIndex = bucket >>> CHUNK_SHIFT;
+        AtomicLongArray chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunk = allocate(chunkIndex);
+        }
+        chunk.incrementAndGet(bucket & CHUNK_MASK);
+    }
+
+    private synchronized AtomicLongArray allocate(int chunkIndex) {
+        Chunks chunks = this.chunks;
+        AtomicLongArray chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunk = new AtomicLongArray(CHUNK_SIZE);
+            this.chunks = chunks.with(chunkIndex, chunk);
+        }
+        return chunk;
+    }
+
+    void reset() {
+        zeroCount.set(0);
+        for (AtomicLongArray chunk : chunks.array) {
+            if (chunk != null) {
+                for (int j = 0; j < CHUNK_SIZE; j++) {
+                    chunk.set(j, 0);
+                }
+            }
+        }
+    }
+
+    long count() {
+        long count = zeroCount.get();
+        for (AtomicLongArray chunk : chunks.array) {
+            if (chunk != null) {
+                for (int j = 0; j < CHUNK_SIZE; j++) {
+                    count += chunk.get(j);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Passes the estimated count of values at or below each of the ascending bounds to a
+     * consumer, in a single pass over the buckets. As in
+     * {@link Base2ExponentialHistogram}, the bucket holding a bound is split
+     * log-linearly at the bound, rather than counting the values of the bucket that are
+     * above the bound, which would overestimate the count by up to a bucket.
+     * @param bounds Ascending bounds.
+     * @param cumulative Whether to pass the count at or below each bound, rather than the
+     * count between the previous bound and this one.
+     * @param consumer Receives the index of each bound and its count.
+     */
+    void forEachCountAtOrBelow(double[] bounds, boolean cumulative,
+            AbstractTimeWindowHistogram.BucketCountConsumer consumer) {
+        Chunks chunks = this.chunks;
+        long zeros = zeroCount.get();
+        int bucket = chunks.first << CHUNK_SHIFT;
+        int end = (chunks.first + chunks.array.length) << CHUNK_SHIFT;
+        long countBelowBucket = 0;
+        double previous = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            double count = zeros;
+            if (bounds[i] >= MIN_INDEXABLE) {
+                // the bucket b holds the values whose position is in (b - 1, b]
+                double position = bounds[i] >= MAX_INDEXABLE ? Double.POSITIVE_INFINITY
+                        : Math.log(bounds[i]) / logGamma - minIndex;
+                while (bucket < end && bucket <= position) {
+                    countBelowBucket += chunks.countAt(bucket++);
+                }
+                count += countBelowBucket;
+                if (bucket < end && position > bucket - 1) {
+                    count += chunks.countAt(bucket) * (position - (bucket - 1));
+                }
+            }
+            consumer.accept(i, cumulative ? count : count - previous);
+            previous = count;
+        }
+    }
+
+    /**
+     * @param percentile The percentile, from 0 to 100.
+     * @return The estimated value at the percentile, or 0 if nothing was recorded.
+     */
+    double valueAtPercentile(double percentile) {
+        long total = count();
+        // rounded as HdrHistogram does
+        long rank = Math.max(1, (long) (percentile / 100 * total + 0.5));
+        long count = zeroCount.get();
+        if (count >= rank) {
+            return 0;
+        }
+        Chunks chunks = this.chunks;
+        double value = 0;
+        for (int i = 0; i < chunks.array.length; i++) {
+            AtomicLongArray chunk = chunks.array[i];
+            if (chunk != null) {
+                for (int j = 0; j < CHUNK_SIZE; j++) {
+                    long bucketCount = chunk.get(j);
+                    if (bucketCount > 0) {
+                        count += bucketCount;
+                        value = value(((chunks.first + i) << CHUNK_SHIFT) + j);
+                        if (count >= rank) {
+                            return value;
+                        }
+                    }
+                }
+            }
+        }
+        // values reset concurrently
+        return value;
+    }
+
+    /**
+     * The value reported for a bucket, whose relative distance to the bounds of the
+     * bucket is the relative accuracy.
+     */
+    private double value(int bucket) {
+        return 2 * Math.pow(gamma, bucket + minIndex) / (gamma + 1);
+    }
+
+    void outputSummary(PrintStream printStream, double bucketScaling) {
+        printStream.format("%14s %10s\n\n", "Value", "Count");
+        long zeros = zeroCount.get();
+        if (zeros > 0) {
+            printStream.format(Locale.US, "%14.3f %10d\n", 0.0, zeros);
+        }
+        Chunks chunks = this.chunks;
+        for (int i = 0; i < chunks.array.length; i++) {
+            AtomicLongArray chunk = chunks.array[i];
+            if (chunk != null) {
+                for (int j = 0; j < CHUNK_SIZE; j++) {
+                    long bucketCount = chunk.get(j);
+                    if (bucketCount > 0) {
+                        printStream.format(Locale.US, "%14.3f %10d\n",
+                                value(((chunks.first + i) << CHUNK_SHIFT) + j) / bucketScaling, bucketCount);
+                    }
+                }
+            }
+        }
+        printStream.write('\n');
+    }
+
+    /**
+     * The allocated chunks, from chunk {@link #first} on. Never modified once published,
+     * so that recording never waits for another chunk to be allocated.
+     */
+    private static final class Chunks {
+
+        static final Chunks EMPTY = new Chunks(0, new AtomicLongArray[0]);
+
+        final int first;
+
+        final @Nullable AtomicLongArray[] array;
+
+        private Chunks(int first, @Nullable AtomicLongArray[] array) {
+            this.first = first;
+            this.array = array;
+        }
+
+        @Nullable AtomicLongArray get(int chunkIndex) {
+            int i = chunkIndex - first;
+            return i >= 0 && i < array.length ? array[i] : null;
+        }
+
+        long countAt(int bucket) {
+            AtomicLongArray chunk = array[(bucket >>> CHUNK_SHIFT) - first];
+            return chunk == null ? 0 : chunk.get(bucket & CHUNK_MASK);
+        }
+
+        Chunks with(int chunkIndex, AtomicLongArray chunk) {
+            if (array.length == 0) {
+                return new Chunks(chunkIndex, new AtomicLongArray[] { chunk });
+            }
+            int newFirst = Math.min(first, chunkIndex);
+            int newLast = Math.max(first + array.length - 1, chunkIndex);
+            AtomicLongArray[] newArray = new AtomicLongArray[newLast - newFirst + 1];
+            System.arraycopy(array, 0, newArray, first - newFirst, array.length);
+            newArray[chunkIndex - newFirst] = chunk;
+            return new Chunks(newFirst, newArray);
+        }
+
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+import org.jspecify.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.readCount;
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.readLength;
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.writeVarLong;
+
+/**
+ * A {@link MergeableHistogram} with base-2 exponential buckets, as in the OpenTelemetry
+ * exponential histogram data model. At scale {@code s}, the bucket with index {@code i}
+ * holds the values in {@code (2^(i * 2^-s), 2^((i + 1) * 2^-s)]}, and values up to the
+ * zero threshold are counted separately. Only positive values are supported, as Micrometer
+ * only records those into exponential histograms.
+ * <p>
+ * Histograms at different scales are merged at the lower of the two scales, where each
+ * bucket of the higher scale falls into exactly one bucket, so merging only loses the
+ * resolution that one of the histograms did not have. When the merged histogram would
+ * have more than 2^20 buckets, the scale is lowered further until it does not, as
+ * {@link Base2ExponentialHistogram} does when recording. Percentiles are estimated from
+ * the geometric middle of the bucket they fall into, within a relative error of about
+ * {@code 2^(2^-s - 1) - 1}.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public final class MergeableExponentialHistogram implements MergeableHistogram<MergeableExponentialHistogram> {
+
+    static final byte FORMAT = 2;
+
+    private static final int MIN_SCALE = -10;
+
+    private static final int MAX_SCALE = 20;
+
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    private static final long[] NO_COUNTS = new long[0];
+
+    private final int scale;
+
+    private final double zeroThreshold;
+
+    private final long zeroCount;
+
+    /**
+     * Index of the bucket counted in {@code counts[0]}.
+     */
+    private final int offset;
+
+    private final long[] counts;
+
+    private final long count;
+
+    private final double total;
+
+    private final double max;
+
+    private MergeableExponentialHistogram(int scale, double zeroThreshold, long zeroCount, int offset, long[] counts,
+            long count, double total, double max) {
+        this.scale = scale;
+        this.zeroThreshold = zeroThreshold;
+        this.zeroCount = zeroCount;
+        this.offset = offset;
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Create a histogram from the buckets of an exponential histogram.
+     * @param scale The scale of the buckets, from -10 to 20.
+     * @param zeroThreshold The largest value counted in the zero bucket.
+     * @param zeroCount The number of values up to the zero threshold.
+     * @param offset The index of the first bucket in {@code counts}.
+     * @param counts The number of values in each bucket, from the bucket at
+     * {@code offset} on.
+     * @param total The sum of the values recorded.
+     * @param max The largest value recorded.
+     * @return A histogram with the given buckets.
+     * @throws IllegalArgumentException If the scale is out of range, a count is negative,
+     * or the buckets lie outside the indexes of positive doubles at the scale.
+     */
+    public static MergeableExponentialHistogram of(int scale, double zeroThreshold, long zeroCount, int offset,
+            long[] counts, double total, double max) {
+        if (scale < MIN_SCALE || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale must be between " + MIN_SCALE + " and " + MAX_SCALE);
+        }
+        if (!isIndexRange(scale, offset, counts.length)) {
+            throw new IllegalArgumentException("buckets " + offset + " to " + ((long) offset + counts.length - 1)
+                    + " are out of range at scale " + scale);
+        }
+        if (zeroCount < 0) {
+            throw new IllegalArgumentException("zero count must not be negative");
+        }
+        long count = zeroCount;
+        for (long countAtBucket : counts) {
+            if (countAtBucket < 0) {
+                throw new IllegalArgumentException("bucket counts must not be negative");
+            }
+            count += countAtBucket;
+        }
+        return new MergeableExponentialHistogram(scale, zeroThreshold, zeroCount, offset, counts.clone(), count,
+                total, max);
+    }
+
+    /**
+     * Create a histogram from the buckets of a {@link Base2ExponentialHistogram}.
+     * @param snapshot The buckets, as from
+     * {@link Base2ExponentialHistogram#getLatestExponentialHistogramSnapshot()}.
+     * @param total The sum of the values recorded.
+     * @param max The largest value recorded.
+     * @return A histogram with the given buckets.
+     */
+    public static MergeableExponentialHistogram of(ExponentialHistogramSnapShot snapshot, double total, double max) {
+        ExponentialHistogramSnapShot.ExponentialBuckets positive = snapshot.positive();
+        long[] counts = new long[positive.bucketCounts().size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = positive.bucketCounts().get(i);
+        }
+        return of(snapshot.scale(), snapshot.zeroThreshold(), snapshot.zeroCount(), positive.offset(), counts, total,
+                max);
+    }
+
+    static MergeableExponentialHistogram readBody(DataInput in) throws IOException {
+        int scale = in.readByte();
+        if (scale < MIN_SCALE || scale > MAX_SCALE) {
+            throw new IOException("Invalid histogram scale " + scale);
+        }
+        double zeroThreshold = in.readDouble();
+        long zeroCount = readCount(in);
+        int offset = in.readInt();
+        long[] counts = new long[readLength(in, MAX_BUCKETS)];
+        if (!isIndexRange(scale, offset, counts.length)) {
+            throw new IOException("Histogram buckets from " + offset + " are out of range at scale " + scale);
+        }
+        long count = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = readCount(in);
+            count += counts[i];
+            if (count < 0) {
+                throw new IOException("Histogram bucket counts overflow");
+            }
+        }
+        double total = in.readDouble();
+        double max = in.readDouble();
+        return new MergeableExponentialHistogram(scale, zeroThreshold, zeroCount, offset, counts, count, total, max);
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public double total() {
+        return total;
+    }
+
+    @Override
+    public double max() {
+        return max;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    public double zeroThreshold() {
+        return zeroThreshold;
+    }
+
+    public long zeroCount() {
+        return zeroCount;
+    }
+
+    /**
+     * @return The index of the first bucket.
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * @return The number of buckets from {@link #offset()} on.
+     */
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * @param index The position of a bucket from {@link #offset()}, from 0 to
+     * {@link #bucketCount()} excluded.
+     * @return The number of values in the bucket.
+     */
+    public long countAtBucket(int index) {
+        return counts[index];
+    }
+
+    @Override
+    public MergeableExponentialHistogram merge(MergeableExponentialHistogram other) {
+        if (Double.compare(zeroThreshold, other.zeroThreshold) != 0) {
+            throw new IllegalArgumentException("Cannot merge histograms with different zero thresholds: "
+                    + zeroThreshold + " and " + other.zeroThreshold);
+        }
+        int mergedScale = Math.min(scale, other.scale);
+        long[] merged = NO_COUNTS;
+        int mergedOffset = 0;
+        if (counts.length > 0 || other.counts.length > 0) {
+            int first = Integer.MAX_VALUE;
+            int last = Integer.MIN_VALUE;
+            if (counts.length > 0) {
+                first = offset >> (scale - mergedScale);
+                last = (offset + counts.length - 1) >> (scale - mergedScale);
+            }
+            if (other.counts.length > 0) {
+                first = Math.min(first, other.offset >> (other.scale - mergedScale));
+                last = Math.max(last, (other.offset + other.counts.length - 1) >> (other.scale - mergedScale));
+            }
+            while ((long) last - first + 1 > MAX_BUCKETS && mergedScale > MIN_SCALE) {
+                first >>= 1;
+                last >>= 1;
+                mergedScale--;
+            }
+            merged = new long[last - first + 1];
+            mergedOffset = first;
+            addCounts(merged, mergedOffset, offset, counts, scale - mergedScale);
+            addCounts(merged, mergedOffset, other.offset, other.counts, other.scale - mergedScale);
+        }
+        return new MergeableExponentialHistogram(mergedScale, zeroThreshold, zeroCount + other.zeroCount,
+                mergedOffset, merged, count + other.count, total + other.total, Math.max(max, other.max));
+    }
+
+    /**
+     * Whether the buckets lie within the indexes of positive doubles, from
+     * {@link Double#MIN_VALUE} at about {@code -1074 * 2^s} to {@link Double#MAX_VALUE} at
+     * about {@code 1024 * 2^s}, which also keeps the indexes of merged buckets within int
+     * range.
+     */
+    private static boolean isIndexRange(int scale, int offset, int bucketCount) {
+        long limit = (long) Math.ceil(Math.scalb(1075.0, scale));
+        return bucketCount == 0 || (offset >= -limit && (long) offset + bucketCount - 1 <= limit);
+    }
+
+    private static void addCounts(long[] merged, int mergedOffset, int offset, long[] counts, int shift) {
+        for (int i = 0; i < counts.length; i++) {
+            merged[((offset + i) >> shift) - mergedOffset] += counts[i];
+        }
+    }
+
+    @Override
+    public double valueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.min(count, Math.max(1, (long) Math.ceil(percentile * count)));
+        if (rank <= zeroCount) {
+            return 0;
+        }
+        long below = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            below += counts[i];
+            if (below >= rank) {
+                return Math.min(Math.pow(2, Math.scalb(offset + i + 0.5, -scale)), max);
+            }
+        }
+        // counts add up to less than the count, which only a corrupt histogram does
+        return max;
+    }
+
+    /**
+     * @param index The index of a bucket.
+     * @return The upper bound of the bucket.
+     */
+    private double upperBound(int index) {
+        return Math.pow(2, Math.scalb(index + 1.0, -scale));
+    }
+
+    @Override
+    public HistogramSnapshot toSnapshot(double... percentiles) {
+        ValueAtPercentile[] percentileValues = new ValueAtPercentile[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            percentileValues[i] = new ValueAtPercentile(percentiles[i], valueAtPercentile(percentiles[i]));
+        }
+        CountAtBucket[] countsAtBuckets = new CountAtBucket[counts.length + 1];
+        long cumulative = zeroCount;
+        countsAtBuckets[0] = new CountAtBucket(zeroThreshold, cumulative);
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            countsAtBuckets[i + 1] = new CountAtBucket(upperBound(offset + i), cumulative);
+        }
+        return new HistogramSnapshot(count, total, max, percentileValues, countsAtBuckets, null);
+    }
+
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(FORMAT);
+        out.writeByte(scale);
+        out.writeDouble(zeroThreshold);
+        writeVarLong(out, zeroCount);
+        out.writeInt(offset);
+        writeVarLong(out, counts.length);
+        for (long countAtBucket : counts) {
+            writeVarLong(out, countAtBucket);
+        }
+        out.writeDouble(total);
+        out.writeDouble(max);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MergeableExponentialHistogram that = (MergeableExponentialHistogram) o;
+        return scale == that.scale && zeroCount == that.zeroCount && offset == that.offset && count == that.count
+                && Double.compare(zeroThreshold, that.zeroThreshold) == 0 && Double.compare(total, that.total) == 0
+                && Double.compare(max, that.max) == 0 && Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * scale + offset) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "MergeableExponentialHistogram{scale=" + scale + ", count=" + count + ", total=" + total + ", max="
+                + max + ", zeroThreshold=" + zeroThreshold + ", zeroCount=" + zeroCount + ", offset=" + offset
+                + ", counts=" + Arrays.toString(counts) + '}';
+    }
+
+}
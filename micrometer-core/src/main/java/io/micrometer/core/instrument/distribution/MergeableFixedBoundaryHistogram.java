@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+import org.jspecify.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.readCount;
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.readLength;
+import static io.micrometer.core.instrument.distribution.HistogramEncoding.writeVarLong;
+
+/**
+ * A {@link MergeableHistogram} with fixed bucket boundaries, such as the
+ * service level objectives and percentile histogram buckets of a timer or distribution
+ * summary. Only histograms with the same boundaries can be merged; merging them is exact.
+ * <p>
+ * Percentiles are estimated by linear interpolation within the bucket the percentile
+ * falls into, and values above the last boundary are estimated from the maximum.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public final class MergeableFixedBoundaryHistogram implements MergeableHistogram<MergeableFixedBoundaryHistogram> {
+
+    static final byte FORMAT = 1;
+
+    private static final int MAX_BUCKETS = 1 << 16;
+
+    /**
+     * Finite upper bounds of the buckets, in increasing order.
+     */
+    private final double[] buckets;
+
+    /**
+     * Non-cumulative count of each bucket, followed by the count of values above the last
+     * bucket.
+     */
+    private final long[] counts;
+
+    private final long count;
+
+    private final double total;
+
+    private final double max;
+
+    private MergeableFixedBoundaryHistogram(double[] buckets, long[] counts, long count, double total, double max) {
+        this.buckets = buckets;
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Create a histogram from a snapshot of a timer or distribution summary with
+     * histogram buckets. Values of timers stay in nanoseconds.
+     * <p>
+     * The count of the histogram is the sum of the bucket counts. The values above the
+     * last finite bucket are taken from the infinity bucket of the snapshot if it has
+     * one, and otherwise from the difference between the count of the snapshot and the
+     * bucket counts. The latter only holds when the count and the buckets cover the same
+     * values, as they do for cumulative meters but not for step meters, whose count
+     * covers the last step and whose buckets cover the distribution expiry; snapshots
+     * of step meters need an infinity bucket.
+     * @param snapshot The snapshot.
+     * @param cumulativeBucketCounts Whether the count at each bucket of the snapshot
+     * includes the counts of the buckets below it, as it does for most registries.
+     * @return A histogram with the buckets and counts of the snapshot.
+     * @throws IllegalArgumentException If the bucket counts are negative, which they are
+     * when non-cumulative counts are read as cumulative, or add up to more than the count
+     * of a snapshot without an infinity bucket.
+     */
+    public static MergeableFixedBoundaryHistogram of(HistogramSnapshot snapshot, boolean cumulativeBucketCounts) {
+        CountAtBucket[] countsAtBuckets = snapshot.histogramCounts();
+        int bucketCount = countsAtBuckets.length;
+        boolean infinityBucket = bucketCount > 0 && countsAtBuckets[bucketCount - 1].isPositiveInf();
+        if (infinityBucket) {
+            bucketCount--;
+        }
+        double[] buckets = new double[bucketCount];
+        long[] counts = new long[bucketCount + 1];
+        long counted = 0;
+        long previous = 0;
+        for (int i = 0; i < countsAtBuckets.length; i++) {
+            long countAtBucket = (long) countsAtBuckets[i].count();
+            long count = cumulativeBucketCounts ? countAtBucket - previous : countAtBucket;
+            if (count < 0) {
+                throw new IllegalArgumentException("bucket counts must not be negative");
+            }
+            if (i < bucketCount) {
+                buckets[i] = countsAtBuckets[i].bucket();
+            }
+            counts[i] = count;
+            previous = countAtBucket;
+            counted += count;
+        }
+        if (!infinityBucket) {
+            counts[bucketCount] = snapshot.count() - counted;
+            if (counts[bucketCount] < 0) {
+                throw new IllegalArgumentException("bucket counts add up to more than the count of the snapshot");
+            }
+            counted = snapshot.count();
+        }
+        return new MergeableFixedBoundaryHistogram(buckets, counts, counted, snapshot.total(), snapshot.max());
+    }
+
+    static MergeableFixedBoundaryHistogram readBody(DataInput in) throws IOException {
+        int bucketCount = readLength(in, MAX_BUCKETS);
+        double[] buckets = new double[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = in.readDouble();
+            if (i > 0 && !(buckets[i] > buckets[i - 1])) {
+                throw new IOException("Histogram buckets are not in increasing order");
+            }
+        }
+        long[] counts = new long[bucketCount + 1];
+        long counted = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = readCount(in);
+            counted += counts[i];
+            if (counted < 0) {
+                throw new IOException("Histogram bucket counts overflow");
+            }
+        }
+        long count = readCount(in);
+        if (count != counted) {
+            throw new IOException("Histogram count " + count + " differs from its bucket counts " + counted);
+        }
+        double total = in.readDouble();
+        double max = in.readDouble();
+        return new MergeableFixedBoundaryHistogram(buckets, counts, count, total, max);
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public double total() {
+        return total;
+    }
+
+    @Override
+    public double max() {
+        return max;
+    }
+
+    /**
+     * @return The number of finite buckets.
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * @param index The index of a bucket, from 0 to {@link #bucketCount()} excluded.
+     * @return The upper bound of the bucket.
+     */
+    public double bucket(int index) {
+        return buckets[index];
+    }
+
+    /**
+     * @param index The index of a bucket, from 0 to {@link #bucketCount()} included for
+     * the values above the last bucket.
+     * @return The number of values in the bucket, excluding those in the buckets below.
+     */
+    public long countAtBucket(int index) {
+        return counts[index];
+    }
+
+    @Override
+    public MergeableFixedBoundaryHistogram merge(MergeableFixedBoundaryHistogram other) {
+        if (!Arrays.equals(buckets, other.buckets)) {
+            throw new IllegalArgumentException("Cannot merge histograms with different buckets: "
+                    + Arrays.toString(buckets) + " and " + Arrays.toString(other.buckets));
+        }
+        long[] merged = counts.clone();
+        BucketArithmetic.get().add(merged, other.counts, merged.length);
+        return new MergeableFixedBoundaryHistogram(buckets, merged, count + other.count, total + other.total,
+                Math.max(max, other.max));
+    }
+
+    @Override
+    public double valueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.min(count, Math.max(1, (long) Math.ceil(percentile * count)));
+        long below = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (below + counts[i] >= rank) {
+                if (i == buckets.length) {
+                    return max;
+                }
+                double upper = buckets[i];
+                double lower = i == 0 ? Math.min(0, upper) : buckets[i - 1];
+                double value = lower + (upper - lower) * (rank - below) / counts[i];
+                return Math.min(value, max);
+            }
+            below += counts[i];
+        }
+        // counts add up to less than the count, which only a corrupt histogram does
+        return max;
+    }
+
+    @Override
+    public HistogramSnapshot toSnapshot(double... percentiles) {
+        ValueAtPercentile[] percentileValues = new ValueAtPercentile[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            percentileValues[i] = new ValueAtPercentile(percentiles[i], valueAtPercentile(percentiles[i]));
+        }
+        CountAtBucket[] countsAtBuckets = new CountAtBucket[buckets.length];
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += counts[i];
+            countsAtBuckets[i] = new CountAtBucket(buckets[i], cumulative);
+        }
+        return new HistogramSnapshot(count, total, max, percentileValues, countsAtBuckets, null);
+    }
+
+    @Override
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(FORMAT);
+        writeVarLong(out, buckets.length);
+        for (double bucket : buckets) {
+            out.writeDouble(bucket);
+        }
+        for (long countAtBucket : counts) {
+            writeVarLong(out, countAtBucket);
+        }
+        writeVarLong(out, count);
+        out.writeDouble(total);
+        out.writeDouble(max);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MergeableFixedBoundaryHistogram that = (MergeableFixedBoundaryHistogram) o;
+        return count == that.count && Double.compare(total, that.total) == 0 && Double.compare(max, that.max) == 0
+                && Arrays.equals(buckets, that.buckets) && Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(buckets) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "MergeableFixedBoundaryHistogram{count=" + count + ", total=" + total + ", max=" + max + ", buckets="
+                + Arrays.toString(buckets) + ", counts=" + Arrays.toString(counts) + '}';
+    }
+
+}
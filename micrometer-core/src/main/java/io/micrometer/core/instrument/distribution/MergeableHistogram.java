@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * An immutable, pre-aggregated distribution that can be combined with others of the same
+ * kind without losing more than the resolution of its buckets, and written to and read
+ * from a compact binary form. This lets distributions recorded in many registries or
+ * processes be shipped to one place, merged, and published as a single distribution with
+ * percentiles computed over all of them.
+ * <p>
+ * Unlike {@link io.micrometer.core.instrument.internal.Mergeable}, where one side
+ * overrides the other, merging adds up the counts of both sides.
+ *
+ * @param <T> The kind of histogram this can be merged with.
+ * @see MergeableFixedBoundaryHistogram
+ * @see MergeableExponentialHistogram
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public interface MergeableHistogram<T extends MergeableHistogram<T>> {
+
+    /**
+     * Read a histogram written by {@link #writeTo(DataOutput)}.
+     * @param in The input to read from.
+     * @return The histogram read, of the kind that was written.
+     * @throws IOException If the input cannot be read or does not hold a histogram.
+     */
+    static MergeableHistogram<?> readFrom(DataInput in) throws IOException {
+        byte format = in.readByte();
+        switch (format) {
+            case MergeableFixedBoundaryHistogram.FORMAT:
+                return MergeableFixedBoundaryHistogram.readBody(in);
+            case MergeableExponentialHistogram.FORMAT:
+                return MergeableExponentialHistogram.readBody(in);
+            default:
+                throw new IOException("Unknown histogram format " + format);
+        }
+    }
+
+    /**
+     * @return The number of values recorded.
+     */
+    long count();
+
+    /**
+     * @return The sum of the values recorded.
+     */
+    double total();
+
+    /**
+     * @return The largest value recorded, or 0 if none were.
+     */
+    double max();
+
+    /**
+     * Combine this histogram with another one.
+     * @param other The histogram to combine with.
+     * @return A new histogram holding the values of both.
+     * @throws IllegalArgumentException If the histograms cannot be combined, for
+     * instance fixed boundary histograms with different buckets.
+     */
+    T merge(T other);
+
+    /**
+     * Estimate the value at a percentile from the bucket the value falls into.
+     * @param percentile The percentile, from 0 to 1.
+     * @return The estimated value, or 0 if the histogram is empty.
+     */
+    double valueAtPercentile(double percentile);
+
+    /**
+     * Convert to a snapshot with cumulative bucket counts, so that a merged histogram can
+     * be published like any other.
+     * @param percentiles The percentiles to estimate, from 0 to 1.
+     * @return A snapshot of this histogram.
+     */
+    HistogramSnapshot toSnapshot(double... percentiles);
+
+    /**
+     * Write this histogram in a form that {@link #readFrom(DataInput)} can read back.
+     * @param out The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    void writeTo(DataOutput out) throws IOException;
+
+}
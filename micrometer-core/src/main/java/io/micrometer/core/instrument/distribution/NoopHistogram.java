@@ -35,4 +35,9 @@ public class NoopHistogram implements Histogram {
         return HistogramSnapshot.empty(count, total, max);
     }
 
+    @Override
+    public void visitSnapshot(long count, double total, double max, HistogramVisitor visitor) {
+        visitor.summary(count, total, max);
+    }
+
 }
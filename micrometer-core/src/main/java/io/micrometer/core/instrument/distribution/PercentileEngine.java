@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+
+/**
+ * How percentiles computed by Micrometer are estimated, see
+ * {@link DistributionStatisticConfig.Builder#percentileEngine(PercentileEngine)}.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public enum PercentileEngine {
+
+    /**
+     * HdrHistogram recorders, the default. Values are recorded with the configured
+     * {@link DistributionStatisticConfig#getPercentilePrecision() precision} over their
+     * whole dynamic range, which takes several to tens of KB per meter.
+     */
+    HDR_HISTOGRAM,
+
+    /**
+     * Logarithmic buckets as in DDSketch, holding only the buckets of the values seen.
+     * Percentiles are estimated within a relative error of 5% with a precision of 1
+     * digit, 0.5% with 2 digits, and so on, in a fraction of the memory of
+     * {@link #HDR_HISTOGRAM} for precisions of 1 or 2 digits.
+     */
+    SKETCH,
+
+    /**
+     * The auto-rescaling buckets of a {@link Base2ExponentialHistogram}, at most 160 per
+     * meter, as in OpenTelemetry exponential histograms. The resolution depends on the
+     * range of the values recorded rather than on the
+     * {@link DistributionStatisticConfig#getPercentilePrecision() precision}: buckets are
+     * about 4.5% wide for values spanning three orders of magnitude, and twice as wide
+     * each time that range is squared. Values up to the
+     * {@link DistributionStatisticConfig#getMinimumExpectedValueAsDouble() minimum
+     * expected value} are counted as zeros.
+     */
+    BASE2_EXPONENTIAL
+
+}
@@ -32,18 +32,24 @@ import java.util.function.Supplier;
  */
 public class StepBucketHistogram extends StepValue<CountAtBucket[]> implements Histogram {
 
+    private final BucketIndex bucketIndex;
+
     private final FixedBoundaryHistogram fixedBoundaryHistogram;
 
     public StepBucketHistogram(Clock clock, long stepMillis, DistributionStatisticConfig distributionStatisticConfig,
             boolean supportsAggregablePercentiles, boolean isCumulativeBucketCounts) {
-        super(clock, stepMillis, getEmptyCounts(
-                getBucketsFromDistributionStatisticConfig(distributionStatisticConfig, supportsAggregablePercentiles)));
-
-        this.fixedBoundaryHistogram = new FixedBoundaryHistogram(
-                getBucketsFromDistributionStatisticConfig(distributionStatisticConfig, supportsAggregablePercentiles),
+        this(clock, stepMillis, BucketIndex.shared(
+                getBucketsFromDistributionStatisticConfig(distributionStatisticConfig, supportsAggregablePercentiles)),
                 isCumulativeBucketCounts);
     }
 
+    private StepBucketHistogram(Clock clock, long stepMillis, BucketIndex bucketIndex,
+            boolean isCumulativeBucketCounts) {
+        super(clock, stepMillis, bucketIndex.emptyCounts());
+        this.bucketIndex = bucketIndex;
+        this.fixedBoundaryHistogram = new FixedBoundaryHistogram(bucketIndex, isCumulativeBucketCounts);
+    }
+
     @Override
     public void recordLong(long value) {
         fixedBoundaryHistogram.record(value);
@@ -59,6 +65,14 @@ public class StepBucketHistogram extends StepValue<CountAtBucket[]> implements H
         return new HistogramSnapshot(count, total, max, null, poll(), null);
     }
 
+    @Override
+    public void visitSnapshot(long count, double total, double max, HistogramVisitor visitor) {
+        visitor.summary(count, total, max);
+        for (CountAtBucket countAtBucket : poll()) {
+            visitor.bucket(countAtBucket.bucket(), countAtBucket.count());
+        }
+    }
+
     @Override
     protected Supplier<CountAtBucket[]> valueSupplier() {
         return () -> {
@@ -73,15 +87,7 @@ public class StepBucketHistogram extends StepValue<CountAtBucket[]> implements H
 
     @Override
     protected CountAtBucket[] noValue() {
-        return getEmptyCounts(this.fixedBoundaryHistogram.getBuckets());
-    }
-
-    private static CountAtBucket[] getEmptyCounts(double[] buckets) {
-        CountAtBucket[] countAtBuckets = new CountAtBucket[buckets.length];
-        for (int i = 0; i < buckets.length; i++) {
-            countAtBuckets[i] = new CountAtBucket(buckets[i], 0);
-        }
-        return countAtBuckets;
+        return bucketIndex.emptyCounts();
     }
 
     private static double[] getBucketsFromDistributionStatisticConfig(
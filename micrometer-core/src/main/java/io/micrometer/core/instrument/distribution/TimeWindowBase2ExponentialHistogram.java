@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.instrument.Clock;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * <b>NOTE: This class is intended for internal use as an implementation detail. You
+ * should not compile against its API. Please contact the project maintainers if you need
+ * this as public API.</b>
+ * <p>
+ * A histogram implementation that supports the computation of percentiles by Micrometer
+ * for publishing to a monitoring system, with the auto-rescaling buckets of a
+ * {@link Base2ExponentialHistogram} rather than HdrHistogram. It is used for
+ * {@link PercentileEngine#BASE2_EXPONENTIAL}.
+ * <p>
+ * Each value is recorded to every exponential histogram of the ring buffer, as with
+ * {@link TimeWindowSketchHistogram}, so percentiles and histogram bucket counts are read
+ * from the current one. Each holds at most {@value #MAX_BUCKETS} buckets, starting at
+ * scale {@value #MAX_SCALE} and lowering it as the range of the values recorded grows.
+ * Values up to the minimum expected value are counted as zeros.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public class TimeWindowBase2ExponentialHistogram
+        extends AbstractTimeWindowHistogram<CumulativeBase2ExponentialHistogram, Void> {
+
+    static final int MAX_SCALE = 20;
+
+    static final int MAX_BUCKETS = 160;
+
+    private final double minimumExpectedValue;
+
+    private final BucketIndex histogramBuckets;
+
+    private final boolean isCumulativeBucketCounts;
+
+    public TimeWindowBase2ExponentialHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
+            boolean supportsAggregablePercentiles) {
+        this(clock, distributionStatisticConfig, supportsAggregablePercentiles, true);
+    }
+
+    /**
+     * @param clock clock used for time windowing
+     * @param distributionStatisticConfig distribution config to use with this histogram
+     * @param supportsAggregablePercentiles whether the backend receiving this histogram
+     * supports aggregating histograms to estimate percentiles
+     * @param isCumulativeBucketCounts whether histogram bucket counts are cumulative
+     */
+    public TimeWindowBase2ExponentialHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
+            boolean supportsAggregablePercentiles, boolean isCumulativeBucketCounts) {
+        super(clock, distributionStatisticConfig, CumulativeBase2ExponentialHistogram.class);
+        this.minimumExpectedValue = Objects
+            .requireNonNull(distributionStatisticConfig.getMinimumExpectedValueAsDouble());
+        this.isCumulativeBucketCounts = isCumulativeBucketCounts;
+        this.histogramBuckets = BucketIndex.shared(distributionStatisticConfig
+            .getHistogramBuckets(supportsAggregablePercentiles)
+            .stream()
+            .filter(Objects::nonNull)
+            .mapToDouble(Double::doubleValue)
+            .toArray());
+        initRingBuffer();
+    }
+
+    @Override
+    CumulativeBase2ExponentialHistogram newBucket() {
+        return new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS, minimumExpectedValue, null);
+    }
+
+    @Override
+    void recordLong(CumulativeBase2ExponentialHistogram bucket, long value) {
+        bucket.recordLong(value);
+    }
+
+    @Override
+    void recordDouble(CumulativeBase2ExponentialHistogram bucket, double value) {
+        bucket.recordDouble(value);
+    }
+
+    @Override
+    void resetBucket(CumulativeBase2ExponentialHistogram bucket) {
+        bucket.reset();
+    }
+
+    @Override
+    Void newAccumulatedHistogram(CumulativeBase2ExponentialHistogram[] ringBuffer) {
+        return null;
+    }
+
+    @Override
+    void accumulate() {
+        // do nothing -- the current histogram holds every value of the time window
+    }
+
+    @Override
+    void resetAccumulatedHistogram() {
+    }
+
+    @Override
+    double valueAtPercentile(double percentile) {
+        return currentHistogram().valueAtPercentile(percentile);
+    }
+
+    @Override
+    CountAtBucket[] countsAtBuckets() {
+        return countsAtBuckets(histogramBuckets);
+    }
+
+    @Override
+    void visitCountsAtBuckets(HistogramVisitor visitor) {
+        visitCountsAtBuckets(histogramBuckets, visitor);
+    }
+
+    @Override
+    void forEachCountAtBucket(double[] buckets, BucketCountConsumer consumer) {
+        currentHistogram().forEachCountAtOrBelow(buckets, isCumulativeBucketCounts, consumer);
+    }
+
+    @Override
+    void outputSummary(PrintStream printStream, double bucketScaling) {
+        CumulativeBase2ExponentialHistogram histogram = currentHistogram();
+        ExponentialHistogramSnapShot snapshot;
+        synchronized (histogram) {
+            snapshot = histogram.getCurrentValuesSnapshot();
+        }
+        printStream.format("%14s %10s\n\n", "Value", "Count");
+        if (snapshot.zeroCount() > 0) {
+            printStream.format(Locale.US, "%14.3f %10d\n", 0.0, snapshot.zeroCount());
+        }
+        int index = snapshot.positive().offset();
+        for (long bucketCount : snapshot.positive().bucketCounts()) {
+            if (bucketCount > 0) {
+                double upperBound = Math.pow(2, Math.scalb((double) index + 1, -snapshot.scale()));
+                printStream.format(Locale.US, "%14.3f %10d\n", upperBound / bucketScaling, bucketCount);
+            }
+            index++;
+        }
+        printStream.write('\n');
+    }
+
+}
@@ -35,6 +35,8 @@ public class TimeWindowFixedBoundaryHistogram extends AbstractTimeWindowHistogra
 
     private final double[] buckets;
 
+    private final BucketIndex bucketIndex;
+
     private final boolean isCumulativeBucketCounts;
 
     /**
@@ -96,13 +98,15 @@ public class TimeWindowFixedBoundaryHistogram extends AbstractTimeWindowHistogra
             histogramBuckets.add(Double.POSITIVE_INFINITY);
         }
 
-        this.buckets = histogramBuckets.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).toArray();
+        this.bucketIndex = BucketIndex
+            .shared(histogramBuckets.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).toArray());
+        this.buckets = bucketIndex.getBuckets();
         initRingBuffer();
     }
 
     @Override
     FixedBoundaryHistogram newBucket() {
-        return new FixedBoundaryHistogram(this.buckets, isCumulativeBucketCounts);
+        return new FixedBoundaryHistogram(this.bucketIndex, isCumulativeBucketCounts);
     }
 
     @Override
@@ -144,13 +148,38 @@ public class TimeWindowFixedBoundaryHistogram extends AbstractTimeWindowHistogra
         return currentHistogram().getCountAtBuckets();
     }
 
+    @Override
+    void visitCountsAtBuckets(HistogramVisitor visitor) {
+        currentHistogram().visitCountAtBuckets(visitor);
+    }
+
+    /**
+     * Values are only known up to the fixed boundaries, so each of the given buckets is
+     * passed the counts of the boundaries at or below it. The counts are exact for
+     * buckets that are among the fixed boundaries.
+     */
+    @Override
+    void forEachCountAtBucket(double[] buckets, BucketCountConsumer consumer) {
+        FixedBoundaryHistogram currentHistogram = currentHistogram();
+        long cumulativeCount = 0;
+        int boundary = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            long count = 0;
+            while (boundary < this.buckets.length && this.buckets[boundary] <= buckets[i]) {
+                count += currentHistogram.count(boundary++);
+            }
+            cumulativeCount += count;
+            consumer.accept(i, isCumulativeBucketCounts ? cumulativeCount : count);
+        }
+    }
+
     @Override
     void outputSummary(PrintStream printStream, double bucketScaling) {
         printStream.format("%14s %10s\n\n", "Bucket", "TotalCount");
 
         FixedBoundaryHistogram currentHistogram = currentHistogram();
         for (int i = 0; i < buckets.length; i++) {
-            printStream.format(Locale.US, "%14.1f %10d\n", buckets[i] / bucketScaling, currentHistogram.values.get(i));
+            printStream.format(Locale.US, "%14.1f %10d\n", buckets[i] / bucketScaling, currentHistogram.count(i));
         }
 
         printStream.write('\n');
@@ -21,12 +21,16 @@ import io.micrometer.core.instrument.util.TimeUtils;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.function.DoubleSupplier;
 
 /**
  * An implementation of a decaying maximum for a distribution based on a configurable ring
  * buffer.
+ * <p>
+ * Each slot of the ring buffer holds the maximum recorded during one rotation interval.
+ * Recording only updates the current slot, and polling takes the maximum over all slots.
+ * Slots are {@link LongAccumulator}s, which stripe updates across cells under contention.
  *
  * @author Jon Schneider
  */
@@ -39,9 +43,9 @@ public class TimeWindowMax {
 
     private final long durationBetweenRotatesMillis;
 
-    private final AtomicLong[] ringBuffer;
+    private final LongAccumulator[] ringBuffer;
 
-    private int currentBucket;
+    private volatile int currentBucket;
 
     private volatile long lastRotateTimestampMillis;
 
@@ -60,9 +64,9 @@ public class TimeWindowMax {
         this.lastRotateTimestampMillis = clock.wallTime();
         this.currentBucket = 0;
 
-        this.ringBuffer = new AtomicLong[bufferLength];
+        this.ringBuffer = new LongAccumulator[bufferLength];
         for (int i = 0; i < bufferLength; i++) {
-            this.ringBuffer[i] = new AtomicLong();
+            this.ringBuffer[i] = new LongAccumulator(Math::max, 0);
         }
     }
 
@@ -84,9 +88,7 @@ public class TimeWindowMax {
 
     private void record(long sample) {
         rotate();
-        for (AtomicLong max : ringBuffer) {
-            updateMax(max, sample);
-        }
+        ringBuffer[currentBucket].accumulate(sample);
     }
 
     /**
@@ -94,7 +96,7 @@ public class TimeWindowMax {
      * @return A max scaled to the base unit of time. For use by timer implementations.
      */
     public double poll(TimeUnit timeUnit) {
-        return poll(() -> TimeUtils.nanosToUnit((double) ringBuffer[currentBucket].get(), timeUnit));
+        return poll(() -> TimeUtils.nanosToUnit((double) max(), timeUnit));
     }
 
     private double poll(DoubleSupplier maxSupplier) {
@@ -108,7 +110,19 @@ public class TimeWindowMax {
      * @return An unscaled max. For use by distribution summary implementations.
      */
     public double poll() {
-        return poll(() -> Double.longBitsToDouble(ringBuffer[currentBucket].get()));
+        return poll(() -> Double.longBitsToDouble(max()));
+    }
+
+    /**
+     * Non-negative doubles order the same as their raw long bits, so this is also the
+     * maximum of samples recorded as doubles.
+     */
+    private long max() {
+        long max = 0;
+        for (LongAccumulator slot : ringBuffer) {
+            max = Math.max(max, slot.get());
+        }
+        return max;
     }
 
     /**
@@ -119,14 +133,6 @@ public class TimeWindowMax {
         record(Double.doubleToLongBits(sample));
     }
 
-    private void updateMax(AtomicLong max, long sample) {
-        long curMax;
-        do {
-            curMax = max.get();
-        }
-        while (curMax < sample && !max.compareAndSet(curMax, sample));
-    }
-
     private void rotate() {
         long wallTime = clock.wallTime();
         long timeSinceLastRotateMillis = wallTime - lastRotateTimestampMillis;
@@ -144,8 +150,8 @@ public class TimeWindowMax {
             synchronized (this) {
                 if (timeSinceLastRotateMillis >= durationBetweenRotatesMillis * ringBuffer.length) {
                     // time since last rotation is enough to clear whole ring buffer
-                    for (AtomicLong bufferItem : ringBuffer) {
-                        bufferItem.set(0);
+                    for (LongAccumulator bufferItem : ringBuffer) {
+                        bufferItem.reset();
                     }
                     currentBucket = 0;
                     lastRotateTimestampMillis = wallTime - timeSinceLastRotateMillis % durationBetweenRotatesMillis;
@@ -153,15 +159,19 @@ public class TimeWindowMax {
                 }
 
                 int iterations = 0;
+                int bucket = currentBucket;
                 do {
-                    ringBuffer[currentBucket].set(0);
-                    if (++currentBucket >= ringBuffer.length) {
-                        currentBucket = 0;
+                    // the slot rotated into holds the oldest interval, which leaves the
+                    // window
+                    if (++bucket >= ringBuffer.length) {
+                        bucket = 0;
                     }
+                    ringBuffer[bucket].reset();
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 }
                 while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
+                currentBucket = bucket;
             }
         }
         finally {
@@ -42,7 +42,7 @@ public class TimeWindowPercentileHistogram extends AbstractTimeWindowHistogram<D
 
     private final DoubleHistogram intervalHistogram;
 
-    private final double[] histogramBuckets;
+    private final BucketIndex histogramBuckets;
 
     private final boolean isCumulativeBucketCounts;
 
@@ -71,10 +71,8 @@ public class TimeWindowPercentileHistogram extends AbstractTimeWindowHistogram<D
         if (includeInfinityBucket) {
             monitoredBuckets.add(Double.POSITIVE_INFINITY);
         }
-        histogramBuckets = monitoredBuckets.stream()
-            .filter(Objects::nonNull)
-            .mapToDouble(Double::doubleValue)
-            .toArray();
+        histogramBuckets = BucketIndex
+            .shared(monitoredBuckets.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).toArray());
         initRingBuffer();
     }
 
@@ -126,17 +124,24 @@ public class TimeWindowPercentileHistogram extends AbstractTimeWindowHistogram<D
 
     @Override
     CountAtBucket[] countsAtBuckets() {
+        return countsAtBuckets(histogramBuckets);
+    }
+
+    @Override
+    void visitCountsAtBuckets(HistogramVisitor visitor) {
+        visitCountsAtBuckets(histogramBuckets, visitor);
+    }
+
+    @Override
+    void forEachCountAtBucket(double[] buckets, BucketCountConsumer consumer) {
         double cumulativeCount = 0.0;
         double lowerBoundValue = 0.0;
-        CountAtBucket[] counts = new CountAtBucket[histogramBuckets.length];
-        for (int i = 0; i < counts.length; i++) {
-            double higherBoundValue = histogramBuckets[i];
+        for (int i = 0; i < buckets.length; i++) {
+            double higherBoundValue = buckets[i];
             double count = accumulatedHistogram().getCountBetweenValues(lowerBoundValue, higherBoundValue);
             lowerBoundValue = accumulatedHistogram().nextNonEquivalentValue(higherBoundValue);
-            counts[i] = new CountAtBucket(higherBoundValue,
-                    isCumulativeBucketCounts ? cumulativeCount += count : count);
+            consumer.accept(i, isCumulativeBucketCounts ? cumulativeCount += count : count);
         }
-        return counts;
     }
 
     private int percentilePrecision(DistributionStatisticConfig config) {
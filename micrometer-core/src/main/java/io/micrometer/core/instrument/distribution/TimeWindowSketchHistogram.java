@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.instrument.Clock;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * <b>NOTE: This class is intended for internal use as an implementation detail. You
+ * should not compile against its API. Please contact the project maintainers if you need
+ * this as public API.</b>
+ * <p>
+ * A histogram implementation that supports the computation of percentiles by Micrometer
+ * for publishing to a monitoring system, with logarithmic buckets as in DDSketch rather
+ * than HdrHistogram. It is used for {@link PercentileEngine#SKETCH}.
+ * <p>
+ * Each value is recorded to every sketch of the ring buffer, as with
+ * {@link TimeWindowFixedBoundaryHistogram}, so percentiles are read from the current
+ * sketch without accumulating the others. A sketch only holds the buckets of the values
+ * it has seen, which takes a fraction of the memory of the HdrHistogram recorders of
+ * {@link TimeWindowPercentileHistogram}. Histogram bucket counts are estimated from the
+ * sketch by splitting the sketch bucket holding each histogram bucket bound log-linearly,
+ * so they are not exact for values within the relative accuracy of a bound.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public class TimeWindowSketchHistogram extends AbstractTimeWindowHistogram<LogBucketSketch, Void> {
+
+    private final double relativeAccuracy;
+
+    private final BucketIndex histogramBuckets;
+
+    private final boolean isCumulativeBucketCounts;
+
+    public TimeWindowSketchHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
+            boolean supportsAggregablePercentiles) {
+        this(clock, distributionStatisticConfig, supportsAggregablePercentiles, true);
+    }
+
+    /**
+     * @param clock clock used for time windowing
+     * @param distributionStatisticConfig distribution config to use with this histogram
+     * @param supportsAggregablePercentiles whether the backend receiving this histogram
+     * supports aggregating histograms to estimate percentiles
+     * @param isCumulativeBucketCounts whether histogram bucket counts are cumulative
+     */
+    public TimeWindowSketchHistogram(Clock clock, DistributionStatisticConfig distributionStatisticConfig,
+            boolean supportsAggregablePercentiles, boolean isCumulativeBucketCounts) {
+        super(clock, distributionStatisticConfig, LogBucketSketch.class);
+        Integer percentilePrecision = distributionStatisticConfig.getPercentilePrecision();
+        this.relativeAccuracy = LogBucketSketch.relativeAccuracy(percentilePrecision == null ? 1 : percentilePrecision);
+        this.isCumulativeBucketCounts = isCumulativeBucketCounts;
+        this.histogramBuckets = BucketIndex.shared(distributionStatisticConfig
+            .getHistogramBuckets(supportsAggregablePercentiles)
+            .stream()
+            .filter(Objects::nonNull)
+            .mapToDouble(Double::doubleValue)
+            .toArray());
+        initRingBuffer();
+    }
+
+    @Override
+    LogBucketSketch newBucket() {
+        return new LogBucketSketch(relativeAccuracy);
+    }
+
+    @Override
+    void recordLong(LogBucketSketch bucket, long value) {
+        bucket.record((double) value);
+    }
+
+    @Override
+    void recordDouble(LogBucketSketch bucket, double value) {
+        bucket.record(value);
+    }
+
+    @Override
+    void resetBucket(LogBucketSketch bucket) {
+        bucket.reset();
+    }
+
+    @Override
+    Void newAccumulatedHistogram(LogBucketSketch[] ringBuffer) {
+        return null;
+    }
+
+    @Override
+    void accumulate() {
+        // do nothing -- the current sketch holds every value of the time window
+    }
+
+    @Override
+    void resetAccumulatedHistogram() {
+    }
+
+    @Override
+    double valueAtPercentile(double percentile) {
+        return currentHistogram().valueAtPercentile(percentile);
+    }
+
+    @Override
+    CountAtBucket[] countsAtBuckets() {
+        return countsAtBuckets(histogramBuckets);
+    }
+
+    @Override
+    void visitCountsAtBuckets(HistogramVisitor visitor) {
+        visitCountsAtBuckets(histogramBuckets, visitor);
+    }
+
+    @Override
+    void forEachCountAtBucket(double[] buckets, BucketCountConsumer consumer) {
+        currentHistogram().forEachCountAtOrBelow(buckets, isCumulativeBucketCounts, consumer);
+    }
+
+    @Override
+    void outputSummary(PrintStream printStream, double bucketScaling) {
+        currentHistogram().outputSummary(printStream, bucketScaling);
+    }
+
+}
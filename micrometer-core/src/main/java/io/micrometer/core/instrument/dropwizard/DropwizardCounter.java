@@ -33,6 +33,7 @@ public class DropwizardCounter extends AbstractMeter implements Counter {
 
     @Override
     public void increment(double amount) {
+        markRecorded();
         impl.mark((long) amount);
     }
 
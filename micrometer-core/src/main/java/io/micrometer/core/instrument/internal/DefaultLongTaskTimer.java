@@ -98,6 +98,7 @@ public class DefaultLongTaskTimer extends AbstractMeter implements LongTaskTimer
 
     @Override
     public Sample start() {
+        markRecorded();
         long startTime = clock.monotonicTime();
         SampleImpl sample = new SampleImpl(startTime);
         if (!activeTasks.add(sample)) {
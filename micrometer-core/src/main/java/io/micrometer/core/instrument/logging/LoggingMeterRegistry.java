@@ -116,7 +116,7 @@ public class LoggingMeterRegistry extends StepMeterRegistry {
     @Override
     protected void publish() {
         if (config.enabled()) {
-            getMeters().stream().sorted((m1, m2) -> {
+            getMetersToPublish().stream().sorted((m1, m2) -> {
                 int typeComp = m1.getId().getType().compareTo(m2.getId().getType());
                 if (typeComp == 0) {
                     return m1.getId().getName().compareTo(m2.getId().getName());
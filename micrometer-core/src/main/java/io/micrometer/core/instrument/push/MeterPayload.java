@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.push;
+
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.ipc.http.HttpSender;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The UTF-8 encoded request body of one batch of meters published by
+ * {@link PushMeterRegistry#publishStreaming}. Entries, such as lines or JSON objects, are
+ * encoded straight into a byte array that is reused from batch to batch, between a
+ * prefix and a suffix and separated by a delimiter. No intermediate collection or
+ * concatenated {@link String} of the whole body is built.
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public final class MeterPayload {
+
+    private final String prefix;
+
+    private final String delimiter;
+
+    private final String suffix;
+
+    private byte[] bytes;
+
+    private int size;
+
+    private int entries;
+
+    private int meters;
+
+    MeterPayload(String prefix, String delimiter, String suffix, int initialCapacity) {
+        this.prefix = prefix;
+        this.delimiter = delimiter;
+        this.suffix = suffix;
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+        reset();
+    }
+
+    /**
+     * Add an entry to the body, preceded by the delimiter unless it is the first one.
+     * @param entry The entry to add.
+     * @return This payload.
+     */
+    public MeterPayload add(CharSequence entry) {
+        if (entries++ > 0) {
+            encode(delimiter);
+        }
+        encode(entry);
+        return this;
+    }
+
+    /**
+     * @return The number of meters written to this payload.
+     */
+    public int meterCount() {
+        return meters;
+    }
+
+    /**
+     * @return {@code true} if no entry was added, because the meters written to this
+     * payload produced none.
+     */
+    public boolean isEmpty() {
+        return entries == 0;
+    }
+
+    /**
+     * @return The length of the body in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A copy of the body.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Set the body as the content of a request without copying it. The request has to
+     * be sent before the consumer given to {@link PushMeterRegistry#publishStreaming}
+     * returns, since the buffer of this payload is reused for the next batch.
+     * @param request The request to send the body with.
+     * @param type The value of the "Content-Type" header to add.
+     * @return The request builder.
+     */
+    public HttpSender.Request.Builder writeTo(HttpSender.Request.Builder request, String type) {
+        return request.withContent(type, bytes, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, size, StandardCharsets.UTF_8);
+    }
+
+    void meterWritten() {
+        meters++;
+    }
+
+    void finish() {
+        encode(suffix);
+    }
+
+    void reset() {
+        size = 0;
+        entries = 0;
+        meters = 0;
+        encode(prefix);
+    }
+
+    private void encode(CharSequence chars) {
+        int length = chars.length();
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+                continue;
+            }
+            // up to 4 bytes for this character, and 1 for each remaining one
+            ensureCapacity(size + 4 + length - i - 1);
+            if (c < 0x800) {
+                bytes[size++] = (byte) (0xc0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3f));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                bytes[size++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[size++] = (byte) (0x80 | (codePoint & 0x3f));
+            }
+            else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced as String#getBytes does
+                bytes[size++] = '?';
+            }
+            else {
+                bytes[size++] = (byte) (0xe0 | (c >> 12));
+                bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[size++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+
+}
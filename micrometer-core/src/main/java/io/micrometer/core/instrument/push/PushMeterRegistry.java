@@ -18,12 +18,19 @@ package io.micrometer.core.instrument.push;
 import io.micrometer.common.util.internal.logging.InternalLogger;
 import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.util.MeterPartition;
 import io.micrometer.core.instrument.util.TimeUtils;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 public abstract class PushMeterRegistry extends MeterRegistry {
 
@@ -33,6 +40,9 @@ public abstract class PushMeterRegistry extends MeterRegistry {
     // the next step.
     private static final double PERCENT_RANGE_OF_RANDOM_PUBLISHING_OFFSET = 0.8;
 
+    // Bytes a payload buffer of publishStreaming starts with, grown to fit a batch.
+    private static final int INITIAL_PAYLOAD_CAPACITY = 64 * 1024;
+
     private final PushRegistryConfig config;
 
     private final Semaphore publishingSemaphore = new Semaphore(1);
@@ -41,6 +51,10 @@ public abstract class PushMeterRegistry extends MeterRegistry {
 
     private @Nullable ScheduledExecutorService scheduledExecutorService;
 
+    private ThreadFactory threadFactory = Executors.defaultThreadFactory();
+
+    private @Nullable ExecutorService batchPublishingExecutorService;
+
     protected PushMeterRegistry(PushRegistryConfig config, Clock clock) {
         super(clock);
 
@@ -75,6 +89,264 @@ public abstract class PushMeterRegistry extends MeterRegistry {
         }
     }
 
+    /**
+     * The meters to publish in this step: all the meters of this registry, unless a
+     * subclass leaves some out, as
+     * {@link io.micrometer.core.instrument.step.StepMeterRegistry} does for idle meters.
+     * Implementations of {@link #publish()} should prefer this to {@link #getMeters()}.
+     * @return The meters to publish.
+     * @since 1.17.0
+     */
+    protected List<Meter> getMetersToPublish() {
+        return getMeters();
+    }
+
+    /**
+     * Publish the {@link #getMetersToPublish() meters to publish} in batches of
+     * {@link PushRegistryConfig#batchSize()} meters. Batches are published one after
+     * another on the calling thread, unless {@link PushRegistryConfig#maxInFlightBatches()}
+     * is greater than 1: then up to that many batches are published at the same time on
+     * worker threads, and this method waits up to {@link PushRegistryConfig#batchTimeout()}
+     * for all of them, cancelling the batches not published by then. A batch that throws,
+     * e.g. because the backend cannot be reached, stops the remaining batches from being
+     * published, so that a backend that is down costs one failed request per publication
+     * rather than one per batch, and the exception is rethrown. In both modes, the time
+     * taken by each batch is logged at debug level.
+     * @param batchPublisher publishes one batch of meters; must be thread-safe when
+     * batches are published concurrently
+     * @throws Throwable The exception thrown by the first batch that failed.
+     * @since 1.17.0
+     */
+    protected void publishInBatches(BatchPublisher<List<Meter>> batchPublisher) throws Throwable {
+        List<List<Meter>> batches = new MeterPartition(getMetersToPublish(), config.batchSize());
+        int maxInFlightBatches = config.maxInFlightBatches();
+        if (maxInFlightBatches <= 1 || batches.size() <= 1) {
+            for (List<Meter> batch : batches) {
+                publishBatch(batch, batchPublisher);
+            }
+            return;
+        }
+
+        long deadline = System.nanoTime() + config.batchTimeout().toNanos();
+        ExecutorService executorService = batchPublishingExecutorService(maxInFlightBatches);
+        AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+        List<Future<?>> inFlight = new ArrayList<>(batches.size());
+        List<Integer> meterCounts = new ArrayList<>(batches.size());
+        for (List<Meter> batch : batches) {
+            inFlight.add(submitBatch(executorService, failure, batch, b -> publishBatch(b, batchPublisher), null));
+            meterCounts.add(batch.size());
+        }
+        awaitBatches(inFlight, meterCounts, deadline, failure, 0);
+    }
+
+    /**
+     * Publish the meters of this registry in batches of
+     * {@link PushRegistryConfig#batchSize()} meters, serialized straight into request
+     * bodies. Unlike {@link #publishInBatches}, no list of meters is copied per batch:
+     * meters are visited once and {@code meterWriter} adds their entries to a
+     * {@link MeterPayload}, which is handed to {@code payloadPublisher} once it holds a
+     * batch. Payload buffers are reused from batch to batch, so that memory used by
+     * publishing is bounded by the size of a batch's body rather than by the number of
+     * meters.
+     * <p>
+     * Batches are published as in {@link #publishInBatches}: on the calling thread, or up
+     * to {@link PushRegistryConfig#maxInFlightBatches()} at a time on worker threads,
+     * with one buffer per batch in flight. Writing meters waits for a buffer to be
+     * available, up to the {@link PushRegistryConfig#batchTimeout()} of all batches. A
+     * batch that throws stops the remaining meters from being published, and the
+     * exception is rethrown.
+     * @param prefix The start of each request body.
+     * @param delimiter The separator of entries in a request body.
+     * @param suffix The end of each request body.
+     * @param meterWriter Adds the entries for one meter, if any, to a payload.
+     * @param payloadPublisher Sends one payload. The payload is reused once it returns.
+     * @throws Throwable The exception thrown by the first batch that failed.
+     * @since 1.17.0
+     */
+    protected void publishStreaming(String prefix, String delimiter, String suffix,
+            BiConsumer<Meter, MeterPayload> meterWriter, BatchPublisher<MeterPayload> payloadPublisher)
+            throws Throwable {
+        int batchSize = config.batchSize();
+        int maxInFlightBatches = config.maxInFlightBatches();
+        if (maxInFlightBatches <= 1) {
+            MeterPayload payload = new MeterPayload(prefix, delimiter, suffix, INITIAL_PAYLOAD_CAPACITY);
+            for (Meter meter : getMetersToPublish()) {
+                meterWriter.accept(meter, payload);
+                payload.meterWritten();
+                if (payload.meterCount() >= batchSize) {
+                    publishPayload(payload, payloadPublisher);
+                }
+            }
+            if (payload.meterCount() > 0) {
+                publishPayload(payload, payloadPublisher);
+            }
+            return;
+        }
+
+        long deadline = System.nanoTime() + config.batchTimeout().toNanos();
+        ExecutorService executorService = batchPublishingExecutorService(maxInFlightBatches);
+        AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+        // one buffer per batch in flight, and one being written
+        int maxPayloads = maxInFlightBatches + 1;
+        BlockingQueue<MeterPayload> freePayloads = new ArrayBlockingQueue<>(maxPayloads);
+        int payloads = 1;
+        List<Future<?>> inFlight = new ArrayList<>();
+        List<Integer> meterCounts = new ArrayList<>();
+        List<Meter> meters = getMetersToPublish();
+        int written = 0;
+        MeterPayload payload = new MeterPayload(prefix, delimiter, suffix, INITIAL_PAYLOAD_CAPACITY);
+        try {
+            for (Meter meter : meters) {
+                if (failure.get() != null) {
+                    break;
+                }
+                meterWriter.accept(meter, payload);
+                payload.meterWritten();
+                written++;
+                if (payload.meterCount() >= batchSize) {
+                    meterCounts.add(payload.meterCount());
+                    inFlight.add(submitPayload(executorService, failure, payload, payloadPublisher, freePayloads));
+                    payload = freePayloads.poll();
+                    if (payload == null && payloads < maxPayloads) {
+                        payloads++;
+                    }
+                    else if (payload == null) {
+                        payload = freePayloads.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (payload == null) {
+                            // every buffer is held by a batch that is still in flight
+                            break;
+                        }
+                    }
+                    if (payload == null) {
+                        payload = new MeterPayload(prefix, delimiter, suffix, INITIAL_PAYLOAD_CAPACITY);
+                    }
+                }
+            }
+            if (payload != null && payload.meterCount() > 0 && failure.get() == null) {
+                meterCounts.add(payload.meterCount());
+                inFlight.add(submitPayload(executorService, failure, payload, payloadPublisher, freePayloads));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.forEach(future -> future.cancel(true));
+            return;
+        }
+        awaitBatches(inFlight, meterCounts, deadline, failure, failure.get() == null ? meters.size() - written : 0);
+    }
+
+    private Future<?> submitPayload(ExecutorService executorService, AtomicReference<@Nullable Throwable> failure,
+            MeterPayload payload, BatchPublisher<MeterPayload> payloadPublisher,
+            BlockingQueue<MeterPayload> freePayloads) {
+        return submitBatch(executorService, failure, payload, p -> publishPayload(p, payloadPublisher), () -> {
+            // reset when skipped because an earlier batch failed
+            payload.reset();
+            freePayloads.offer(payload);
+        });
+    }
+
+    /**
+     * Submit the publication of a batch, which is skipped if an earlier batch failed. The
+     * first failure is kept rather than thrown, so that waiting for later batches can
+     * stop as soon as it is seen.
+     */
+    private static <T> Future<?> submitBatch(ExecutorService executorService,
+            AtomicReference<@Nullable Throwable> failure, T batch, BatchPublisher<T> publisher,
+            @Nullable Runnable whenDone) {
+        return executorService.submit(() -> {
+            try {
+                if (failure.get() == null) {
+                    publisher.publish(batch);
+                }
+            }
+            catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+            finally {
+                if (whenDone != null) {
+                    whenDone.run();
+                }
+            }
+        });
+    }
+
+    private void publishPayload(MeterPayload payload, BatchPublisher<MeterPayload> payloadPublisher)
+            throws Throwable {
+        payload.finish();
+        long start = clock.monotonicTime();
+        try {
+            payloadPublisher.publish(payload);
+            logBatchPublished(payload.meterCount(), start);
+        }
+        finally {
+            payload.reset();
+        }
+    }
+
+    private void publishBatch(List<Meter> batch, BatchPublisher<List<Meter>> batchPublisher) throws Throwable {
+        long start = clock.monotonicTime();
+        batchPublisher.publish(batch);
+        logBatchPublished(batch.size(), start);
+    }
+
+    private void logBatchPublished(int meters, long startNanos) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Published a batch of {} meters for {} in {}", meters, getClass().getSimpleName(),
+                    TimeUtils.format(Duration.ofNanos(clock.monotonicTime() - startNanos)));
+        }
+    }
+
+    /**
+     * Wait for the batches in flight until the deadline, cancelling the batches that are
+     * not done by then or once a batch has failed.
+     * @param unsentMeters meters that were not written to a batch because no buffer was
+     * freed before the deadline
+     */
+    private void awaitBatches(List<Future<?>> inFlight, List<Integer> meterCounts, long deadline,
+            AtomicReference<@Nullable Throwable> failure, int unsentMeters) throws Throwable {
+        int timedOutBatches = 0;
+        int timedOutMeters = unsentMeters;
+        for (int i = 0; i < inFlight.size(); i++) {
+            Future<?> batch = inFlight.get(i);
+            if (failure.get() != null) {
+                batch.cancel(true);
+                continue;
+            }
+            try {
+                batch.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            catch (TimeoutException e) {
+                batch.cancel(true);
+                timedOutBatches++;
+                timedOutMeters += meterCounts.get(i);
+            }
+            catch (ExecutionException | CancellationException e) {
+                // batches record their own failure
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                inFlight.forEach(future -> future.cancel(true));
+                return;
+            }
+        }
+        Throwable e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+        if (timedOutMeters > 0) {
+            logger.warn("Timed out after {} publishing {} meters in {} batches for {}",
+                    TimeUtils.format(config.batchTimeout()), timedOutMeters, timedOutBatches,
+                    getClass().getSimpleName());
+        }
+    }
+
+    private synchronized ExecutorService batchPublishingExecutorService(int threads) {
+        if (batchPublishingExecutorService == null) {
+            batchPublishingExecutorService = Executors.newFixedThreadPool(threads, threadFactory);
+        }
+        return batchPublishingExecutorService;
+    }
+
     /**
      * Returns if scheduled publishing of metrics is in progress.
      * @return if scheduled publishing of metrics is in progress
@@ -108,6 +380,7 @@ public abstract class PushMeterRegistry extends MeterRegistry {
         if (config.enabled()) {
             logger.info(startMessage());
 
+            this.threadFactory = threadFactory;
             scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(threadFactory);
             long stepMillis = config.step().toMillis();
             long initialDelayMillis = calculateInitialDelay();
@@ -143,6 +416,12 @@ public abstract class PushMeterRegistry extends MeterRegistry {
             publishSafelyOrSkipIfInProgress();
             waitForInProgressScheduledPublish();
         }
+        synchronized (this) {
+            if (batchPublishingExecutorService != null) {
+                batchPublishingExecutorService.shutdown();
+                batchPublishingExecutorService = null;
+            }
+        }
         super.close();
     }
 
@@ -174,4 +453,24 @@ public abstract class PushMeterRegistry extends MeterRegistry {
         return offsetToStartOfNextStep + 2 + randomOffsetWithinStep;
     }
 
+    /**
+     * Publishes one batch of meters for {@link #publishInBatches} or
+     * {@link #publishStreaming}.
+     *
+     * @param <T> type of the batch
+     * @since 1.17.0
+     */
+    @FunctionalInterface
+    protected interface BatchPublisher<T> {
+
+        /**
+         * Publish one batch.
+         * @param batch The batch to publish.
+         * @throws Throwable If the batch could not be published, which stops the
+         * remaining batches from being published.
+         */
+        void publish(T batch) throws Throwable;
+
+    }
+
 }
@@ -16,6 +16,7 @@
 package io.micrometer.core.instrument.push;
 
 import io.micrometer.core.instrument.config.MeterRegistryConfig;
+import io.micrometer.core.instrument.config.validate.InvalidReason;
 import io.micrometer.core.instrument.config.validate.Validated;
 import io.micrometer.core.ipc.http.HttpSender;
 
@@ -90,6 +91,29 @@ public interface PushRegistryConfig extends MeterRegistryConfig {
         return getInteger(this, "batchSize").orElse(10000);
     }
 
+    /**
+     * Number of batches of {@link #batchSize()} meters that registries publishing in
+     * batches send concurrently, each on a worker thread. With the default of 1, batches
+     * are sent one after another on the publishing thread.
+     * @return The maximum number of batches being sent at the same time.
+     * @since 1.17.0
+     * @see PushMeterRegistry#publishInBatches
+     */
+    default int maxInFlightBatches() {
+        return getInteger(this, "maxInFlightBatches").orElse(1);
+    }
+
+    /**
+     * How long to wait for the batches of one publication sent concurrently, see
+     * {@link #maxInFlightBatches()}, before cancelling the ones not sent yet.
+     * @return The timeout for sending all the batches of one publication. The default is
+     * the {@link #step()}.
+     * @since 1.17.0
+     */
+    default Duration batchTimeout() {
+        return getDuration(this, "batchTimeout").orElse(step());
+    }
+
     @Override
     default Validated<?> validate() {
         return validate(this);
@@ -105,7 +129,12 @@ public interface PushRegistryConfig extends MeterRegistryConfig {
         return checkAll(config, check("step", PushRegistryConfig::step),
                 check("connectTimeout", PushRegistryConfig::connectTimeout),
                 check("readTimeout", PushRegistryConfig::readTimeout),
-                check("batchSize", PushRegistryConfig::batchSize), check("numThreads", PushRegistryConfig::numThreads));
+                check("batchSize", PushRegistryConfig::batchSize), check("numThreads", PushRegistryConfig::numThreads),
+                check("maxInFlightBatches", PushRegistryConfig::maxInFlightBatches)
+                    .andThen(v -> v.invalidateWhen(batches -> batches < 1, "must be at least 1",
+                            InvalidReason.MALFORMED)),
+                // the default depends on step, which is validated on its own
+                c -> getDuration(c, "batchTimeout"));
     }
 
 }
@@ -44,6 +44,8 @@ public final class RequiredSearch {
 
     @Nullable Predicate<String> nameMatches;
 
+    private @Nullable String namePrefix;
+
     private RequiredSearch(MeterRegistry registry) {
         this.registry = registry;
     }
@@ -56,6 +58,20 @@ public final class RequiredSearch {
     public RequiredSearch name(String exactName) {
         this.nameMatches = n -> n.equals(exactName);
         this.exactNameMatch = exactName;
+        this.namePrefix = null;
+        return this;
+    }
+
+    /**
+     * Meter name starts with the given prefix.
+     * @param prefix Name prefix to match against.
+     * @return This search.
+     * @since 1.17.0
+     */
+    public RequiredSearch nameStartsWith(String prefix) {
+        this.nameMatches = n -> n.startsWith(prefix);
+        this.exactNameMatch = null;
+        this.namePrefix = prefix;
         return this;
     }
 
@@ -66,6 +82,8 @@ public final class RequiredSearch {
      */
     public RequiredSearch name(Predicate<String> nameMatches) {
         this.nameMatches = nameMatches;
+        this.exactNameMatch = null;
+        this.namePrefix = null;
         return this;
     }
 
@@ -222,8 +240,7 @@ public final class RequiredSearch {
     }
 
     private Stream<Meter> meterStream() {
-        Stream<Meter> meterStream = registry.getMeters()
-            .stream()
+        Stream<Meter> meterStream = candidates().stream()
             .filter(m -> nameMatches == null || nameMatches.test(m.getId().getName()));
 
         if (!requiredTags.isEmpty() || !requiredTagKeys.isEmpty()) {
@@ -242,6 +259,28 @@ public final class RequiredSearch {
         return meterStream;
     }
 
+    /**
+     * The smallest set of meters the registry's {@link MeterIndex} provides for the
+     * indexable terms of this search, which still have to be tested against all terms.
+     */
+    private Collection<Meter> candidates() {
+        MeterIndex index = registry.getMeterIndex();
+        @Nullable Collection<Meter> candidates = null;
+        if (exactNameMatch != null) {
+            candidates = index.withName(exactNameMatch);
+        }
+        else if (namePrefix != null) {
+            candidates = index.withNamePrefix(namePrefix);
+        }
+        for (Tag tag : requiredTags) {
+            candidates = Search.smallest(candidates, index.withTag(tag));
+        }
+        for (String tagKey : requiredTagKeys) {
+            candidates = Search.smallest(candidates, index.withTagKey(tagKey));
+        }
+        return candidates == null ? registry.getMeters() : candidates;
+    }
+
     /**
      * @return All matching {@link Counter} meters.
      */
@@ -41,6 +41,10 @@ public final class Search {
 
     private Predicate<String> nameMatches = n -> true;
 
+    private @Nullable String exactName;
+
+    private @Nullable String namePrefix;
+
     private final Set<String> requiredTagKeys = new HashSet<>();
 
     private final Map<String, Collection<Predicate<String>>> tagMatches = new HashMap<>();
@@ -55,7 +59,21 @@ public final class Search {
      * @return This search.
      */
     public Search name(String exactName) {
-        return name(n -> n.equals(exactName));
+        name(n -> n.equals(exactName));
+        this.exactName = exactName;
+        return this;
+    }
+
+    /**
+     * Meter name starts with the given prefix.
+     * @param prefix Name prefix to match against.
+     * @return This search.
+     * @since 1.17.0
+     */
+    public Search nameStartsWith(String prefix) {
+        name(n -> n.startsWith(prefix));
+        this.namePrefix = prefix;
+        return this;
     }
 
     /**
@@ -66,6 +84,8 @@ public final class Search {
     public Search name(@Nullable Predicate<String> nameMatches) {
         if (nameMatches != null) {
             this.nameMatches = nameMatches;
+            this.exactName = null;
+            this.namePrefix = null;
         }
         return this;
     }
@@ -254,13 +274,42 @@ public final class Search {
     }
 
     private Stream<Meter> meterStream() {
-        Stream<Meter> meterStream = registry.getMeters().stream().filter(m -> nameMatches.test(m.getId().getName()));
+        Stream<Meter> meterStream = candidates().stream().filter(m -> nameMatches.test(m.getId().getName()));
         if (!tags.isEmpty() || !requiredTagKeys.isEmpty() || !tagMatches.isEmpty()) {
             meterStream = meterStream.filter(m -> isTagsMatched(m.getId()));
         }
         return meterStream;
     }
 
+    /**
+     * The smallest set of meters the registry's {@link MeterIndex} provides for the
+     * indexable terms of this search, which still have to be tested against all terms.
+     */
+    private Collection<Meter> candidates() {
+        MeterIndex index = registry.getMeterIndex();
+        @Nullable Collection<Meter> candidates = null;
+        if (exactName != null) {
+            candidates = index.withName(exactName);
+        }
+        else if (namePrefix != null) {
+            candidates = index.withNamePrefix(namePrefix);
+        }
+        for (Tag tag : tags) {
+            candidates = smallest(candidates, index.withTag(tag));
+        }
+        for (String tagKey : requiredTagKeys) {
+            candidates = smallest(candidates, index.withTagKey(tagKey));
+        }
+        for (String tagKey : tagMatches.keySet()) {
+            candidates = smallest(candidates, index.withTagKey(tagKey));
+        }
+        return candidates == null ? registry.getMeters() : candidates;
+    }
+
+    static Collection<Meter> smallest(@Nullable Collection<Meter> candidates, Collection<Meter> indexed) {
+        return candidates == null || indexed.size() < candidates.size() ? indexed : candidates;
+    }
+
     /**
      * @return All matching {@link Counter} meters.
      */
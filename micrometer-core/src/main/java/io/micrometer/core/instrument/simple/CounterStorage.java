@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.simple;
+
+import io.micrometer.core.instrument.cumulative.CounterArena;
+
+/**
+ * Where a {@link SimpleMeterRegistry} stores the values of its counters in
+ * {@link CountingMode#CUMULATIVE} mode.
+ *
+ * @since 1.17.0
+ */
+public enum CounterStorage {
+
+    /**
+     * Each counter holds its own value.
+     */
+    METER,
+
+    /**
+     * Counter values are stored in a {@link CounterArena} shared by the counters of the
+     * registry, which uses less memory per counter when there are many of them.
+     */
+    ARENA
+
+}
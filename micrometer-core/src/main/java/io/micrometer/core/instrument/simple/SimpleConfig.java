@@ -55,9 +55,19 @@ public interface SimpleConfig extends MeterRegistryConfig {
         return getEnum(this, CountingMode.class, "mode").orElse(CountingMode.CUMULATIVE);
     }
 
+    /**
+     * @return Where the values of counters are stored when the {@link #mode()} is
+     * {@link CountingMode#CUMULATIVE}.
+     * @since 1.17.0
+     */
+    default CounterStorage counterStorage() {
+        return getEnum(this, CounterStorage.class, "counterStorage").orElse(CounterStorage.METER);
+    }
+
     @Override
     default Validated<?> validate() {
-        return checkAll(this, check("step", SimpleConfig::step), check("mode", SimpleConfig::mode));
+        return checkAll(this, check("step", SimpleConfig::step), check("mode", SimpleConfig::mode),
+                check("counterStorage", SimpleConfig::counterStorage));
     }
 
 }
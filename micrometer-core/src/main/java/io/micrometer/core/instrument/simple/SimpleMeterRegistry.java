@@ -45,6 +45,8 @@ public class SimpleMeterRegistry extends MeterRegistry {
 
     private final SimpleConfig config;
 
+    private final @Nullable CounterArena counterArena;
+
     public SimpleMeterRegistry() {
         this(SimpleConfig.DEFAULT, Clock.SYSTEM);
     }
@@ -55,6 +57,19 @@ public class SimpleMeterRegistry extends MeterRegistry {
         config.requireValid();
 
         this.config = config;
+
+        if (config.counterStorage() == CounterStorage.ARENA) {
+            CounterArena arena = new CounterArena();
+            this.counterArena = arena;
+            config().onMeterRemoved(meter -> {
+                if (meter instanceof Counter) {
+                    arena.release((Counter) meter);
+                }
+            });
+        }
+        else {
+            this.counterArena = null;
+        }
     }
 
     @Override
@@ -116,7 +131,7 @@ public class SimpleMeterRegistry extends MeterRegistry {
     protected Counter newCounter(Meter.Id id) {
         switch (config.mode()) {
             case CUMULATIVE:
-                return new CumulativeCounter(id);
+                return counterArena != null ? counterArena.newCounter(id) : new CumulativeCounter(id);
             case STEP:
             default:
                 return new StepCounter(id, clock, config.step().toMillis());
@@ -37,6 +37,7 @@ public class StepCounter extends AbstractMeter implements Counter, StepMeter {
 
     @Override
     public void increment(double amount) {
+        markRecorded();
         value.getCurrent().add(amount);
     }
 
@@ -26,9 +26,18 @@ import io.micrometer.core.instrument.internal.DefaultLongTaskTimer;
 import io.micrometer.core.instrument.internal.DefaultMeter;
 import io.micrometer.core.instrument.push.PushMeterRegistry;
 import io.micrometer.core.instrument.util.NamedThreadFactory;
+import io.micrometer.core.instrument.util.TimeUtils;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -45,16 +54,25 @@ public abstract class StepMeterRegistry extends PushMeterRegistry {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(StepMeterRegistry.class);
 
+    // Meters rolled over by one fork-join task before it stops splitting.
+    private static final int MIN_METERS_PER_ROLLOVER_TASK = 1024;
+
     private final StepRegistryConfig config;
 
     private @Nullable ScheduledExecutorService meterPollingService;
 
+    private @Nullable ForkJoinPool rolloverPool;
+
     // Time when the last scheduled rollOver has started.
     private volatile long lastMeterRolloverStartTime = -1;
 
+    // Number of consecutive steps without recordings, for meters idle in the last step.
+    private final Map<Meter, Integer> idleSteps = new ConcurrentHashMap<>();
+
     public StepMeterRegistry(StepRegistryConfig config, Clock clock) {
         super(config, clock);
         this.config = config;
+        config().onMeterRemoved(idleSteps::remove);
     }
 
     @Override
@@ -159,6 +177,12 @@ public abstract class StepMeterRegistry extends PushMeterRegistry {
             }
             closingRolloverStepMeters();
         }
+        synchronized (this) {
+            if (rolloverPool != null) {
+                rolloverPool.shutdown();
+                rolloverPool = null;
+            }
+        }
         super.close();
     }
 
@@ -172,26 +196,153 @@ public abstract class StepMeterRegistry extends PushMeterRegistry {
     }
 
     /**
-     * Performs closing rollover on StepMeters.
+     * Performs closing rollover on StepMeters. Meters that recorded during the final
+     * partial step are no longer considered idle, so that the last publish includes them.
      */
     private void closingRolloverStepMeters() {
-        getMeters().stream()
-            .filter(StepMeter.class::isInstance)
-            .map(StepMeter.class::cast)
-            .forEach(StepMeter::_closingRollover);
+        for (Meter meter : getMeters()) {
+            if (meter instanceof StepMeter) {
+                ((StepMeter) meter)._closingRollover();
+            }
+            if (!idleSteps.isEmpty()) {
+                Double count = countInLastStep(meter);
+                if (count != null && count != 0) {
+                    idleSteps.remove(meter);
+                }
+            }
+        }
     }
 
     /**
      * This will poll the values from meters, which will cause a roll over for Step-meters
      * if past the step boundary. This gives some control over when roll over happens
-     * separate from when publishing happens.
+     * separate from when publishing happens. Meters idle for
+     * {@link StepRegistryConfig#idleStepsBeforeRemoval()} steps are removed. Meters are
+     * split across {@link StepRegistryConfig#rolloverParallelism()} threads.
      */
     // VisibleForTesting
     void pollMetersToRollover() {
         this.lastMeterRolloverStartTime = clock.wallTime();
-        this.getMeters()
-            .forEach(m -> m.match(gauge -> null, Counter::count, Timer::count, DistributionSummary::count,
-                    meter -> null, meter -> null, FunctionCounter::count, FunctionTimer::count, meter -> null));
+        long start = clock.monotonicTime();
+        int idleStepsBeforeRemoval = config.idleStepsBeforeRemoval();
+        boolean trackIdleSteps = idleStepsBeforeRemoval > 0 || config.skipIdleMeters();
+        List<Meter> meters = getMeters();
+        int parallelism = config.rolloverParallelism();
+        if (parallelism <= 1 || meters.size() <= MIN_METERS_PER_ROLLOVER_TASK) {
+            for (Meter meter : meters) {
+                pollMeterToRollover(meter, trackIdleSteps, idleStepsBeforeRemoval);
+            }
+        }
+        else {
+            rolloverPool(parallelism)
+                .invoke(new RolloverTask(meters, 0, meters.size(), trackIdleSteps, idleStepsBeforeRemoval));
+        }
+
+        long durationNanos = clock.monotonicTime() - start;
+        if (durationNanos > config.step().toNanos()) {
+            logger.warn("Rollover of {} meters took {}, longer than the step of {}", meters.size(),
+                    TimeUtils.format(Duration.ofNanos(durationNanos)), TimeUtils.format(config.step()));
+        }
+        else if (logger.isDebugEnabled()) {
+            logger.debug("Rolled over {} meters in {}", meters.size(),
+                    TimeUtils.format(Duration.ofNanos(durationNanos)));
+        }
+    }
+
+    private void pollMeterToRollover(Meter meter, boolean trackIdleSteps, int idleStepsBeforeRemoval) {
+        Double count = countInLastStep(meter);
+        if (trackIdleSteps && count != null) {
+            trackIdleSteps(meter, count == 0, idleStepsBeforeRemoval);
+        }
+    }
+
+    private static @Nullable Double countInLastStep(Meter meter) {
+        return meter.match(gauge -> null, Counter::count, timer -> (double) timer.count(),
+                summary -> (double) summary.count(), longTaskTimer -> null, timeGauge -> null,
+                FunctionCounter::count, FunctionTimer::count, other -> null);
+    }
+
+    private synchronized ForkJoinPool rolloverPool(int parallelism) {
+        if (rolloverPool == null) {
+            String name = "step-meter-registry-rollover-for-" + getClass().getSimpleName() + "-";
+            rolloverPool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(name + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return rolloverPool;
+    }
+
+    private class RolloverTask extends RecursiveAction {
+
+        private final List<Meter> meters;
+
+        private final int from;
+
+        private final int to;
+
+        private final boolean trackIdleSteps;
+
+        private final int idleStepsBeforeRemoval;
+
+        RolloverTask(List<Meter> meters, int from, int to, boolean trackIdleSteps, int idleStepsBeforeRemoval) {
+            this.meters = meters;
+            this.from = from;
+            this.to = to;
+            this.trackIdleSteps = trackIdleSteps;
+            this.idleStepsBeforeRemoval = idleStepsBeforeRemoval;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_METERS_PER_ROLLOVER_TASK) {
+                for (int i = from; i < to; i++) {
+                    pollMeterToRollover(meters.get(i), trackIdleSteps, idleStepsBeforeRemoval);
+                }
+            }
+            else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RolloverTask(meters, from, middle, trackIdleSteps, idleStepsBeforeRemoval),
+                        new RolloverTask(meters, middle, to, trackIdleSteps, idleStepsBeforeRemoval));
+            }
+        }
+
+    }
+
+    private void trackIdleSteps(Meter meter, boolean idleInLastStep, int idleStepsBeforeRemoval) {
+        if (!idleInLastStep) {
+            idleSteps.remove(meter);
+            return;
+        }
+        int steps = idleSteps.merge(meter, 1, Integer::sum);
+        // Synthetic meters are removed along with the meter they belong to.
+        if (idleStepsBeforeRemoval > 0 && steps >= idleStepsBeforeRemoval
+                && meter.getId().syntheticAssociation() == null) {
+            remove(meter);
+        }
+    }
+
+    /**
+     * Leaves out the meters idle in the last step when
+     * {@link StepRegistryConfig#skipIdleMeters()} is enabled, except every
+     * {@link StepRegistryConfig#idleMeterHeartbeatSteps()} idle steps.
+     */
+    @Override
+    protected List<Meter> getMetersToPublish() {
+        List<Meter> meters = getMeters();
+        if (!config.skipIdleMeters() || idleSteps.isEmpty()) {
+            return meters;
+        }
+        int heartbeatSteps = config.idleMeterHeartbeatSteps();
+        List<Meter> metersToPublish = new ArrayList<>(meters.size());
+        for (Meter meter : meters) {
+            Integer steps = idleSteps.get(meter);
+            if (steps == null || (heartbeatSteps > 0 && steps % heartbeatSteps == 0)) {
+                metersToPublish.add(meter);
+            }
+        }
+        return metersToPublish;
     }
 
     private long getInitialDelay() {
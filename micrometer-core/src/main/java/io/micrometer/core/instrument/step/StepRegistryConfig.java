@@ -15,11 +15,73 @@
  */
 package io.micrometer.core.instrument.step;
 
+import io.micrometer.core.instrument.config.validate.InvalidReason;
 import io.micrometer.core.instrument.config.validate.Validated;
 import io.micrometer.core.instrument.push.PushRegistryConfig;
 
+import static io.micrometer.core.instrument.config.MeterRegistryConfigValidator.check;
+import static io.micrometer.core.instrument.config.MeterRegistryConfigValidator.checkAll;
+import static io.micrometer.core.instrument.config.validate.PropertyValidator.getBoolean;
+import static io.micrometer.core.instrument.config.validate.PropertyValidator.getInteger;
+
 public interface StepRegistryConfig extends PushRegistryConfig {
 
+    /**
+     * Number of consecutive steps without any recording after which a counter, timer,
+     * distribution summary, function counter or function timer is removed from the
+     * registry, so that meters with tag values that are no longer in use stop being
+     * published. Looking up a removed meter again registers a new one; a removed meter
+     * that is still held and recorded to is no longer published. Gauges and long task
+     * timers are never removed this way.
+     * @return The number of idle steps before a meter is removed, or 0 (the default) to
+     * never remove idle meters.
+     * @since 1.17.0
+     */
+    default int idleStepsBeforeRemoval() {
+        return getInteger(this, "idleStepsBeforeRemoval").orElse(0);
+    }
+
+    /**
+     * Number of threads that roll over step meters at the start of each step. Registries
+     * with a large number of meters can raise this so that rollover finishes early in the
+     * step. With the default of 1, meters are rolled over one after another on the
+     * polling thread.
+     * @return The parallelism of step rollover.
+     * @since 1.17.0
+     */
+    default int rolloverParallelism() {
+        return getInteger(this, "rolloverParallelism").orElse(1);
+    }
+
+    /**
+     * Whether to leave out of publishing the counters, timers, distribution summaries,
+     * function counters and function timers that had no recording in the last step,
+     * rather than publishing them with a count of 0. Backends then see no sample for such
+     * a meter in that step. Gauges and long task timers are always published. See also
+     * {@link #idleMeterHeartbeatSteps()}.
+     * @return {@code true} to skip idle meters. The default is {@code false}.
+     * @since 1.17.0
+     */
+    default boolean skipIdleMeters() {
+        return getBoolean(this, "skipIdleMeters").orElse(false);
+    }
+
+    /**
+     * When {@link #skipIdleMeters()} is enabled, a meter that stays idle is still
+     * published every this many steps, so that backends keep seeing it.
+     * @return The number of idle steps between two publications of an idle meter, or 0
+     * (the default) to never publish idle meters.
+     * @since 1.17.0
+     */
+    default int idleMeterHeartbeatSteps() {
+        return getInteger(this, "idleMeterHeartbeatSteps").orElse(0);
+    }
+
+    @Override
+    default Validated<?> validate() {
+        return validate(this);
+    }
+
     /**
      * Validate a provided configuration.
      * @param config configuration to validate
@@ -27,7 +89,17 @@ public interface StepRegistryConfig extends PushRegistryConfig {
      * @since 1.5.0
      */
     static Validated<?> validate(StepRegistryConfig config) {
-        return PushRegistryConfig.validate(config);
+        return checkAll(config, c -> PushRegistryConfig.validate(c),
+                check("idleStepsBeforeRemoval", StepRegistryConfig::idleStepsBeforeRemoval)
+                    .andThen(v -> v.invalidateWhen(steps -> steps < 0, "must not be negative",
+                            InvalidReason.MALFORMED)),
+                check("rolloverParallelism", StepRegistryConfig::rolloverParallelism)
+                    .andThen(v -> v.invalidateWhen(parallelism -> parallelism < 1, "must be at least 1",
+                            InvalidReason.MALFORMED)),
+                check("skipIdleMeters", StepRegistryConfig::skipIdleMeters),
+                check("idleMeterHeartbeatSteps", StepRegistryConfig::idleMeterHeartbeatSteps)
+                    .andThen(v -> v.invalidateWhen(steps -> steps < 0, "must not be negative",
+                            InvalidReason.MALFORMED)));
     }
 
 }
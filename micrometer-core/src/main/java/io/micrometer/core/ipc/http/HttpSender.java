@@ -20,11 +20,13 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -80,13 +82,20 @@ public interface HttpSender {
 
         private final byte[] entity;
 
+        private final int entityLength;
+
         private final Method method;
 
         private final Map<String, String> requestHeaders;
 
         public Request(URL url, byte[] entity, Method method, Map<String, String> requestHeaders) {
+            this(url, entity, entity.length, method, requestHeaders);
+        }
+
+        private Request(URL url, byte[] entity, int entityLength, Method method, Map<String, String> requestHeaders) {
             this.url = url;
             this.entity = entity;
+            this.entityLength = entityLength;
             this.method = method;
             this.requestHeaders = requestHeaders;
         }
@@ -95,7 +104,38 @@ public interface HttpSender {
             return url;
         }
 
+        /**
+         * @return The request body. A copy if the body was set from part of an array with
+         * {@link Builder#withContent(String, byte[], int)}, in which case
+         * {@link #writeEntityTo(OutputStream)} avoids copying it.
+         */
         public byte[] getEntity() {
+            return entityLength == entity.length ? entity : Arrays.copyOf(entity, entityLength);
+        }
+
+        /**
+         * @return The length of the request body in bytes.
+         * @since 1.17.0
+         */
+        public int getEntityLength() {
+            return entityLength;
+        }
+
+        /**
+         * Write the request body without copying it.
+         * @param out The stream to write to.
+         * @throws IOException If the stream cannot be written to.
+         * @since 1.17.0
+         */
+        public void writeEntityTo(OutputStream out) throws IOException {
+            out.write(entity, 0, entityLength);
+        }
+
+        /**
+         * @return The array whose first {@link #getEntityLength()} bytes are the request
+         * body, not copied.
+         */
+        byte[] entityArray() {
             return entity;
         }
 
@@ -116,11 +156,11 @@ public interface HttpSender {
             StringBuilder printed = new StringBuilder(method.toString()).append(' ')
                 .append(url.toString())
                 .append("\n");
-            if (entity.length == 0) {
+            if (entityLength == 0) {
                 printed.append("<no request body>");
             }
             else {
-                printed.append(new String(entity, StandardCharsets.UTF_8));
+                printed.append(new String(entity, 0, entityLength, StandardCharsets.UTF_8));
             }
             return printed.toString();
         }
@@ -137,6 +177,8 @@ public interface HttpSender {
 
             private byte[] entity = new byte[0];
 
+            private int entityLength;
+
             private Method method = Method.GET;
 
             private Map<String, String> requestHeaders = new LinkedHashMap<>();
@@ -207,6 +249,16 @@ public interface HttpSender {
                 return withContent(APPLICATION_JSON, content);
             }
 
+            /**
+             * Set the request body as JSON content type.
+             * @param content The UTF-8 encoded request body.
+             * @return This request builder.
+             * @since 1.17.0
+             */
+            public final Builder withJsonContent(byte[] content) {
+                return withContent(APPLICATION_JSON, content);
+            }
+
             /**
              * Set the request body as plain text content type.
              * @param content The request body.
@@ -216,6 +268,16 @@ public interface HttpSender {
                 return withContent(TEXT_PLAIN, content);
             }
 
+            /**
+             * Set the request body as plain text content type.
+             * @param content The UTF-8 encoded request body.
+             * @return This request builder.
+             * @since 1.17.0
+             */
+            public final Builder withPlainText(byte[] content) {
+                return withContent(TEXT_PLAIN, content);
+            }
+
             /**
              * Set the request body.
              * @param type The value of the "Content-Type" header to add.
@@ -233,8 +295,26 @@ public interface HttpSender {
              * @return This request builder.
              */
             public final Builder withContent(String type, byte[] content) {
+                return withContent(type, content, content.length);
+            }
+
+            /**
+             * Set the first bytes of the given array as the request body, without copying
+             * them. The array must not be modified until the request has been sent.
+             * @param type The value of the "Content-Type" header to add.
+             * @param content The array starting with the request body.
+             * @param length The length of the request body in bytes.
+             * @return This request builder.
+             * @since 1.17.0
+             */
+            public final Builder withContent(String type, byte[] content, int length) {
+                if (length < 0 || length > content.length) {
+                    throw new IllegalArgumentException(
+                            "length " + length + " is out of bounds for content of length " + content.length);
+                }
                 withHeader("Content-Type", type);
                 entity = content;
+                entityLength = length;
                 return this;
             }
 
@@ -272,7 +352,8 @@ public interface HttpSender {
              */
             public final Builder compress() throws IOException {
                 withHeader("Content-Encoding", "gzip");
-                this.entity = gzip(entity);
+                this.entity = gzip(entity, entityLength);
+                this.entityLength = entity.length;
                 return this;
             }
 
@@ -289,21 +370,21 @@ public interface HttpSender {
                 return this;
             }
 
-            private static byte[] gzip(byte[] data) throws IOException {
-                ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length);
+            private static byte[] gzip(byte[] data, int length) throws IOException {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(length);
                 try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
-                    out.write(data);
+                    out.write(data, 0, length);
                 }
                 return bos.toByteArray();
             }
 
             public final Builder print() {
-                System.out.println(new Request(url, entity, method, requestHeaders));
+                System.out.println(new Request(url, entity, entityLength, method, requestHeaders));
                 return this;
             }
 
             public Response send() throws Throwable {
-                return sender.send(new Request(url, entity, method, requestHeaders));
+                return sender.send(new Request(url, entity, entityLength, method, requestHeaders));
             }
 
         }
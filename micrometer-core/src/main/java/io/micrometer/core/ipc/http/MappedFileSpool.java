@@ -0,0 +1,454 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.ipc.http;
+
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A FIFO queue of opaque records backed by memory-mapped segment files. Each segment
+ * starts with an 8 byte header holding its write and read positions, followed by records
+ * encoded as a length prefix and the record bytes. The write position is only advanced
+ * after a record has been fully copied, so a segment left behind by a crashed process is
+ * picked up again consistently the next time the spool is opened.
+ * <p>
+ * The spool is bounded by {@code maxBytes}: when appending a record would exceed it, the
+ * oldest segments are dropped as a whole. Segment files are created readable and writable
+ * by their owner only where the file system supports POSIX permissions, and a lock file
+ * keeps a second spool from opening the same directory.
+ *
+ * @since 1.17.0
+ */
+final class MappedFileSpool implements Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(MappedFileSpool.class);
+
+    private static final String SEGMENT_PREFIX = "spool-";
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final String LOCK_FILE = "spool.lock";
+
+    private static final int HEADER_BYTES = 8;
+
+    private static final int WRITE_POSITION_OFFSET = 0;
+
+    private static final int READ_POSITION_OFFSET = 4;
+
+    private static final Set<? extends OpenOption> SEGMENT_OPEN_OPTIONS = EnumSet.of(StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    private final Path directory;
+
+    private final int segmentBytes;
+
+    private final long maxBytes;
+
+    private final SegmentDeleter deleter;
+
+    private final FileChannel lockChannel;
+
+    private final FileLock lock;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private long nextSequence;
+
+    private long pendingBytes;
+
+    private boolean closed;
+
+    MappedFileSpool(Path directory, int segmentBytes, long maxBytes) throws IOException {
+        this(directory, segmentBytes, maxBytes, Files::deleteIfExists);
+    }
+
+    // VisibleForTesting
+    MappedFileSpool(Path directory, int segmentBytes, long maxBytes, SegmentDeleter deleter) throws IOException {
+        if (segmentBytes <= HEADER_BYTES + 4) {
+            throw new IllegalArgumentException("segmentBytes must be greater than " + (HEADER_BYTES + 4));
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+        this.deleter = deleter;
+        if (Files.notExists(directory)) {
+            if (supportsPosix()) {
+                Files.createDirectories(directory,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            }
+            else {
+                Files.createDirectories(directory);
+            }
+        }
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), SEGMENT_OPEN_OPTIONS, ownerOnly());
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        }
+        catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Spool directory " + directory + " is already in use");
+        }
+        this.lock = lock;
+        try {
+            load();
+        }
+        catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort((p1, p2) -> Long.compare(sequenceOf(p1), sequenceOf(p2)));
+        for (Path path : paths) {
+            long sequence = sequenceOf(path);
+            if (sequence < 0) {
+                continue;
+            }
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            long size = Files.size(path);
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                logger.warn("Deleting unreadable spool segment {}", path);
+                delete(path);
+                continue;
+            }
+            if (isFullyRead(path)) {
+                // left behind when it could not be deleted while mapped
+                delete(path);
+                continue;
+            }
+            Segment segment = new Segment(path, map(path, (int) size));
+            if (!segment.isConsistent()) {
+                logger.warn("Deleting corrupt spool segment {}", path);
+                discard(segment);
+                continue;
+            }
+            segments.addLast(segment);
+            pendingBytes += segment.pendingBytes();
+        }
+    }
+
+    private static boolean isFullyRead(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return false;
+                }
+            }
+        }
+        return header.getInt(WRITE_POSITION_OFFSET) == header.getInt(READ_POSITION_OFFSET);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(
+                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        }
+        catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private MappedByteBuffer map(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, SEGMENT_OPEN_OPTIONS, ownerOnly())) {
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    private static boolean supportsPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    private static FileAttribute<?>[] ownerOnly() {
+        return supportsPosix()
+                ? new FileAttribute<?>[] {
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")) }
+                : new FileAttribute<?>[0];
+    }
+
+    /**
+     * Append a record to the tail of the spool, dropping the oldest segments if needed to
+     * stay within the size bound.
+     * @param record The record to append.
+     * @return The number of records that were dropped to make room, or {@code -1} if the
+     * record was not spooled because it alone is larger than the size bound or the spool
+     * is closed.
+     * @throws IOException If a new segment could not be created.
+     */
+    synchronized int append(byte[] record) throws IOException {
+        int recordBytes = 4 + record.length;
+        if (closed || recordBytes > maxBytes) {
+            return -1;
+        }
+        int dropped = 0;
+        while (!segments.isEmpty() && pendingBytes + recordBytes > maxBytes) {
+            Segment oldest = segments.removeFirst();
+            pendingBytes -= oldest.pendingBytes();
+            dropped += oldest.pendingRecords();
+            discard(oldest);
+        }
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.remaining() < recordBytes) {
+            tail = newSegment(Math.max(segmentBytes, HEADER_BYTES + recordBytes));
+        }
+        tail.write(record);
+        pendingBytes += recordBytes;
+        return dropped;
+    }
+
+    /**
+     * @return The record at the head of the spool without removing it, or {@code null}
+     * when the spool is empty.
+     */
+    synchronized @Nullable Record peek() {
+        Segment head = head();
+        if (head == null) {
+            return null;
+        }
+        int position = head.readPosition();
+        return new Record(head, position, head.read(position));
+    }
+
+    /**
+     * Remove a record previously returned by {@link #peek()}, deleting its segment once
+     * all of its records have been consumed. Does nothing if the record is no longer at
+     * the head of the spool, for example because its segment was dropped to make room.
+     * @param record The record to remove.
+     */
+    synchronized void remove(Record record) {
+        Segment head = head();
+        if (head != record.segment || head.readPosition() != record.position) {
+            return;
+        }
+        pendingBytes -= head.skip();
+        if (head.isFullyRead() && segments.size() > 1) {
+            segments.removeFirst();
+            discard(head);
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return pendingBytes == 0;
+    }
+
+    /**
+     * @return The number of bytes, including length prefixes, of records not yet removed.
+     */
+    synchronized long pendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * Release the lock on the spool directory. Spooled records are kept on disk.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segments.clear();
+        pendingBytes = 0;
+        try {
+            lock.release();
+        }
+        finally {
+            lockChannel.close();
+        }
+    }
+
+    private @Nullable Segment head() {
+        Segment head = segments.peekFirst();
+        // a fully read head is only kept around when it is also the tail
+        return head == null || head.isFullyRead() ? null : head;
+    }
+
+    private Segment newSegment(int capacity) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + nextSequence++ + SEGMENT_SUFFIX);
+        Segment segment = new Segment(path, map(path, capacity));
+        segment.buffer.putInt(WRITE_POSITION_OFFSET, HEADER_BYTES);
+        segment.buffer.putInt(READ_POSITION_OFFSET, HEADER_BYTES);
+        Segment previous = segments.peekLast();
+        if (previous != null && previous.isFullyRead()) {
+            segments.removeLast();
+            discard(previous);
+        }
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void discard(Segment segment) {
+        // mark everything as read first, so a segment that cannot be deleted is never
+        // replayed again
+        segment.buffer.putInt(READ_POSITION_OFFSET, segment.writePosition());
+        delete(segment.path);
+    }
+
+    private void delete(Path path) {
+        try {
+            deleter.delete(path);
+        }
+        catch (IOException e) {
+            // mapped files cannot be deleted on some platforms, such as Windows; they are
+            // deleted when the spool is opened again
+            logger.debug("Unable to delete spool segment " + path, e);
+        }
+    }
+
+    @FunctionalInterface
+    interface SegmentDeleter {
+
+        void delete(Path path) throws IOException;
+
+    }
+
+    static final class Record {
+
+        private final Segment segment;
+
+        private final int position;
+
+        private final byte[] bytes;
+
+        private Record(Segment segment, int position, byte[] bytes) {
+            this.segment = segment;
+            this.position = position;
+            this.bytes = bytes;
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+    }
+
+    private static final class Segment {
+
+        final Path path;
+
+        final MappedByteBuffer buffer;
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        int writePosition() {
+            return buffer.getInt(WRITE_POSITION_OFFSET);
+        }
+
+        int readPosition() {
+            return buffer.getInt(READ_POSITION_OFFSET);
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition();
+        }
+
+        int pendingBytes() {
+            return writePosition() - readPosition();
+        }
+
+        boolean isFullyRead() {
+            return readPosition() == writePosition();
+        }
+
+        boolean isConsistent() {
+            int write = writePosition();
+            int read = readPosition();
+            if (read < HEADER_BYTES || read > write || write > buffer.capacity()) {
+                return false;
+            }
+            for (int position = read; position < write;) {
+                int length = buffer.getInt(position);
+                if (length < 0 || length > write - position - 4) {
+                    return false;
+                }
+                position += 4 + length;
+            }
+            return true;
+        }
+
+        void write(byte[] record) {
+            int position = writePosition();
+            ByteBuffer target = buffer.duplicate();
+            target.position(position);
+            target.putInt(record.length).put(record);
+            // publish the record only once it has been fully copied
+            buffer.putInt(WRITE_POSITION_OFFSET, position + 4 + record.length);
+        }
+
+        byte[] read(int position) {
+            ByteBuffer source = buffer.duplicate();
+            source.position(position);
+            byte[] record = new byte[source.getInt()];
+            source.get(record);
+            return record;
+        }
+
+        int skip() {
+            int position = readPosition();
+            int recordBytes = 4 + buffer.getInt(position);
+            buffer.putInt(READ_POSITION_OFFSET, position + recordBytes);
+            return recordBytes;
+        }
+
+        int pendingRecords() {
+            int count = 0;
+            for (int position = readPosition(); position < writePosition(); count++) {
+                position += 4 + buffer.getInt(position);
+            }
+            return count;
+        }
+
+    }
+
+}
@@ -51,19 +51,20 @@ public class OkHttpSender implements HttpSender {
             requestBuilder.addHeader(requestHeader.getKey(), requestHeader.getValue());
         }
 
-        byte[] entity = request.getEntity();
+        byte[] entity = request.entityArray();
+        int entityLength = request.getEntityLength();
         Method method = request.getMethod();
         String methodValue = method.toString();
-        if (entity.length > 0) {
+        if (entityLength > 0) {
             String contentType = request.getRequestHeaders().get("Content-Type");
             MediaType mediaType = contentType != null ? MediaType.get(contentType + "; charset=utf-8")
                     : MEDIA_TYPE_APPLICATION_JSON;
-            RequestBody body = RequestBody.create(entity, mediaType);
+            RequestBody body = RequestBody.create(entity, mediaType, 0, entityLength);
             requestBuilder.method(methodValue, body);
         }
         else {
             if (requiresRequestBody(method)) {
-                RequestBody body = RequestBody.create(entity, MEDIA_TYPE_TEXT_PLAIN);
+                RequestBody body = RequestBody.create(new byte[0], MEDIA_TYPE_TEXT_PLAIN);
                 requestBuilder.method(methodValue, body);
             }
             else {
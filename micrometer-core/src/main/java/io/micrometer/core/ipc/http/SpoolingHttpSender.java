@@ -0,0 +1,476 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.ipc.http;
+
+import io.micrometer.common.util.internal.logging.InternalLogger;
+import io.micrometer.common.util.internal.logging.InternalLoggerFactory;
+import io.micrometer.core.annotation.Incubating;
+import io.micrometer.core.instrument.Clock;
+
+import java.io.*;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link HttpSender} decorator that keeps requests which failed because the endpoint
+ * was unavailable in a write-ahead spool on disk, and replays them once the endpoint
+ * accepts requests again. Requests are spooled when the delegate throws or responds with
+ * a server error, {@code 408 Request Timeout} or {@code 429 Too Many Requests}; other
+ * client errors would fail again on replay and are not spooled.
+ * <p>
+ * Replay happens on the publishing thread: after a request has been sent successfully,
+ * up to {@link Builder#maxReplaysPerSend(int)} spooled requests are re-sent in the order
+ * they were spooled. A failed replay stops the replay and backs off exponentially between
+ * {@link Builder#initialBackoff(Duration)} and {@link Builder#maxBackoff(Duration)}
+ * before the next attempt. The spool is bounded by {@link Builder#maxBytes(long)},
+ * dropping the oldest requests first, and requests older than
+ * {@link Builder#maxAge(Duration)} are discarded instead of being replayed.
+ * <p>
+ * The spool is made of memory-mapped segment files in the given directory, so spooled
+ * requests survive a restart of the application when the same directory is used again.
+ * Only one sender can use a directory at a time, until it is {@link #close() closed}.
+ * <p>
+ * Credentials are not written to the spool: headers such as {@code Authorization} and
+ * headers or query parameters whose name contains {@code key}, {@code token},
+ * {@code secret} or {@code password} are removed before a request is spooled. On replay,
+ * they are taken from the request that was just sent successfully when it targets the
+ * same host, and {@link Builder#replayCustomizer(UnaryOperator)} can add anything else
+ * the endpoint requires. Request bodies and the remaining headers and query parameters
+ * are stored as is, in files readable by their owner only where the file system supports
+ * POSIX permissions.
+ * <pre>
+ * HttpSender sender = SpoolingHttpSender.builder(new HttpUrlConnectionSender(), Paths.get("/var/spool/metrics"))
+ *     .maxBytes(64 * 1024 * 1024)
+ *     .build();
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+@Incubating(since = "1.17.0")
+public class SpoolingHttpSender implements HttpSender, Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(SpoolingHttpSender.class);
+
+    private final HttpSender delegate;
+
+    private final MappedFileSpool spool;
+
+    private final Clock clock;
+
+    private final long maxAgeMillis;
+
+    private final long initialBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final int maxReplaysPerSend;
+
+    private final UnaryOperator<Request> replayCustomizer;
+
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    // guarded by replayLock
+    private long backoffNanos;
+
+    // guarded by replayLock
+    private long nextReplayTime;
+
+    private SpoolingHttpSender(Builder builder) {
+        this.delegate = builder.delegate;
+        this.clock = builder.clock;
+        this.maxAgeMillis = builder.maxAge.toMillis();
+        this.initialBackoffNanos = builder.initialBackoff.toNanos();
+        this.maxBackoffNanos = builder.maxBackoff.toNanos();
+        this.maxReplaysPerSend = builder.maxReplaysPerSend;
+        this.replayCustomizer = builder.replayCustomizer;
+        this.backoffNanos = initialBackoffNanos;
+        this.nextReplayTime = clock.monotonicTime();
+        try {
+            this.spool = new MappedFileSpool(builder.directory, builder.segmentBytes, builder.maxBytes);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Unable to open spool in " + builder.directory, e);
+        }
+    }
+
+    public static Builder builder(HttpSender delegate, Path directory) {
+        return new Builder(delegate, directory);
+    }
+
+    @Override
+    public Response send(Request request) throws Throwable {
+        Response response;
+        try {
+            response = delegate.send(request);
+        }
+        catch (Throwable e) {
+            spool(request);
+            throw e;
+        }
+        if (isRetryable(response.code())) {
+            spool(request);
+        }
+        else {
+            replaySpooled(request);
+        }
+        return response;
+    }
+
+    /**
+     * Release the spool directory so that another sender can use it. Spooled requests
+     * are kept on disk, and requests sent after closing are no longer spooled.
+     */
+    @Override
+    public void close() throws IOException {
+        spool.close();
+    }
+
+    /**
+     * @return The number of bytes currently held by the spool.
+     */
+    public long spooledBytes() {
+        return spool.pendingBytes();
+    }
+
+    private void spool(Request request) {
+        if (request.getMethod() != Method.POST && request.getMethod() != Method.PUT) {
+            return;
+        }
+        try {
+            int dropped = spool.append(encode(request, clock.wallTime()));
+            if (dropped < 0) {
+                logger.warn("Request to {} could not be spooled and was discarded", withoutQuery(request.getUrl()));
+            }
+            else if (dropped > 0) {
+                logger.warn("Spool is full, discarded the {} oldest requests", dropped);
+            }
+        }
+        catch (IOException e) {
+            logger.warn("Failed to spool request to " + withoutQuery(request.getUrl()), e);
+        }
+    }
+
+    private void replaySpooled(Request sent) {
+        // a concurrent publish that is already replaying will drain the spool
+        if (spool.isEmpty() || !replayLock.tryLock()) {
+            return;
+        }
+        try {
+            if (clock.monotonicTime() - nextReplayTime < 0) {
+                return;
+            }
+            int replayed = 0;
+            int expired = 0;
+            int undecodable = 0;
+            MappedFileSpool.Record record;
+            while (replayed < maxReplaysPerSend && (record = spool.peek()) != null) {
+                SpooledRequest spooled;
+                try {
+                    spooled = decode(record.bytes());
+                }
+                catch (IOException | RuntimeException e) {
+                    spool.remove(record);
+                    undecodable++;
+                    continue;
+                }
+                if (clock.wallTime() - spooled.timestamp > maxAgeMillis) {
+                    spool.remove(record);
+                    expired++;
+                    continue;
+                }
+                if (!replay(replayCustomizer.apply(withCredentialsOf(spooled.request, sent)))) {
+                    backOff();
+                    break;
+                }
+                spool.remove(record);
+                replayed++;
+                backoffNanos = initialBackoffNanos;
+            }
+            if (undecodable > 0) {
+                logger.warn("Discarded {} spooled requests that could not be read", undecodable);
+            }
+            if (expired > 0) {
+                logger.warn("Discarded {} spooled requests older than {} ms", expired, maxAgeMillis);
+            }
+            if (replayed > 0) {
+                logger.debug("Replayed {} spooled requests, {} bytes left in the spool", replayed,
+                        spool.pendingBytes());
+            }
+        }
+        finally {
+            replayLock.unlock();
+        }
+    }
+
+    /**
+     * @return {@code false} if the request should be attempted again later.
+     */
+    private boolean replay(Request request) {
+        Response response;
+        try {
+            response = delegate.send(request);
+        }
+        catch (Throwable e) {
+            logger.debug("Failed to replay spooled request to " + withoutQuery(request.getUrl()), e);
+            return false;
+        }
+        if (isRetryable(response.code())) {
+            return false;
+        }
+        if (!response.isSuccessful()) {
+            logger.warn("Discarding spooled request to {} rejected with status {}: {}", withoutQuery(request.getUrl()),
+                    response.code(), response.body());
+        }
+        return true;
+    }
+
+    private void backOff() {
+        nextReplayTime = clock.monotonicTime() + backoffNanos;
+        backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || HttpStatusClass.valueOf(code) == HttpStatusClass.SERVER_ERROR;
+    }
+
+    static byte[] encode(Request request, long timestamp) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(request.getEntityLength() + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(timestamp);
+            out.writeUTF(request.getMethod().name());
+            out.writeUTF(withQuery(request.getUrl(), queryParameters(request.getUrl(), false)).toString());
+            Map<String, String> headers = new LinkedHashMap<>(request.getRequestHeaders());
+            headers.keySet().removeIf(SpoolingHttpSender::isCredential);
+            out.writeInt(headers.size());
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeUTF(header.getValue());
+            }
+            out.writeInt(request.getEntityLength());
+            request.writeEntityTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    static SpooledRequest decode(byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            long timestamp = in.readLong();
+            Method method = Method.valueOf(in.readUTF());
+            URL url = new URL(in.readUTF());
+            int headerCount = in.readInt();
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(in.readUTF(), in.readUTF());
+            }
+            byte[] entity = new byte[in.readInt()];
+            in.readFully(entity);
+            return new SpooledRequest(timestamp, new Request(url, entity, method, headers));
+        }
+    }
+
+    /**
+     * Add the credentials of a request that was just sent to a spooled request for the
+     * same host.
+     */
+    static Request withCredentialsOf(Request spooled, Request sent) {
+        URL url = spooled.getUrl();
+        URL sentUrl = sent.getUrl();
+        if (!url.getProtocol().equals(sentUrl.getProtocol()) || !url.getHost().equalsIgnoreCase(sentUrl.getHost())
+                || url.getPort() != sentUrl.getPort()) {
+            return spooled;
+        }
+        Map<String, String> headers = new LinkedHashMap<>(spooled.getRequestHeaders());
+        sent.getRequestHeaders().forEach((name, value) -> {
+            if (isCredential(name)) {
+                headers.put(name, value);
+            }
+        });
+        List<String> parameters = queryParameters(url, false);
+        parameters.addAll(queryParameters(sentUrl, true));
+        try {
+            return new Request(withQuery(url, parameters), spooled.getEntity(), spooled.getMethod(), headers);
+        }
+        catch (MalformedURLException e) {
+            return spooled;
+        }
+    }
+
+    private static List<String> queryParameters(URL url, boolean credentials) {
+        List<String> parameters = new ArrayList<>();
+        if (url.getQuery() != null) {
+            for (String parameter : url.getQuery().split("&")) {
+                int separator = parameter.indexOf('=');
+                String name = separator < 0 ? parameter : parameter.substring(0, separator);
+                if (!parameter.isEmpty() && isCredential(name) == credentials) {
+                    parameters.add(parameter);
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static URL withQuery(URL url, List<String> parameters) throws MalformedURLException {
+        String file = parameters.isEmpty() ? url.getPath() : url.getPath() + '?' + String.join("&", parameters);
+        return new URL(url.getProtocol(), url.getHost(), url.getPort(), file);
+    }
+
+    private static String withoutQuery(URL url) {
+        return url.getProtocol() + "://" + url.getAuthority() + url.getPath();
+    }
+
+    private static boolean isCredential(String name) {
+        String lowerCase = name.toLowerCase(Locale.ROOT);
+        return lowerCase.equals("authorization") || lowerCase.equals("proxy-authorization")
+                || lowerCase.equals("cookie") || lowerCase.contains("key") || lowerCase.contains("token")
+                || lowerCase.contains("secret") || lowerCase.contains("password");
+    }
+
+    static final class SpooledRequest {
+
+        final long timestamp;
+
+        final Request request;
+
+        SpooledRequest(long timestamp, Request request) {
+            this.timestamp = timestamp;
+            this.request = request;
+        }
+
+    }
+
+    public static class Builder {
+
+        private final HttpSender delegate;
+
+        private final Path directory;
+
+        private int segmentBytes = 8 * 1024 * 1024;
+
+        private long maxBytes = 256L * 1024 * 1024;
+
+        private Duration maxAge = Duration.ofHours(1);
+
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        private Duration maxBackoff = Duration.ofMinutes(1);
+
+        private int maxReplaysPerSend = 16;
+
+        private Clock clock = Clock.SYSTEM;
+
+        private UnaryOperator<Request> replayCustomizer = UnaryOperator.identity();
+
+        Builder(HttpSender delegate, Path directory) {
+            this.delegate = delegate;
+            this.directory = directory;
+        }
+
+        /**
+         * @param segmentBytes The size of each memory-mapped segment file. Requests larger
+         * than a segment are written to a segment of their own.
+         * @return This builder.
+         */
+        public Builder segmentBytes(int segmentBytes) {
+            this.segmentBytes = segmentBytes;
+            return this;
+        }
+
+        /**
+         * @param maxBytes The maximum number of bytes held by the spool. The oldest
+         * requests are discarded to make room for new ones beyond this bound.
+         * @return This builder.
+         */
+        public Builder maxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * @param maxAge Spooled requests older than this are discarded instead of being
+         * replayed.
+         * @return This builder.
+         */
+        public Builder maxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+            return this;
+        }
+
+        /**
+         * @param initialBackoff How long to wait before replaying again after a replay
+         * failed for the first time.
+         * @return This builder.
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        /**
+         * @param maxBackoff The upper bound of the exponentially growing wait between
+         * failed replays.
+         * @return This builder.
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * @param maxReplaysPerSend The maximum number of spooled requests replayed after a
+         * single successful send, to bound the extra latency added to a publish.
+         * @return This builder.
+         */
+        public Builder maxReplaysPerSend(int maxReplaysPerSend) {
+            this.maxReplaysPerSend = maxReplaysPerSend;
+            return this;
+        }
+
+        /**
+         * @param replayCustomizer Applied to each spooled request before it is replayed,
+         * for example to add credentials that the sent request does not carry for its host.
+         * @return This builder.
+         */
+        public Builder replayCustomizer(UnaryOperator<Request> replayCustomizer) {
+            this.replayCustomizer = replayCustomizer;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * @return A new sender.
+         * @throws IllegalStateException If another sender is using the spool directory.
+         * @throws UncheckedIOException If the spool directory cannot be opened.
+         */
+        public SpoolingHttpSender build() {
+            return new SpoolingHttpSender(this);
+        }
+
+    }
+
+}
@@ -295,6 +295,57 @@ class MeterFilterTest {
         assertThat(configurePrimaryMeters.configure(secondary, config)).isEqualTo(config);
     }
 
+    @Test
+    void prefixScopedFiltersOnlyApplyToMatchingNames() {
+        assertThat(MeterFilter.denyNameStartsWith("jvm").appliesTo("jvm.memory.used")).isTrue();
+        assertThat(MeterFilter.denyNameStartsWith("jvm").appliesTo("http.server.requests")).isFalse();
+        assertThat(MeterFilter.acceptNameStartsWith("jvm").appliesTo("http.server.requests")).isFalse();
+        assertThat(MeterFilter.renameTag("jvm", "from", "to").appliesTo("http.server.requests")).isFalse();
+        assertThat(MeterFilter.maxExpected("jvm", Duration.ofSeconds(1)).appliesTo("http.server.requests")).isFalse();
+        assertThat(MeterFilter.maximumAllowableTags("jvm", "area", 1, MeterFilter.deny()).appliesTo("http"))
+            .isFalse();
+        assertThat(MeterFilter.forMeters(startsWith("http"), MeterFilter.denyNameStartsWith("jvm")).appliesTo("http"))
+            .isFalse();
+        assertThat(MeterFilter.commonTags(Tags.of("k", "v")).appliesTo("http.server.requests")).isTrue();
+    }
+
+    @Test
+    void filtersNotApplyingToNameAreNotCalled() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MeterFilter scoped = spy(new MeterFilter() {
+            @Override
+            public boolean appliesTo(String meterName) {
+                return meterName.startsWith("jvm");
+            }
+        });
+        registry.config().meterFilter(scoped);
+
+        registry.counter("http.server.requests");
+        registry.timer("http.client.requests");
+
+        verify(scoped, never()).map(any());
+        verify(scoped, never()).accept(any());
+        verify(scoped, never()).configure(any(), any());
+    }
+
+    @Test
+    void filtersApplyingToRenamedMeterAreCalled() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                return id.getName().equals("old.name") ? id.withName("jvm.name") : id;
+            }
+        }).meterFilter(MeterFilter.denyNameStartsWith("old")).meterFilter(MeterFilter.commonTags(Tags.of("k", "v")));
+        registry.config().meterFilter(MeterFilter.renameTag("jvm", "k", "renamed"));
+
+        Counter counter = registry.counter("old.name");
+
+        assertThat(counter.getId().getName()).isEqualTo("jvm.name");
+        assertThat(counter.getId().getTags()).containsExactly(Tag.of("renamed", "v"));
+        assertThat(registry.find("jvm.name").counter()).isSameAs(counter);
+    }
+
     private Predicate<Meter.Id> startsWith(String prefix) {
         return id -> id.getName().startsWith(prefix);
     }
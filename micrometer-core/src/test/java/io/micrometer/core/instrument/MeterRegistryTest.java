@@ -27,6 +27,16 @@ import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nonnull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -324,6 +334,101 @@ class MeterRegistryTest {
         assertThat(registry._getStalePreFilterIds()).isEmpty();
     }
 
+    @Test
+    void staleMarkSetWhileMappingAnIdIsNotCleared() {
+        AtomicBoolean addFilterWhileMapping = new AtomicBoolean();
+        registry.counter("counter");
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (addFilterWhileMapping.compareAndSet(true, false)) {
+                    registry.config().commonTags("common", "tag");
+                }
+                return id;
+            }
+        });
+
+        addFilterWhileMapping.set(true);
+        registry.counter("counter");
+
+        assertThat(registry._getStalePreFilterIds()).hasSize(1);
+        assertThat(registry.counter("counter").getId().getTag("common")).isEqualTo("tag");
+    }
+
+    @Test
+    void listenersRegisteringMetersFromDifferentThreadsDoNotDeadlock() throws Exception {
+        ThreadLocal<Boolean> inListener = ThreadLocal.withInitial(() -> false);
+        CountDownLatch bothRegistering = new CountDownLatch(2);
+        registry.config().onMeterAdded(meter -> {
+            if (inListener.get()) {
+                return;
+            }
+            inListener.set(true);
+            try {
+                bothRegistering.countDown();
+                bothRegistering.await(1, TimeUnit.SECONDS);
+                registry.counter(meter.getId().getName().equals("a") ? "b" : "a");
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                inListener.set(false);
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Counter> a = executor.submit(() -> registry.counter("a"));
+            Future<Counter> b = executor.submit(() -> registry.counter("b"));
+
+            assertThat(a.get(10, TimeUnit.SECONDS)).isSameAs(registry.counter("a"));
+            assertThat(b.get(10, TimeUnit.SECONDS)).isSameAs(registry.counter("b"));
+            assertThat(registry.getMeters()).hasSize(2);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void listenerAddedWhileRegisteringIsCalledUnderTheLock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean addListener = new AtomicBoolean(true);
+        AtomicBoolean otherRegisteredDuringListener = new AtomicBoolean(true);
+        try {
+            registry.config().meterFilter(new MeterFilter() {
+                @Override
+                public MeterFilterReply accept(Meter.Id id) {
+                    if (id.getName().equals("counter") && addListener.compareAndSet(true, false)) {
+                        // added once the id is claimed
+                        registry.config().onMeterAdded(meter -> {
+                            if (meter.getId().getName().equals("counter")) {
+                                Future<Counter> other = executor.submit(() -> registry.counter("other"));
+                                try {
+                                    other.get(200, TimeUnit.MILLISECONDS);
+                                }
+                                catch (Exception e) {
+                                    otherRegisteredDuringListener.set(false);
+                                }
+                            }
+                        });
+                    }
+                    return MeterFilterReply.NEUTRAL;
+                }
+            });
+
+            Counter counter = registry.counter("counter");
+
+            assertThat(otherRegisteredDuringListener.get()).isFalse();
+            assertThat(executor.submit(() -> registry.counter("other")).get(10, TimeUnit.SECONDS)).isNotNull();
+            assertThat(registry.getMeters()).contains(counter);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     @Issue("#5035")
     void multiplePreFilterIdsMapToSameId_removeByPreFilterId() {
@@ -357,4 +462,183 @@ class MeterRegistryTest {
             .isEmpty();
     }
 
+    @Test
+    void concurrentRegistrationOfSameIdReturnsSameMeter() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Counter>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        registry.counter("counter", "thread", String.valueOf(thread), "i", String.valueOf(j));
+                    }
+                    return registry.counter("shared");
+                }));
+            }
+            start.countDown();
+
+            Counter shared = futures.get(0).get();
+            for (Future<Counter> future : futures) {
+                assertThat(future.get()).isSameAs(shared);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.getMeters()).hasSize(threads * 100 + 1);
+        assertThat(registry._getPreFilterIdToMeterMap()).hasSize(threads * 100 + 1);
+        assertThat(registry._getMeterToPreFilterIdMap()).hasSize(threads * 100 + 1);
+    }
+
+    @Test
+    void registerAll() {
+        Counter existing = registry.counter("counter");
+
+        List<Meter> meters = registry.registerAll(Arrays.asList(Counter.builder("counter"), Timer.builder("timer"),
+                Gauge.builder("gauge", () -> 1.0), DistributionSummary.builder("summary")));
+
+        assertThat(meters).hasSize(4);
+        assertThat(meters.get(0)).isSameAs(existing);
+        assertThat(meters.get(1)).isInstanceOf(Timer.class);
+        assertThat(meters.get(2)).isInstanceOf(Gauge.class);
+        assertThat(meters.get(3)).isInstanceOf(DistributionSummary.class);
+        assertThat(registry.getMeters()).containsExactlyInAnyOrderElementsOf(meters);
+    }
+
+    @Test
+    void registerAllNotifiesListenersOnceAllMetersAreCreated() {
+        List<Integer> registeredMetersSeenByListener = new ArrayList<>();
+        registry.config().onMeterAdded(meter -> registeredMetersSeenByListener.add(registry.getMeters().size()));
+
+        List<Meter> meters = registry.registerAll(
+                Arrays.asList(Counter.builder("a"), Counter.builder("b"), Counter.builder("a")));
+
+        assertThat(meters.get(2)).isSameAs(meters.get(0));
+        assertThat(registry.getMeters()).hasSize(2);
+        assertThat(registeredMetersSeenByListener).containsExactly(0, 1);
+    }
+
+    @Test
+    void registerAllWithListenerRegisteringMeterOfTheBatch() {
+        registry.config().onMeterAdded(meter -> {
+            if (meter.getId().getName().equals("a")) {
+                registry.counter("b");
+            }
+        });
+
+        List<Meter> meters = registry.registerAll(Arrays.asList(Counter.builder("a"), Counter.builder("b")));
+
+        assertThat(registry.getMeters()).containsExactlyInAnyOrderElementsOf(meters);
+        assertThat(registry.counter("b")).isSameAs(meters.get(1));
+    }
+
+    @Test
+    void registerAllWithConflictingBuilderRegistersTheMetersBeforeIt() {
+        List<Meter> added = new ArrayList<>();
+        registry.config().onMeterAdded(added::add);
+        registry.counter("existing");
+
+        assertThatThrownBy(() -> registry.registerAll(
+                Arrays.asList(Counter.builder("a"), Counter.builder("b"), Timer.builder("a"), Counter.builder("c"))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.registerAll(Arrays.asList(Counter.builder("d"), Timer.builder("existing"))))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.getMeters()).hasSize(4).containsExactlyInAnyOrderElementsOf(added);
+        assertThat(registry.find("a").counter()).isNotNull();
+        assertThat(registry.find("b").counter()).isNotNull();
+        assertThat(registry.find("c").meter()).isNull();
+        assertThat(registry.find("d").counter()).isNotNull();
+    }
+
+    @Test
+    void estimateRetainedBytes() {
+        assertThat(registry.estimateRetainedBytes()).isZero();
+
+        Counter counter = registry.counter("counter", "k", "v");
+        long counterBytes = registry.estimateRetainedBytes();
+        assertThat(counterBytes).isPositive();
+
+        registry.counter("counter", "k", "v", "k2", "v2");
+        assertThat(registry.estimateRetainedBytes()).isGreaterThan(counterBytes);
+
+        long beforeTimer = registry.estimateRetainedBytes();
+        registry.timer("timer", "k", "v");
+        long timerBytes = registry.estimateRetainedBytes() - beforeTimer;
+        long beforePercentilesTimer = registry.estimateRetainedBytes();
+        Timer.builder("percentiles.timer").tag("k", "v").publishPercentiles(0.5, 0.99).register(registry);
+        assertThat(registry.estimateRetainedBytes() - beforePercentilesTimer).isGreaterThan(timerBytes);
+        long beforeSloTimer = registry.estimateRetainedBytes();
+        Timer.builder("slo.timer").tag("k", "v").serviceLevelObjectives(Duration.ofMillis(10)).register(registry);
+        assertThat(registry.estimateRetainedBytes() - beforeSloTimer).isGreaterThan(timerBytes);
+
+        long beforeRemoval = registry.estimateRetainedBytes();
+        registry.remove(counter);
+        assertThat(registry.estimateRetainedBytes()).isEqualTo(beforeRemoval - counterBytes);
+    }
+
+    @Test
+    void estimateRetainedBytesIncludesMeterIndexOnceBuilt() {
+        registry.counter("counter", "k", "v");
+        long beforeSearch = registry.estimateRetainedBytes();
+
+        registry.find("counter").counters();
+        assertThat(registry.estimateRetainedBytes()).isGreaterThan(beforeSearch);
+    }
+
+    @Test
+    void maximumMetersPerNameEvictsLeastRecentlyUpdatedMeters() {
+        registry.config().maximumMetersPerName(10);
+        List<Counter> counters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            counters.add(registry.counter("counter", "i", String.valueOf(i)));
+        }
+        registry.counter("other").increment();
+        counters.get(0).increment();
+        counters.get(1).increment();
+
+        registry.counter("counter", "i", "10");
+
+        assertThat(registry.find("counter").counters()).hasSize(10);
+        assertThat(registry.find("counter").tag("i", "0").counter()).isNotNull();
+        assertThat(registry.find("counter").tag("i", "1").counter()).isNotNull();
+        assertThat(registry.find("counter").tag("i", "2").counter()).isNull();
+        assertThat(registry.find("counter").tag("i", "3").counter()).isNotNull();
+        assertThat(registry.find("counter").tag("i", "10").counter()).isNotNull();
+        assertThat(registry.find("other").counter()).isNotNull();
+    }
+
+    @Test
+    void maximumMetersPerNameDoesNotPollGauges() {
+        AtomicInteger polls = new AtomicInteger();
+        registry.config().maximumMetersPerName(1);
+        registry.gauge("gauge", Tags.of("i", "0"), polls, AtomicInteger::incrementAndGet);
+        registry.gauge("gauge", Tags.of("i", "1"), polls, AtomicInteger::incrementAndGet);
+
+        assertThat(polls.get()).isZero();
+        assertThat(registry.find("gauge").gauges()).hasSize(1);
+    }
+
+    @Test
+    void changingMaximumMetersPerNameKeepsRecency() {
+        registry.config().maximumMetersPerName(10);
+        List<Counter> counters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            counters.add(registry.counter("counter", "i", String.valueOf(i)));
+        }
+        counters.get(0).increment();
+
+        registry.config().maximumMetersPerName(2);
+        registry.counter("counter", "i", "5");
+
+        assertThat(registry.find("counter").counters()).hasSize(2);
+        assertThat(registry.find("counter").tag("i", "0").counter()).isNotNull();
+        assertThat(registry.find("counter").tag("i", "5").counter()).isNotNull();
+    }
+
 }
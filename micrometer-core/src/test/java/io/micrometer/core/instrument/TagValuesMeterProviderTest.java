@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TagValuesMeterProvider}.
+ */
+class TagValuesMeterProviderTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void returnsSameMeterForSameTagValues() {
+        TagValuesMeterProvider<Counter> provider = Counter.builder("test.counter")
+            .tag("static", "abc")
+            .withRegistry(registry)
+            .withTagKeys("method", "status");
+
+        Counter counter = provider.withTagValues("GET", "200");
+
+        assertThat(provider.withTagValues("GET", "200")).isSameAs(counter);
+        assertThat(provider.withTagValues(new String[] { "GET", "200" })).isSameAs(counter);
+        assertThat(provider.withTagValues("GET", "500")).isNotSameAs(counter);
+        assertThat(counter.getId().getTags()).containsExactly(Tag.of("method", "GET"), Tag.of("static", "abc"),
+                Tag.of("status", "200"));
+        assertThat(registry.getMeters()).hasSize(2);
+    }
+
+    @Test
+    void sameMeterAsMeterProvider() {
+        Meter.MeterProvider<Timer> meterProvider = Timer.builder("test.timer").withRegistry(registry);
+        TagValuesMeterProvider<Timer> provider = meterProvider.withTagKeys("uri");
+
+        assertThat(provider.withTagValue("/")).isSameAs(meterProvider.withTag("uri", "/"));
+    }
+
+    @Test
+    void removedMeterIsNotReturned() {
+        TagValuesMeterProvider<Counter> provider = Counter.builder("test.counter")
+            .withRegistry(registry)
+            .withTagKeys("uri");
+        Counter counter = provider.withTagValue("/");
+
+        registry.remove(counter);
+
+        Counter recreated = provider.withTagValue("/");
+        assertThat(recreated).isNotSameAs(counter);
+        assertThat(registry.getMeters()).containsExactly(recreated);
+    }
+
+    @Test
+    void removedMeterIsNotReturnedByAnyMeterProvider() {
+        Meter.MeterProvider<Counter> meterProvider = tags -> Counter.builder("test.counter")
+            .tags(Tags.of(tags))
+            .register(registry);
+        TagValuesMeterProvider<Counter> provider = meterProvider.withTagKeys("uri");
+        Counter counter = provider.withTagValue("/");
+
+        registry.remove(counter);
+
+        assertThat(provider.withTagValue("/")).isNotSameAs(counter);
+    }
+
+    @Test
+    void removingOtherMeterKeepsCachedMeter() {
+        AtomicInteger lookups = new AtomicInteger();
+        Meter.MeterProvider<Counter> meterProvider = Counter.builder("test.counter").withRegistry(registry);
+        TagValuesMeterProvider<Counter> provider = ((Meter.MeterProvider<Counter>) tags -> {
+            lookups.incrementAndGet();
+            return meterProvider.withTags(tags);
+        }).withTagKeys("uri");
+        Counter counter = provider.withTagValue("/");
+
+        registry.remove(provider.withTagValue("/other"));
+
+        assertThat(provider.withTagValue("/")).isSameAs(counter);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void meterFilterAddedLaterIsApplied() {
+        TagValuesMeterProvider<DistributionSummary> provider = DistributionSummary.builder("test.summary")
+            .withRegistry(registry)
+            .withTagKeys("uri");
+        provider.withTagValue("/");
+
+        registry.config().commonTags("common", "tag");
+
+        assertThat(provider.withTagValue("/").getId().getTag("common")).isEqualTo("tag");
+    }
+
+    @Test
+    void collidingTagValuesAreDistinguished() {
+        TagValuesMeterProvider<LongTaskTimer> provider = new TagValuesMeterProvider<>(
+                LongTaskTimer.builder("test.ltt").withRegistry(registry), new String[] { "uri" }, 1);
+
+        LongTaskTimer first = provider.withTagValue("/first");
+        LongTaskTimer second = provider.withTagValue("/second");
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(provider.withTagValue("/first")).isSameAs(first);
+        assertThat(provider.withTagValue("/second")).isSameAs(second);
+    }
+
+    @Test
+    void wrongNumberOfTagValues() {
+        TagValuesMeterProvider<Counter> provider = Counter.builder("test.counter")
+            .withRegistry(registry)
+            .withTagKeys("method", "status");
+
+        assertThatThrownBy(() -> provider.withTagValue("GET")).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected 2 tag values for tag keys [method, status] but got 1");
+    }
+
+}
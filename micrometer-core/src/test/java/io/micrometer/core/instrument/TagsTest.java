@@ -377,6 +377,35 @@ class TagsTest {
         assertThat(allocatedBytes).isEqualTo(0);
     }
 
+    @Test
+    void internReturnsSameInstanceForEqualTags() {
+        Tags tags = Tags.of("b", "2", "a", "1").intern();
+
+        assertThat(Tags.of("a", "1", "b", "2").intern()).isSameAs(tags);
+        assertThat(tags.intern()).isSameAs(tags);
+        assertThat(Tags.empty().intern()).isSameAs(Tags.empty());
+        assertThat(tags.stream()).allSatisfy(tag -> assertThat(tag).isSameAs(((ImmutableTag) tag).intern()));
+    }
+
+    @Test
+    void internedTagsAreEqualToNonInternedTags() {
+        Tags interned = Tags.of("a", "1", "b", "2").intern();
+        Tags notInterned = Tags.of("a", "1", "b", "2");
+
+        assertThat(interned).isEqualTo(notInterned).hasSameHashCodeAs(notInterned);
+        assertThat(notInterned).isEqualTo(interned);
+        assertThat(interned).isNotEqualTo(Tags.of("a", "1", "b", "3").intern());
+        assertThat(new Meter.Id("name", interned, null, null, Meter.Type.COUNTER))
+            .isEqualTo(new Meter.Id("name", notInterned, null, null, Meter.Type.COUNTER));
+    }
+
+    @Test
+    void internImmutableTag() {
+        ImmutableTag tag = new ImmutableTag("key", "value");
+
+        assertThat(new ImmutableTag("key", "value").intern()).isSameAs(tag.intern()).isEqualTo(tag);
+    }
+
     private void assertTags(Tags tags, String... keyValues) {
         Iterator<Tag> actual = tags.iterator();
         Iterator<String> expected = Arrays.asList(keyValues).iterator();
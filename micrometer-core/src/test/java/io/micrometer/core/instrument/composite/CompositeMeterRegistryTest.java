@@ -495,4 +495,35 @@ class CompositeMeterRegistryTest {
         assertThat(this.simple.getMeters()).isEmpty();
     }
 
+    @Test
+    void maximumMetersPerNameEvictsLeastRecentlyRecordedCompositeMeters() {
+        composite.add(simple);
+        composite.config().maximumMetersPerName(2);
+        Counter counter = composite.counter("counter", "i", "0");
+        composite.counter("counter", "i", "1");
+        Timer timer = composite.timer("timer", "i", "0");
+        composite.timer("timer", "i", "1");
+        DistributionSummary summary = composite.summary("summary", "i", "0");
+        composite.summary("summary", "i", "1");
+        LongTaskTimer longTaskTimer = composite.more().longTaskTimer("ltt", "i", "0");
+        composite.more().longTaskTimer("ltt", "i", "1");
+
+        counter.increment();
+        timer.record(Duration.ofMillis(1));
+        summary.record(1);
+        longTaskTimer.start();
+
+        composite.counter("counter", "i", "2");
+        composite.timer("timer", "i", "2");
+        composite.summary("summary", "i", "2");
+        composite.more().longTaskTimer("ltt", "i", "2");
+
+        for (String name : new String[] { "counter", "timer", "summary", "ltt" }) {
+            assertThat(composite.find(name).meters()).hasSize(2);
+            assertThat(composite.find(name).tag("i", "0").meter()).isNotNull();
+            assertThat(composite.find(name).tag("i", "1").meter()).isNull();
+            assertThat(composite.find(name).tag("i", "2").meter()).isNotNull();
+        }
+    }
+
 }
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 class Base2ExponentialHistogramTest {
 
@@ -43,8 +44,7 @@ class Base2ExponentialHistogramTest {
          * values are more human-readable.
          */
 
-        base2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS_COUNT, 1.0, null,
-                null);
+        base2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS_COUNT, 1.0, null);
     }
 
     @Test
@@ -59,7 +59,7 @@ class Base2ExponentialHistogramTest {
     @Test
     void testRecordTimeBased() {
         base2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS_COUNT, MILLI_SCALE,
-                TimeUnit.MILLISECONDS, null);
+                TimeUnit.MILLISECONDS);
         base2ExponentialHistogram.recordLong(Duration.ofMillis(1).toNanos());
         base2ExponentialHistogram.recordLong(Duration.ofMillis(2).toNanos()); // This
                                                                               // should be
@@ -76,9 +76,9 @@ class Base2ExponentialHistogramTest {
     @Test
     void testRecordTimeBasedInSeconds() {
         base2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS_COUNT, MILLI_SCALE,
-                TimeUnit.MILLISECONDS, null);
+                TimeUnit.MILLISECONDS);
         base2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, MAX_BUCKETS_COUNT, MILLI_SCALE,
-                TimeUnit.SECONDS, null);
+                TimeUnit.SECONDS);
 
         base2ExponentialHistogram.recordLong(Duration.ofMillis(1).toNanos());
 
@@ -109,7 +109,7 @@ class Base2ExponentialHistogramTest {
         assertThat(getAllBucketsCountSum(currentSnapshot)).isEqualTo(1);
 
         Base2ExponentialHistogram base2ExponentialHistogramWithZeroAsMin = new CumulativeBase2ExponentialHistogram(
-                MAX_SCALE, MAX_BUCKETS_COUNT, 0.0, null, null);
+                MAX_SCALE, MAX_BUCKETS_COUNT, 0.0, null);
         base2ExponentialHistogramWithZeroAsMin.recordDouble(0.0);
         base2ExponentialHistogramWithZeroAsMin.recordDouble(Math.nextUp(0.0));
 
@@ -258,6 +258,22 @@ class Base2ExponentialHistogramTest {
         assertThat(getAllBucketsCountSum(currentSnapshot)).isZero();
     }
 
+    @Test
+    void convertsToMergeableHistogram() {
+        base2ExponentialHistogram.recordDouble(0.5);
+        base2ExponentialHistogram.recordDouble(2);
+        base2ExponentialHistogram.recordDouble(4);
+
+        MergeableExponentialHistogram mergeable = MergeableExponentialHistogram
+            .of(base2ExponentialHistogram.getCurrentValuesSnapshot(), 6.5, 4);
+
+        assertThat(mergeable.count()).isEqualTo(3);
+        assertThat(mergeable.zeroCount()).isEqualTo(1);
+        assertThat(mergeable.scale()).isEqualTo(base2ExponentialHistogram.getScale());
+        assertThat(mergeable.valueAtPercentile(1)).isCloseTo(4, within(4 * 0.1));
+        assertThat(mergeable.valueAtPercentile(0.6)).isCloseTo(2, within(2 * 0.1));
+    }
+
     static long getAllBucketsCountSum(ExponentialHistogramSnapShot snapShot) {
         return snapShot.positive().bucketCounts().stream().mapToLong(Long::longValue).sum();
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BucketIndexTest {
+
+    @Test
+    void percentileHistogramBuckets() {
+        double[] buckets = PercentileHistogramBuckets.buckets(DistributionStatisticConfig.builder()
+            .minimumExpectedValue(1.0)
+            .maximumExpectedValue(Double.POSITIVE_INFINITY)
+            .build()).stream().mapToDouble(Double::doubleValue).toArray();
+        assertIndexOfMatchesBinarySearch(buckets);
+    }
+
+    @Test
+    void bucketsSubsetWithServiceLevelObjectives() {
+        double[] buckets = DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .serviceLevelObjectives(1.5, 250, 1_000_000)
+            .minimumExpectedValue(100.0)
+            .maximumExpectedValue(10_000_000_000.0)
+            .build()
+            .getHistogramBuckets(true)
+            .stream()
+            .mapToDouble(Double::doubleValue)
+            .toArray();
+        assertIndexOfMatchesBinarySearch(buckets);
+    }
+
+    @Test
+    void manyBucketsBetweenPowersOf2() {
+        assertIndexOfMatchesBinarySearch(LongStream.rangeClosed(1000, 2000).mapToDouble(bound -> bound).toArray());
+    }
+
+    @Test
+    void fractionalAndEmptyBuckets() {
+        assertIndexOfMatchesBinarySearch(new double[] { 0.25, 0.5, 2.5 });
+        assertIndexOfMatchesBinarySearch(new double[0]);
+    }
+
+    @Test
+    void histogramsWithTheSameConfigShareBuckets() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        TimeWindowFixedBoundaryHistogram histogram = new TimeWindowFixedBoundaryHistogram(new MockClock(), config,
+                true);
+        TimeWindowFixedBoundaryHistogram other = new TimeWindowFixedBoundaryHistogram(new MockClock(), config, true);
+        StepBucketHistogram stepHistogram = new StepBucketHistogram(new MockClock(), 60_000, config, true, false);
+
+        assertThat(other.getBuckets()).isSameAs(histogram.getBuckets());
+        assertThat(stepHistogram.getBuckets()).isSameAs(histogram.getBuckets());
+    }
+
+    @Test
+    void emptyBucketsOfSnapshotsAreShared() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .serviceLevelObjectives(1, 10, 100)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        TimeWindowFixedBoundaryHistogram histogram = new TimeWindowFixedBoundaryHistogram(new MockClock(), config,
+                false, false);
+        TimeWindowFixedBoundaryHistogram other = new TimeWindowFixedBoundaryHistogram(new MockClock(), config, false,
+                false);
+        histogram.recordLong(5);
+
+        CountAtBucket[] counts = histogram.takeSnapshot(0, 0, 0).histogramCounts();
+        CountAtBucket[] otherCounts = other.takeSnapshot(0, 0, 0).histogramCounts();
+
+        assertThat(counts).containsExactly(new CountAtBucket(1.0, 0), new CountAtBucket(10.0, 1),
+                new CountAtBucket(100.0, 0));
+        assertThat(counts[0]).isSameAs(otherCounts[0]);
+        assertThat(counts[2]).isSameAs(otherCounts[2]);
+    }
+
+    private static void assertIndexOfMatchesBinarySearch(double[] buckets) {
+        BucketIndex index = new BucketIndex(buckets);
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> random.nextInt(64);
+            assertThat(index.indexOf(value)).as("value %d", value)
+                .isEqualTo(index.leastLessThanOrEqualTo((double) value));
+        }
+        for (double bucket : buckets) {
+            long value = (long) bucket;
+            for (long v = value - 1; v <= value + 1; v++) {
+                assertThat(index.indexOf(v)).as("value %d", v).isEqualTo(index.leastLessThanOrEqualTo((double) v));
+            }
+        }
+        for (long value : new long[] { Long.MIN_VALUE, -1, 0, 1, 2, 3, Long.MAX_VALUE }) {
+            assertThat(index.indexOf(value)).as("value %d", value)
+                .isEqualTo(index.leastLessThanOrEqualTo((double) value));
+        }
+    }
+
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,7 +28,7 @@ class CumulativeBase2ExponentialHistogramTest {
 
     @BeforeEach
     void setUp() {
-        cumulativeBase2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, 16, 1.0, null, null);
+        cumulativeBase2ExponentialHistogram = new CumulativeBase2ExponentialHistogram(MAX_SCALE, 16, 1.0, null);
     }
 
     @Test
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.micrometer.registry.otlp;
+package io.micrometer.core.instrument.distribution;
 
 import io.micrometer.core.instrument.MockClock;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,7 +37,7 @@ class DeltaBase2ExponentialHistogramTest {
     void setUp() {
         clock = new MockClock();
         deltaBase2ExponentialHistogram = new DeltaBase2ExponentialHistogram(MAX_SCALE, 16, 1.0, null, clock,
-                step.toMillis(), null);
+                step.toMillis());
     }
 
     @Test
@@ -38,6 +38,22 @@ class DistributionStatisticConfigTest {
         assertThat(merged.getExpiry()).isEqualTo(Duration.ofMinutes(2));
     }
 
+    @Test
+    void mergePercentileEngine() {
+        DistributionStatisticConfig sketch = DistributionStatisticConfig.builder()
+            .percentileEngine(PercentileEngine.SKETCH)
+            .build();
+
+        assertThat(DistributionStatisticConfig.DEFAULT.getPercentileEngine()).isNull();
+        assertThat(sketch.merge(DistributionStatisticConfig.DEFAULT).getPercentileEngine())
+            .isEqualTo(PercentileEngine.SKETCH);
+        assertThat(DistributionStatisticConfig.builder()
+            .percentiles(0.5)
+            .build()
+            .merge(sketch)
+            .getPercentileEngine()).isEqualTo(PercentileEngine.SKETCH);
+    }
+
     @Test
     void bufferLengthValidation() {
         assertThatThrownBy(() -> DistributionStatisticConfig.builder().bufferLength(0).build())
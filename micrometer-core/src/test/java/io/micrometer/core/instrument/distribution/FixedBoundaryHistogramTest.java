@@ -17,6 +17,7 @@ package io.micrometer.core.instrument.distribution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -90,4 +91,17 @@ class FixedBoundaryHistogramTest {
                 new CountAtBucket(10.0, 2), new CountAtBucket(100.0, 3));
     }
 
+    @Test
+    void concurrentRecordingsAreAllCounted() {
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            for (int i = 0; i < 10_000; i++) {
+                fixedBoundaryHistogram.record(i % 3 == 0 ? 1 : 10);
+            }
+        });
+        assertThat(fixedBoundaryHistogram.getCountAtBuckets()).containsExactly(new CountAtBucket(1.0, 8 * 3334),
+                new CountAtBucket(10.0, 8 * 6666), new CountAtBucket(100.0, 0));
+        fixedBoundaryHistogram.reset();
+        assertThat(fixedBoundaryHistogram.getCountAtBuckets()).allMatch(countAtBucket -> countAtBucket.count() == 0);
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.cumulative.CumulativeDistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistogramSnapshotBufferTest {
+
+    MockClock clock = new MockClock();
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry(key -> null, clock);
+
+    HistogramSnapshotBuffer buffer = new HistogramSnapshotBuffer();
+
+    @Test
+    void visitedSnapshotMatchesTakenSnapshot() {
+        Timer timer = Timer.builder("my.timer")
+            .publishPercentiles(0.5, 0.95)
+            .serviceLevelObjectives(Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMillis(100))
+            .register(registry);
+        for (int i = 1; i <= 200; i++) {
+            timer.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        timer.visitSnapshot(buffer);
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        assertThat(buffer.count()).isEqualTo(snapshot.count());
+        assertThat(buffer.total()).isEqualTo(snapshot.total());
+        assertThat(buffer.total(TimeUnit.MILLISECONDS)).isEqualTo(snapshot.total(TimeUnit.MILLISECONDS));
+        assertThat(buffer.max()).isEqualTo(snapshot.max());
+        assertThat(buffer.percentileCount()).isEqualTo(snapshot.percentileValues().length);
+        for (int i = 0; i < buffer.percentileCount(); i++) {
+            assertThat(buffer.percentile(i)).isEqualTo(snapshot.percentileValues()[i].percentile());
+            assertThat(buffer.percentileValue(i)).isEqualTo(snapshot.percentileValues()[i].value());
+        }
+        assertThat(buffer.bucketCount()).isEqualTo(snapshot.histogramCounts().length);
+        for (int i = 0; i < buffer.bucketCount(); i++) {
+            assertThat(buffer.bucket(i)).isEqualTo(snapshot.histogramCounts()[i].bucket());
+            assertThat(buffer.countAtBucket(i)).isEqualTo(snapshot.histogramCounts()[i].count());
+        }
+    }
+
+    @Test
+    void bufferIsResetBetweenSnapshots() {
+        DistributionSummary withHistogram = DistributionSummary.builder("with.histogram")
+            .publishPercentileHistogram()
+            .register(registry);
+        DistributionSummary withoutHistogram = DistributionSummary.builder("without.histogram").register(registry);
+        withHistogram.record(5);
+        withoutHistogram.record(7);
+
+        withHistogram.visitSnapshot(buffer);
+        assertThat(buffer.bucketCount()).isGreaterThan(16);
+
+        withoutHistogram.visitSnapshot(buffer);
+        assertThat(buffer.count()).isEqualTo(1);
+        assertThat(buffer.total()).isEqualTo(7);
+        assertThat(buffer.percentileCount()).isZero();
+        assertThat(buffer.bucketCount()).isZero();
+    }
+
+    @Test
+    void overriddenTakeSnapshotIsVisited() {
+        HistogramSnapshot custom = new HistogramSnapshot(3, 6, 3, null,
+                new CountAtBucket[] { new CountAtBucket(2.0, 2), new CountAtBucket(4.0, 3) }, null);
+        DistributionSummary summary = new CumulativeDistributionSummary(
+                new Meter.Id("custom", Tags.empty(), null, null, Meter.Type.DISTRIBUTION_SUMMARY), clock,
+                DistributionStatisticConfig.DEFAULT, 1.0) {
+            @Override
+            public HistogramSnapshot takeSnapshot() {
+                return custom;
+            }
+        };
+
+        summary.visitSnapshot(buffer);
+
+        assertThat(buffer.count()).isEqualTo(3);
+        assertThat(buffer.bucketCount()).isEqualTo(2);
+        assertThat(buffer.bucket(1)).isEqualTo(4.0);
+        assertThat(buffer.countAtBucket(1)).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MergeableHistogramTest {
+
+    MockClock clock = new MockClock();
+
+    DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+        .serviceLevelObjectives(10, 20, 50, 100)
+        .build()
+        .merge(DistributionStatisticConfig.DEFAULT);
+
+    @Test
+    void mergeFixedBoundaryHistograms() {
+        MergeableFixedBoundaryHistogram first = fixedBoundary(5, 15, 15, 200);
+        MergeableFixedBoundaryHistogram second = fixedBoundary(1, 60, 70);
+
+        MergeableFixedBoundaryHistogram merged = first.merge(second);
+
+        assertThat(merged).isEqualTo(fixedBoundary(5, 15, 15, 200, 1, 60, 70));
+        assertThat(merged.count()).isEqualTo(7);
+        assertThat(merged.total()).isEqualTo(366);
+        assertThat(merged.max()).isEqualTo(200);
+        assertThat(merged.countAtBucket(0)).isEqualTo(2);
+        assertThat(merged.countAtBucket(3)).isEqualTo(2);
+        assertThat(merged.countAtBucket(4)).isEqualTo(1);
+    }
+
+    @Test
+    void fixedBoundaryHistogramsWithDifferentBucketsCannotBeMerged() {
+        MergeableFixedBoundaryHistogram other = MergeableFixedBoundaryHistogram.of(
+                new HistogramSnapshot(1, 1, 1, null, new CountAtBucket[] { new CountAtBucket(5.0, 1) }, null), true);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> fixedBoundary(1).merge(other));
+    }
+
+    @Test
+    void fixedBoundaryPercentilesAreInterpolatedWithinBuckets() {
+        MergeableFixedBoundaryHistogram histogram = fixedBoundary(11, 12, 13, 14, 150);
+
+        assertThat(histogram.valueAtPercentile(0.2)).isEqualTo(12.5);
+        assertThat(histogram.valueAtPercentile(0.8)).isEqualTo(20);
+        assertThat(histogram.valueAtPercentile(1)).isEqualTo(150);
+        assertThat(fixedBoundary().valueAtPercentile(0.5)).isZero();
+    }
+
+    @Test
+    void fixedBoundarySnapshotHasCumulativeCounts() {
+        HistogramSnapshot snapshot = fixedBoundary(5, 15, 15, 200).toSnapshot(0.5);
+
+        assertThat(snapshot.count()).isEqualTo(4);
+        assertThat(snapshot.histogramCounts()).containsExactly(new CountAtBucket(10.0, 1), new CountAtBucket(20.0, 3),
+                new CountAtBucket(50.0, 3), new CountAtBucket(100.0, 3));
+        assertThat(snapshot.percentileValues()).containsExactly(new ValueAtPercentile(0.5, 15));
+    }
+
+    @Test
+    void fixedBoundaryCountIsTakenFromTheInfinityBucket() {
+        CountAtBucket[] countsAtBuckets = { new CountAtBucket(10.0, 1), new CountAtBucket(20.0, 3),
+                new CountAtBucket(Double.POSITIVE_INFINITY, 4) };
+        HistogramSnapshot snapshot = new HistogramSnapshot(100, 1000, 300, null, countsAtBuckets, null);
+
+        MergeableFixedBoundaryHistogram histogram = MergeableFixedBoundaryHistogram.of(snapshot, true);
+
+        assertThat(histogram.count()).isEqualTo(4);
+        assertThat(histogram.bucketCount()).isEqualTo(2);
+        assertThat(histogram.countAtBucket(2)).isEqualTo(1);
+    }
+
+    @Test
+    void fixedBoundaryNegativeCountsAreRejected() {
+        HistogramSnapshot nonCumulative = new HistogramSnapshot(4, 40, 15, null,
+                new CountAtBucket[] { new CountAtBucket(10.0, 3), new CountAtBucket(20.0, 1) }, null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> MergeableFixedBoundaryHistogram.of(nonCumulative, true));
+        assertThat(MergeableFixedBoundaryHistogram.of(nonCumulative, false).count()).isEqualTo(4);
+    }
+
+    @Test
+    void mergeExponentialHistogramsAtTheLowerScale() {
+        double[] values = new Random(42).doubles(1000, 1, 1_000_000).toArray();
+        double[] first = Arrays.copyOfRange(values, 0, 400);
+        double[] second = Arrays.copyOfRange(values, 400, 1000);
+
+        MergeableExponentialHistogram merged = exponential(8, first).merge(exponential(4, second));
+
+        assertThat(merged.scale()).isEqualTo(4);
+        assertThat(merged.count()).isEqualTo(1000);
+        assertThat(Arrays.stream(values).sum()).isCloseTo(merged.total(), within(1e-6));
+        MergeableExponentialHistogram expected = exponential(4, values);
+        assertThat(merged.offset()).isEqualTo(expected.offset());
+        for (int i = 0; i < merged.bucketCount(); i++) {
+            assertThat(merged.countAtBucket(i)).isEqualTo(expected.countAtBucket(i));
+        }
+    }
+
+    @Test
+    void exponentialPercentilesAreWithinTheRelativeErrorOfTheScale() {
+        double[] values = new Random(7).doubles(10_000).map(d -> Math.exp(10 + 4 * d)).toArray();
+        MergeableExponentialHistogram merged = exponential(6, Arrays.copyOfRange(values, 0, 5000))
+            .merge(exponential(6, Arrays.copyOfRange(values, 5000, 10_000)));
+        Arrays.sort(values);
+
+        for (double percentile : new double[] { 0.5, 0.9, 0.99 }) {
+            double expected = values[(int) Math.ceil(percentile * values.length) - 1];
+            assertThat(merged.valueAtPercentile(percentile)).isCloseTo(expected, within(expected * 0.006));
+        }
+    }
+
+    @Test
+    void exponentialMergeLowersScaleUntilBucketsFit() {
+        MergeableExponentialHistogram low = MergeableExponentialHistogram.of(20, 0.0, 0, 0, new long[] { 1 }, 1, 1);
+        MergeableExponentialHistogram high = MergeableExponentialHistogram.of(20, 0.0, 0, (1 << 20) + 5,
+                new long[] { 1 }, 2, 2);
+
+        MergeableExponentialHistogram merged = low.merge(high);
+
+        assertThat(merged.scale()).isEqualTo(19);
+        assertThat(merged.offset()).isZero();
+        assertThat(merged.bucketCount()).isEqualTo((1 << 19) + 3);
+        assertThat(merged.countAtBucket(0)).isEqualTo(1);
+        assertThat(merged.countAtBucket((1 << 19) + 2)).isEqualTo(1);
+        assertThat(merged.count()).isEqualTo(2);
+    }
+
+    @Test
+    void histogramsSurviveSerialization() throws IOException {
+        MergeableFixedBoundaryHistogram fixedBoundary = fixedBoundary(5, 15, 15, 200);
+        MergeableExponentialHistogram exponential = MergeableExponentialHistogram.of(3, 0.0, 2, -4,
+                new long[] { 1, 0, 300, 0, 70_000 }, 1234.5, 17);
+
+        assertThat(roundTrip(fixedBoundary)).isEqualTo(fixedBoundary);
+        assertThat(roundTrip(exponential)).isEqualTo(exponential);
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[] { 42 }));
+
+        assertThatIOException().isThrownBy(() -> MergeableHistogram.readFrom(in));
+    }
+
+    @Test
+    void corruptFixedBoundaryHistogramsAreRejected() {
+        assertThatIOException().isThrownBy(() -> readFixedBoundary(-1, 1, 2));
+        assertThatIOException().isThrownBy(() -> readFixedBoundary(1, 1, 3));
+    }
+
+    @Test
+    void corruptExponentialHistogramsAreRejected() {
+        assertThatIOException().isThrownBy(() -> readExponential(0, 0, 1, -1));
+        assertThatIOException().isThrownBy(() -> readExponential(-1, 0, 1, 1));
+        assertThatIOException().isThrownBy(() -> readExponential(0, Integer.MAX_VALUE, 1, 1));
+    }
+
+    @Test
+    void exponentialBucketsOutOfRangeAreRejected() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> MergeableExponentialHistogram.of(0, 0.0, 0, Integer.MAX_VALUE, new long[] { 1, 1 }, 2, 1));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> MergeableExponentialHistogram.of(0, 0.0, -1, 0, new long[0], 0, 0));
+    }
+
+    private static MergeableHistogram<?> readFixedBoundary(long underCount, long overCount, long count)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MergeableFixedBoundaryHistogram.FORMAT);
+        HistogramEncoding.writeVarLong(out, 1);
+        out.writeDouble(10);
+        HistogramEncoding.writeVarLong(out, underCount);
+        HistogramEncoding.writeVarLong(out, overCount);
+        HistogramEncoding.writeVarLong(out, count);
+        out.writeDouble(20);
+        out.writeDouble(15);
+        return MergeableHistogram.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static MergeableHistogram<?> readExponential(long zeroCount, int offset, long firstCount,
+            long secondCount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MergeableExponentialHistogram.FORMAT);
+        out.writeByte(0);
+        out.writeDouble(0);
+        HistogramEncoding.writeVarLong(out, zeroCount);
+        out.writeInt(offset);
+        HistogramEncoding.writeVarLong(out, 2);
+        HistogramEncoding.writeVarLong(out, firstCount);
+        HistogramEncoding.writeVarLong(out, secondCount);
+        out.writeDouble(3);
+        out.writeDouble(2);
+        return MergeableHistogram.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private MergeableFixedBoundaryHistogram fixedBoundary(double... values) {
+        try (TimeWindowFixedBoundaryHistogram histogram = new TimeWindowFixedBoundaryHistogram(clock, config, false)) {
+            double max = 0;
+            for (double value : values) {
+                histogram.recordDouble(value);
+                max = Math.max(max, value);
+            }
+            HistogramSnapshot snapshot = histogram.takeSnapshot(values.length, Arrays.stream(values).sum(), max);
+            return MergeableFixedBoundaryHistogram.of(snapshot, true);
+        }
+    }
+
+    private static MergeableExponentialHistogram exponential(int scale, double... values) {
+        int first = Arrays.stream(values)
+            .mapToInt(IndexProviderFactory.getIndexProviderForScale(scale)::getIndexForValue)
+            .min()
+            .orElse(0);
+        long[] counts = new long[0];
+        for (double value : values) {
+            int index = IndexProviderFactory.getIndexProviderForScale(scale).getIndexForValue(value) - first;
+            if (index >= counts.length) {
+                counts = Arrays.copyOf(counts, index + 1);
+            }
+            counts[index]++;
+        }
+        return MergeableExponentialHistogram.of(scale, 0.0, 0, first, counts, Arrays.stream(values).sum(),
+                Arrays.stream(values).max().orElse(0));
+    }
+
+    private static MergeableHistogram<?> roundTrip(MergeableHistogram<?> histogram) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        histogram.writeTo(new DataOutputStream(bytes));
+        return MergeableHistogram.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TimeWindowBase2ExponentialHistogramTest {
+
+    MockClock clock = new MockClock();
+
+    @Test
+    void percentilesAreWithinTheBucketWidth() {
+        try (TimeWindowBase2ExponentialHistogram histogram = new TimeWindowBase2ExponentialHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .percentiles(0.5, 0.9, 0.99, 0.999)
+                    .percentilePrecision(2)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            Random random = new Random(42);
+            long[] values = new long[100_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) Math.exp(14 + 0.5 * random.nextGaussian());
+                histogram.recordLong(values[i]);
+            }
+            Arrays.sort(values);
+
+            for (ValueAtPercentile valueAtPercentile : histogram.takeSnapshot(0, 0, 0).percentileValues()) {
+                double expected = values[(int) Math.ceil(valueAtPercentile.percentile() * values.length) - 1];
+                assertThat(valueAtPercentile.value()).isCloseTo(expected, within(expected * 0.02));
+            }
+        }
+    }
+
+    @Test
+    void histogramCountsSplitOnlyTheBucketHoldingTheBound() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .serviceLevelObjectives(1.0, 4.5, 100)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        try (TimeWindowBase2ExponentialHistogram cumulative = new TimeWindowBase2ExponentialHistogram(clock, config,
+                false);
+                TimeWindowBase2ExponentialHistogram nonCumulative = new TimeWindowBase2ExponentialHistogram(clock,
+                        config, false, false)) {
+
+            for (double value : new double[] { 3, 6 }) {
+                cumulative.recordDouble(value);
+                nonCumulative.recordDouble(value);
+            }
+
+            assertThat(cumulative.takeSnapshot(0, 0, 0).histogramCounts()).containsExactly(new CountAtBucket(1.0, 0),
+                    new CountAtBucket(4.5, 1), new CountAtBucket(100.0, 2));
+            assertThat(nonCumulative.takeSnapshot(0, 0, 0).histogramCounts()).containsExactly(
+                    new CountAtBucket(1.0, 0), new CountAtBucket(4.5, 1), new CountAtBucket(100.0, 1));
+        }
+    }
+
+    @Test
+    void valuesUpToTheMinimumExpectedValueAreZeros() {
+        try (TimeWindowBase2ExponentialHistogram histogram = new TimeWindowBase2ExponentialHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .percentiles(0.25)
+                    .minimumExpectedValue(10.0)
+                    .serviceLevelObjectives(5.0, 20.0)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            histogram.recordDouble(0);
+            histogram.recordDouble(10);
+            histogram.recordDouble(15);
+
+            HistogramSnapshot snapshot = histogram.takeSnapshot(0, 0, 0);
+            assertThat(snapshot.percentileValues()[0].value()).isLessThan(10.0);
+            assertThat(snapshot.histogramCounts()).containsExactly(new CountAtBucket(5.0, 0),
+                    new CountAtBucket(20.0, 3));
+        }
+    }
+
+    @Test
+    void valuesExpireWithTheTimeWindow() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .percentiles(0.5)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        try (TimeWindowBase2ExponentialHistogram histogram = new TimeWindowBase2ExponentialHistogram(clock, config,
+                false)) {
+            histogram.recordLong(1000);
+            assertThat(histogram.takeSnapshot(0, 0, 0).percentileValues()[0].value()).isCloseTo(1000,
+                    within(1000 * 0.01));
+
+            clock.add(config.getExpiry());
+            assertThat(histogram.takeSnapshot(0, 0, 0).percentileValues()[0].value()).isZero();
+        }
+    }
+
+}
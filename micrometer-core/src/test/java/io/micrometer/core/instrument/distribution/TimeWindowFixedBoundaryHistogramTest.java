@@ -138,4 +138,23 @@ class TimeWindowFixedBoundaryHistogramTest {
         }
     }
 
+    @Test
+    void countsAtBucketIndexSumTheFixedBoundariesAtOrBelowEachBucket() {
+        try (TimeWindowFixedBoundaryHistogram histogram = new TimeWindowFixedBoundaryHistogram(new MockClock(),
+                DistributionStatisticConfig.builder()
+                    .serviceLevelObjectives(3.0, 6, 7)
+                    .bufferLength(1)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false, false)) {
+
+            histogram.recordDouble(3);
+            histogram.recordDouble(6);
+            histogram.recordDouble(7);
+
+            assertThat(histogram.countsAtBuckets(BucketIndex.shared(new double[] { 3.0, 7.0 })))
+                .containsExactly(new CountAtBucket(3.0, 1), new CountAtBucket(7.0, 2));
+        }
+    }
+
 }
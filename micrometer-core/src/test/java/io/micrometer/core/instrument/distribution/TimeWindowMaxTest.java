@@ -67,6 +67,45 @@ class TimeWindowMaxTest {
         assertThat(timeWindowMax.poll()).isEqualTo(100500); // 666 | 500 | 100500
     }
 
+    @Test
+    void maxOfEachIntervalDecaysOnItsOwn() {
+        TimeWindowMax timeWindowMax = new TimeWindowMax(clock, 60_000, 3);
+        timeWindowMax.record(3.5);
+        clock.add(Duration.ofMinutes(1));
+        timeWindowMax.record(2.5);
+        clock.add(Duration.ofMinutes(1));
+        timeWindowMax.record(1.5);
+        assertThat(timeWindowMax.poll()).isEqualTo(3.5); // 3.5 | 2.5 | 1.5
+
+        clock.add(Duration.ofMinutes(1));
+        assertThat(timeWindowMax.poll()).isEqualTo(2.5); // 0 | 2.5 | 1.5
+
+        clock.add(Duration.ofMinutes(1));
+        assertThat(timeWindowMax.poll()).isEqualTo(1.5); // 0 | 0 | 1.5
+
+        clock.add(Duration.ofMinutes(1));
+        assertThat(timeWindowMax.poll()).isZero();
+    }
+
+    @Test
+    void concurrentRecording() throws InterruptedException {
+        TimeWindowMax timeWindowMax = new TimeWindowMax(clock, 60_000, 3);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    timeWindowMax.record(i * threads.length + offset, TimeUnit.NANOSECONDS);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(timeWindowMax.poll(TimeUnit.NANOSECONDS)).isEqualTo(10_000 * threads.length - 1);
+    }
+
     @Test
     void throwsExceptionWhenRotateFrequency0() {
         assertThatThrownBy(() -> new TimeWindowMax(clock, 0, 3))
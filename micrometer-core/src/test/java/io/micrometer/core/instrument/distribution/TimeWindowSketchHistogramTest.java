@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.distribution;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TimeWindowSketchHistogramTest {
+
+    MockClock clock = new MockClock();
+
+    @Test
+    void percentilesAreWithinRelativeAccuracy() {
+        try (TimeWindowSketchHistogram histogram = new TimeWindowSketchHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .percentiles(0.5, 0.9, 0.99, 0.999)
+                    .percentilePrecision(2)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            Random random = new Random(42);
+            long[] values = new long[100_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) Math.exp(12 + 2 * random.nextGaussian());
+                histogram.recordLong(values[i]);
+            }
+            Arrays.sort(values);
+
+            for (ValueAtPercentile valueAtPercentile : histogram.takeSnapshot(0, 0, 0).percentileValues()) {
+                double expected = values[(int) Math.ceil(valueAtPercentile.percentile() * values.length) - 1];
+                assertThat(valueAtPercentile.value()).isCloseTo(expected, within(expected * 0.005));
+            }
+        }
+    }
+
+    @Test
+    void histogramsAreCumulative() {
+        try (TimeWindowSketchHistogram histogram = new TimeWindowSketchHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .serviceLevelObjectives(3.0, 6, 7)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            histogram.recordDouble(2);
+            histogram.recordDouble(5);
+
+            assertThat(histogram.takeSnapshot(0, 0, 0).histogramCounts()).containsExactly(new CountAtBucket(3.0, 1),
+                    new CountAtBucket(6.0, 2), new CountAtBucket(7.0, 2));
+        }
+    }
+
+    @Test
+    void sketchBucketHoldingBoundIsSplitAtTheBound() {
+        try (TimeWindowSketchHistogram histogram = new TimeWindowSketchHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .serviceLevelObjectives(2.8)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            // in the same sketch bucket as 2.8, from about 2.71 to 3.0
+            histogram.recordDouble(2.95);
+
+            assertThat(histogram.takeSnapshot(0, 0, 0).histogramCounts()[0].count()).isCloseTo(0.29, within(0.01));
+        }
+    }
+
+    @Test
+    void valuesExpireWithTheTimeWindow() {
+        DistributionStatisticConfig config = DistributionStatisticConfig.builder()
+            .percentiles(0.5)
+            .build()
+            .merge(DistributionStatisticConfig.DEFAULT);
+        try (TimeWindowSketchHistogram histogram = new TimeWindowSketchHistogram(clock, config, false)) {
+            histogram.recordLong(1000);
+            assertThat(histogram.takeSnapshot(0, 0, 0).percentileValues()[0].value()).isCloseTo(1000,
+                    within(1000 * 0.05));
+
+            clock.add(config.getExpiry());
+            assertThat(histogram.takeSnapshot(0, 0, 0).percentileValues()[0].value()).isZero();
+        }
+    }
+
+    @Test
+    void zeroAndHugeValues() {
+        try (TimeWindowSketchHistogram histogram = new TimeWindowSketchHistogram(clock,
+                DistributionStatisticConfig.builder()
+                    .percentiles(0.25, 1.0)
+                    .serviceLevelObjectives(Double.POSITIVE_INFINITY)
+                    .build()
+                    .merge(DistributionStatisticConfig.DEFAULT),
+                false)) {
+
+            histogram.recordDouble(0);
+            histogram.recordDouble(Double.MAX_VALUE);
+
+            HistogramSnapshot snapshot = histogram.takeSnapshot(0, 0, 0);
+            assertThat(snapshot.percentileValues()[0].value()).isZero();
+            assertThat(snapshot.percentileValues()[1].value()).isCloseTo(0x1p64, within(0x1p64 * 0.05));
+            assertThat(snapshot.histogramCounts()).containsExactly(new CountAtBucket(Double.POSITIVE_INFINITY, 2));
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.instrument.push;
+
+import io.micrometer.core.ipc.http.HttpSender;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MeterPayload}.
+ */
+class MeterPayloadTest {
+
+    @Test
+    void entriesBetweenPrefixAndSuffix() {
+        MeterPayload payload = new MeterPayload("[", ",", "]", 4);
+        assertThat(payload.isEmpty()).isTrue();
+
+        payload.add("{\"a\":1}").add("{\"b\":2}");
+        payload.finish();
+
+        assertThat(payload.isEmpty()).isFalse();
+        assertThat(payload).hasToString("[{\"a\":1},{\"b\":2}]");
+        assertThat(payload.toByteArray()).hasSize(payload.size());
+    }
+
+    @Test
+    void encodesUtf8LikeString() {
+        String entry = "ascii \u00e9 \u20ac \uD83D\uDE00 unpaired \uD800 end";
+        MeterPayload payload = new MeterPayload("", "\n", "", 1);
+
+        payload.add(entry).add(entry);
+        payload.finish();
+
+        assertThat(payload.toByteArray()).isEqualTo((entry + "\n" + entry).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void resetReusesBuffer() throws Throwable {
+        MeterPayload payload = new MeterPayload("<", ";", ">", 16);
+        payload.add("first");
+        payload.meterWritten();
+        payload.finish();
+        payload.reset();
+
+        assertThat(payload.meterCount()).isZero();
+        payload.add("second");
+        payload.finish();
+        AtomicReference<HttpSender.Request> sent = new AtomicReference<>();
+        HttpSender sender = request -> {
+            sent.set(request);
+            return new HttpSender.Response(200, null);
+        };
+        payload.writeTo(sender.post("http://localhost"), "text/plain").send();
+        assertThat(sent.get().getEntity()).isEqualTo("<second>".getBytes(StandardCharsets.UTF_8));
+        assertThat(sent.get().getRequestHeaders()).containsEntry("Content-Type", "text/plain");
+    }
+
+}
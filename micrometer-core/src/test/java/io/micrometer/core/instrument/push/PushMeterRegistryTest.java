@@ -26,6 +26,7 @@ import io.micrometer.core.instrument.util.NamedThreadFactory;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
@@ -40,6 +41,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
@@ -302,6 +304,171 @@ class PushMeterRegistryTest {
 
     }
 
+    @Test
+    void publishInBatchesConcurrently() throws Throwable {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("4", "10s"), Clock.SYSTEM);
+        for (int i = 0; i < 8; i++) {
+            registry.counter("c" + i);
+        }
+        CyclicBarrier allInFlight = new CyclicBarrier(4);
+        Set<Meter> published = ConcurrentHashMap.newKeySet();
+
+        registry.publishInBatches(batch -> {
+            try {
+                allInFlight.await(5, SECONDS);
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            published.addAll(batch);
+        });
+
+        assertThat(published).containsExactlyInAnyOrderElementsOf(registry.getMeters());
+        registry.close();
+    }
+
+    @Test
+    void publishInBatchesMovesOnAfterBatchTimeout() throws Throwable {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("2", "50ms"), Clock.SYSTEM);
+        for (int i = 0; i < 4; i++) {
+            registry.counter("c" + i);
+        }
+        Meter stuck = registry.getMeters().get(0);
+        Set<Meter> published = ConcurrentHashMap.newKeySet();
+
+        registry.publishInBatches(batch -> {
+            if (batch.contains(stuck)) {
+                try {
+                    Thread.sleep(10_000);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            published.addAll(batch);
+        });
+
+        assertThat(published).hasSize(2).doesNotContain(stuck);
+        registry.close();
+    }
+
+    @Test
+    void publishInBatchesWaitsForAllBatchesUpToOneTimeout() throws Throwable {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("2", "600ms"), Clock.SYSTEM);
+        for (int i = 0; i < 6; i++) {
+            registry.counter("c" + i);
+        }
+        Set<Meter> published = ConcurrentHashMap.newKeySet();
+
+        // the third batch starts once the first two took 400ms, and would end after 800ms
+        registry.publishInBatches(batch -> {
+            try {
+                Thread.sleep(400);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            published.addAll(batch);
+        });
+
+        assertThat(published).hasSize(4);
+        registry.close();
+    }
+
+    @Test
+    void publishInBatchesStopsAfterFailedBatch() {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("1", "10s"), Clock.SYSTEM);
+        for (int i = 0; i < 6; i++) {
+            registry.counter("c" + i);
+        }
+        AtomicInteger batches = new AtomicInteger();
+        IOException failure = new IOException("connection refused");
+
+        assertThatThrownBy(() -> registry.publishInBatches(batch -> {
+            batches.incrementAndGet();
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(batches).hasValue(1);
+        registry.close();
+    }
+
+    @Test
+    void publishStreamingConcurrentlyRethrowsFailure() {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("2", "10s"), Clock.SYSTEM);
+        for (int i = 0; i < 100; i++) {
+            registry.counter("c" + i);
+        }
+        AtomicInteger batches = new AtomicInteger();
+        IOException failure = new IOException("connection refused");
+
+        assertThatThrownBy(() -> registry.publishStreaming("", ",", "", (meter, payload) -> payload.add("m"),
+                payload -> {
+                    batches.incrementAndGet();
+                    throw failure;
+                }))
+            .isSameAs(failure);
+        assertThat(batches.get()).isLessThan(50);
+        registry.close();
+    }
+
+    @Test
+    void publishStreamingInBatchesOfBatchSize() throws Throwable {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("1", "10s"), Clock.SYSTEM);
+        for (int i = 0; i < 5; i++) {
+            registry.counter("c" + i);
+        }
+        List<String> payloads = new ArrayList<>();
+
+        registry.publishStreaming("[", ",", "]", (meter, payload) -> payload.add("m"),
+                payload -> payloads.add(payload.meterCount() + payload.toString()));
+
+        assertThat(payloads).containsExactly("2[m,m]", "2[m,m]", "1[m]");
+        registry.close();
+    }
+
+    @Test
+    void publishStreamingConcurrently() throws Throwable {
+        CountingPushMeterRegistry registry = new CountingPushMeterRegistry(batchingConfig("3", "10s"), Clock.SYSTEM);
+        for (int i = 0; i < 100; i++) {
+            registry.counter("c" + i);
+        }
+        Queue<String> payloads = new ConcurrentLinkedQueue<>();
+
+        registry.publishStreaming("", ",", "", (meter, payload) -> payload.add(name(meter)),
+                payload -> payloads.add(payload.toString()));
+
+        assertThat(payloads).hasSize(50);
+        assertThat(payloads.stream().flatMap(payload -> Arrays.stream(payload.split(","))))
+            .containsExactlyInAnyOrderElementsOf(
+                    registry.getMeters().stream().map(PushMeterRegistryTest::name).collect(Collectors.toList()));
+        registry.close();
+    }
+
+    // meters are mocks without an id
+    private static String name(Meter meter) {
+        return String.valueOf(System.identityHashCode(meter));
+    }
+
+    private static PushRegistryConfig batchingConfig(String maxInFlightBatches, String batchTimeout) {
+        Map<String, String> props = new HashMap<>();
+        props.put("test.batchSize", "2");
+        props.put("test.maxInFlightBatches", maxInFlightBatches);
+        props.put("test.batchTimeout", batchTimeout);
+        return new PushRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return props.get(key);
+            }
+        };
+    }
+
     static class CountingPushMeterRegistry extends PushMeterRegistry {
 
         AtomicInteger publishCount = new AtomicInteger();
@@ -77,4 +77,12 @@ class PushRegistryConfigTest {
         assertThat(config.validate().isValid()).isTrue();
     }
 
+    @Test
+    void maxInFlightBatchesMustBePositive() {
+        props.put("push.maxInFlightBatches", "0");
+
+        assertThat(config.validate().failures()).singleElement()
+            .satisfies(failure -> assertThat(failure.getProperty()).isEqualTo("push.maxInFlightBatches"));
+    }
+
 }
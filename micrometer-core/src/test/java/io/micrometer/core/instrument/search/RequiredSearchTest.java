@@ -51,6 +51,15 @@ class RequiredSearchTest {
         assertThat(RequiredSearch.in(registry).name(n -> n.startsWith("my")).timer()).isNotNull();
     }
 
+    @Test
+    void allMetersWithNamePrefix() {
+        assertThat(RequiredSearch.in(registry).nameStartsWith("my.").meters()).hasSize(4);
+        assertThat(RequiredSearch.in(registry).nameStartsWith("my.").tag("k2", "v3").counter()).isNotNull();
+
+        assertThatThrownBy(() -> RequiredSearch.in(registry).nameStartsWith("other").meters())
+            .isInstanceOf(MeterNotFoundException.class);
+    }
+
     @Test
     void allMetersWithTag() {
         assertThat(RequiredSearch.in(registry).tag("k2", "v2").meters()).hasSize(1);
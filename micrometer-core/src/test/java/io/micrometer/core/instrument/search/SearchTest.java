@@ -73,4 +73,42 @@ class SearchTest {
         assertThat(Search.in(registry).tagKeys("k", "k2").counter()).isNotNull();
     }
 
+    @Test
+    void allMetersWithNamePrefix() {
+        assertThat(Search.in(registry).nameStartsWith("my.").meters()).hasSize(3);
+        assertThat(Search.in(registry).nameStartsWith("my.c").meters()).hasSize(2);
+        assertThat(Search.in(registry).nameStartsWith("my.counter").tag("k2", "v2").meters()).hasSize(1);
+        assertThat(Search.in(registry).nameStartsWith("other").meters()).isEmpty();
+    }
+
+    @Test
+    void namePredicateReplacesExactName() {
+        assertThat(Search.in(registry).name("my.counter").name(n -> n.startsWith("my")).meters()).hasSize(3);
+        assertThat(Search.in(registry).nameStartsWith("my").name("my.timer").meters()).hasSize(1);
+    }
+
+    @Test
+    void removedMetersAreNotFound() {
+        registry.remove(registry.get("my.counter").tags("k2", "v2").counter());
+
+        assertThat(Search.in(registry).name("my.counter").meters()).hasSize(1);
+        assertThat(Search.in(registry).tag("k2", "v2").meters()).isEmpty();
+        assertThat(Search.in(registry).tagKeys("k2").meters()).isEmpty();
+
+        registry.remove(registry.get("my.counter").counter());
+
+        assertThat(Search.in(registry).name("my.counter").meters()).isEmpty();
+        assertThat(Search.in(registry).nameStartsWith("my.").meters()).hasSize(1);
+    }
+
+    @Test
+    void metersRegisteredAfterFirstSearchAreFound() {
+        assertThat(Search.in(registry).name("my.gauge").meters()).isEmpty();
+
+        registry.gauge("my.gauge", 1.0);
+
+        assertThat(Search.in(registry).name("my.gauge").gauge()).isNotNull();
+        assertThat(Search.in(registry).nameStartsWith("my.").meters()).hasSize(4);
+    }
+
 }
@@ -17,6 +17,7 @@ package io.micrometer.core.instrument.simple;
 
 import io.micrometer.core.Issue;
 import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.cumulative.CumulativeCounter;
 import io.micrometer.core.instrument.cumulative.CumulativeFunctionCounter;
 import io.micrometer.core.instrument.cumulative.CumulativeFunctionTimer;
 import io.micrometer.core.instrument.step.StepFunctionCounter;
@@ -115,6 +116,39 @@ class SimpleMeterRegistryTest {
         assertThat(functionCounter).isInstanceOf(StepFunctionCounter.class);
     }
 
+    @Test
+    void countersInArenaStorage() {
+        SimpleConfig config = key -> "simple.counterStorage".equals(key) ? "arena" : null;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry(config, clock);
+        Counter counter1 = registry.counter("my.counter", "k", "1");
+        Counter counter2 = registry.counter("my.counter", "k", "2");
+        assertThat(counter1).isNotInstanceOf(CumulativeCounter.class);
+
+        counter1.increment();
+        counter1.increment(2);
+        counter2.increment(0.5);
+
+        assertThat(counter1.count()).isEqualTo(3);
+        assertThat(counter2.count()).isEqualTo(0.5);
+        assertThat(registry.counter("my.counter", "k", "1")).isSameAs(counter1);
+    }
+
+    @Test
+    void removedCounterInArenaStorageReleasesItsSlot() {
+        SimpleConfig config = key -> "simple.counterStorage".equals(key) ? "arena" : null;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry(config, clock);
+        Counter removed = registry.counter("my.counter", "k", "1");
+        removed.increment(5);
+        registry.remove(removed);
+
+        Counter counter = registry.counter("my.counter", "k", "2");
+        assertThat(counter.count()).isZero();
+
+        removed.increment();
+        assertThat(removed.count()).isZero();
+        assertThat(counter.count()).isZero();
+    }
+
     @Test
     void stringRepresentationOfMetersShouldBeOk() {
         MockClock clock = new MockClock();
@@ -24,6 +24,7 @@ import org.testcontainers.shaded.com.google.common.util.concurrent.AtomicDouble;
 
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
@@ -567,6 +568,194 @@ class StepMeterRegistryTest {
         assertThat(stepMeterRegistry.publishCount.get()).isEqualTo(1);
     }
 
+    @Test
+    void idleMetersAreRemovedAfterConfiguredSteps() {
+        StepRegistryConfig idleConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public int idleStepsBeforeRemoval() {
+                return 2;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        };
+        MyStepMeterRegistry registry = new MyStepMeterRegistry(idleConfig, clock);
+        Counter active = registry.counter("active");
+        Counter idle = registry.counter("idle");
+        Timer idleTimer = registry.timer("idle.timer");
+        registry.gauge("gauge", 1);
+        idle.increment();
+        idleTimer.record(Duration.ofMillis(1));
+
+        for (int step = 0; step < 3; step++) {
+            active.increment();
+            addTimeWithRolloverOnStepStart(clock, registry, idleConfig, idleConfig.step());
+        }
+
+        assertThat(registry.getMeters()).extracting(meter -> meter.getId().getName())
+            .containsExactlyInAnyOrder("active", "gauge");
+        assertThat(registry.counter("idle")).isNotSameAs(idle);
+    }
+
+    @Test
+    void idleStepsBeforeRemovalMustNotBeNegative() {
+        StepRegistryConfig negativeConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return "test.idleStepsBeforeRemoval".equals(key) ? "-1" : null;
+            }
+        };
+        assertThat(negativeConfig.validate().isValid()).isFalse();
+    }
+
+    @Test
+    void idleMetersAreRemovedByParallelRollover() {
+        StepRegistryConfig parallelConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public int idleStepsBeforeRemoval() {
+                return 1;
+            }
+
+            @Override
+            public int rolloverParallelism() {
+                return 4;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        };
+        MyStepMeterRegistry registry = new MyStepMeterRegistry(parallelConfig, clock);
+        for (int i = 0; i < 10_000; i++) {
+            Counter counter = registry.counter("counter", "index", String.valueOf(i));
+            if (i % 2 == 0) {
+                counter.increment();
+            }
+        }
+
+        addTimeWithRolloverOnStepStart(clock, registry, parallelConfig, parallelConfig.step());
+
+        assertThat(registry.getMeters()).hasSize(5_000)
+            .allSatisfy(meter -> assertThat(Integer.parseInt(meter.getId().getTag("index")) % 2).isZero());
+        registry.close();
+    }
+
+    @Test
+    void idleMetersAreSkippedExceptOnHeartbeat() {
+        StepRegistryConfig skipConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public boolean skipIdleMeters() {
+                return true;
+            }
+
+            @Override
+            public int idleMeterHeartbeatSteps() {
+                return 3;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        };
+        MyStepMeterRegistry registry = new MyStepMeterRegistry(skipConfig, clock);
+        Counter active = registry.counter("active");
+        Counter idle = registry.counter("idle");
+        registry.gauge("gauge", 1);
+        idle.increment();
+
+        List<List<String>> published = new ArrayList<>();
+        for (int step = 0; step < 4; step++) {
+            active.increment();
+            addTimeWithRolloverOnStepStart(clock, registry, skipConfig, skipConfig.step());
+            published.add(registry.getMetersToPublish()
+                .stream()
+                .map(meter -> meter.getId().getName())
+                .sorted()
+                .collect(Collectors.toList()));
+        }
+
+        assertThat(published).containsExactly(Arrays.asList("active", "gauge", "idle"),
+                Arrays.asList("active", "gauge"), Arrays.asList("active", "gauge"),
+                Arrays.asList("active", "gauge", "idle"));
+        assertThat(registry.getMeters()).hasSize(3);
+    }
+
+    @Test
+    void metersRecordedOnlyInFinalPartialStepArePublishedOnClose() {
+        StepRegistryConfig skipConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public boolean skipIdleMeters() {
+                return true;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        };
+        MyStepMeterRegistry registry = new MyStepMeterRegistry(skipConfig, clock);
+        Counter counter = registry.counter("counter");
+        Timer timer = registry.timer("timer");
+        DistributionSummary summary = registry.summary("summary");
+
+        addTimeWithRolloverOnStepStart(clock, registry, skipConfig, skipConfig.step());
+        addTimeWithRolloverOnStepStart(clock, registry, skipConfig, skipConfig.step().dividedBy(2));
+        counter.increment();
+        timer.record(5, MILLISECONDS);
+        summary.record(7);
+        registry.close();
+
+        // idle in the last completed step, so only published with the final partial step
+        assertThat(registry.publishedCounterCounts).containsExactly(1.0);
+        assertThat(registry.publishedTimerCounts).containsExactly(1L);
+        assertThat(registry.publishedSummaryCounts).containsExactly(1L);
+    }
+
+    @Test
+    void rolloverParallelismMustBePositive() {
+        StepRegistryConfig zeroConfig = new StepRegistryConfig() {
+            @Override
+            public String prefix() {
+                return "test";
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return "test.rolloverParallelism".equals(key) ? "0" : null;
+            }
+        };
+        assertThat(zeroConfig.validate().isValid()).isFalse();
+    }
+
     @Test
     void startWithNamedThreadFactoryShouldUseNamedThreadFactoryForPoller() {
         StepMeterRegistry registry = new CustomStepMeterRegistry();
@@ -655,7 +844,7 @@ class StepMeterRegistryTest {
                 prePublishAction.run();
             }
             publishCount.incrementAndGet();
-            List<Meter> ignored = getMeters().stream()
+            List<Meter> ignored = getMetersToPublish().stream()
                 .map(meter -> meter.match(g -> null, this::publishCounter, this::publishTimer, this::publishSummary,
                         null, tg -> null, this::publishFunctionCounter, this::publishFunctionTimer, m -> null))
                 .collect(Collectors.toList());
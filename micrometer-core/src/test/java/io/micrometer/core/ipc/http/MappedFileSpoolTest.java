@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.ipc.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappedFileSpool}.
+ */
+class MappedFileSpoolTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    @Test
+    void removingARecordDroppedWhileReplayingDoesNotRemoveTheNextOne() throws IOException {
+        try (MappedFileSpool spool = new MappedFileSpool(spoolDirectory, 64, 48)) {
+            spool.append(bytes("first-record"));
+            spool.append(bytes("second-record"));
+            MappedFileSpool.Record head = spool.peek();
+            assertThat(head).isNotNull();
+
+            // drops the segment holding the head while it is being replayed
+            for (int i = 0; i < 4; i++) {
+                spool.append(bytes("record-" + i));
+            }
+            String next = string(spool.peek());
+            spool.remove(head);
+
+            assertThat(string(spool.peek())).isEqualTo(next);
+        }
+    }
+
+    @Test
+    void segmentsThatCannotBeDeletedWhileMappedAreNotReplayedAgain() throws IOException {
+        List<String> records = new ArrayList<>();
+        try (MappedFileSpool spool = new MappedFileSpool(spoolDirectory, 64, 4096, path -> {
+            throw new AccessDeniedException(path.toString());
+        })) {
+            for (int i = 0; i < 10; i++) {
+                spool.append(bytes("record-" + i));
+            }
+            MappedFileSpool.Record record;
+            while ((record = spool.peek()) != null) {
+                records.add(new String(record.bytes(), StandardCharsets.UTF_8));
+                spool.remove(record);
+            }
+        }
+        assertThat(records).hasSize(10).startsWith("record-0").endsWith("record-9");
+        assertThat(segments()).hasSizeGreaterThan(1);
+
+        try (MappedFileSpool reopened = new MappedFileSpool(spoolDirectory, 64, 4096)) {
+            assertThat(reopened.peek()).isNull();
+            assertThat(reopened.isEmpty()).isTrue();
+        }
+        assertThat(segments()).isEmpty();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).collect(Collectors.toList());
+        }
+    }
+
+    private static byte[] bytes(String record) {
+        return record.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(MappedFileSpool.Record record) {
+        assertThat(record).isNotNull();
+        return new String(record.bytes(), StandardCharsets.UTF_8);
+    }
+
+}
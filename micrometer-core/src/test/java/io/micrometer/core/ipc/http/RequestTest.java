@@ -17,11 +17,15 @@ package io.micrometer.core.ipc.http;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -43,4 +47,32 @@ class RequestTest {
         assertThat(requestHeaders).containsEntry("Content-Encoding", "gzip");
     }
 
+    @Test
+    void contentFromPartOfArrayIsNotCopiedUntilAsked() throws Throwable {
+        AtomicReference<HttpSender.Request> sent = new AtomicReference<>();
+        HttpSender sender = request -> {
+            sent.set(request);
+            return new HttpSender.Response(200, null);
+        };
+        byte[] content = "abcdef".getBytes(StandardCharsets.UTF_8);
+
+        sender.post("https://micrometer.io/").withContent("text/plain", content, 3).send();
+
+        HttpSender.Request request = sent.get();
+        assertThat(request.getEntityLength()).isEqualTo(3);
+        assertThat(request.getEntity()).isEqualTo("abc".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        request.writeEntityTo(out);
+        assertThat(out.toByteArray()).isEqualTo("abc".getBytes(StandardCharsets.UTF_8));
+        assertThat(request).hasToString("POST https://micrometer.io/\nabc");
+    }
+
+    @Test
+    void contentLengthOutOfBounds() {
+        HttpSender.Request.Builder builder = HttpSender.Request.build("https://micrometer.io/", mock(HttpSender.class));
+
+        assertThatThrownBy(() -> builder.withContent("text/plain", new byte[2], 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
 }
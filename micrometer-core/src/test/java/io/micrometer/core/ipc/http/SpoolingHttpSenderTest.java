@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.core.ipc.http;
+
+import io.micrometer.core.instrument.MockClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link SpoolingHttpSender}.
+ */
+class SpoolingHttpSenderTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final MockClock clock = new MockClock();
+
+    private final List<String> delivered = new ArrayList<>();
+
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private final HttpSender endpoint = request -> {
+        if (status.get() < 0) {
+            throw new ConnectException("Connection refused");
+        }
+        if (status.get() == 200) {
+            delivered.add(new String(request.getEntity(), StandardCharsets.UTF_8));
+        }
+        return new HttpSender.Response(status.get(), null);
+    };
+
+    @Test
+    void failedRequestsAreReplayedInOrderOnceTheEndpointRecovers() throws Throwable {
+        HttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+
+        status.set(503);
+        assertThat(send(sender, "a").code()).isEqualTo(503);
+        status.set(-1);
+        assertThatThrownBy(() -> send(sender, "b")).isInstanceOf(ConnectException.class);
+        assertThat(delivered).isEmpty();
+
+        status.set(200);
+        send(sender, "c");
+        assertThat(delivered).containsExactly("c", "a", "b");
+        assertThat(((SpoolingHttpSender) sender).spooledBytes()).isZero();
+    }
+
+    @Test
+    void clientErrorsAreNotSpooled() throws Throwable {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+
+        status.set(400);
+        send(sender, "a");
+
+        assertThat(sender.spooledBytes()).isZero();
+    }
+
+    @Test
+    void failedReplayBacksOff() throws Throwable {
+        List<String> attempts = new ArrayList<>();
+        AtomicInteger failReplays = new AtomicInteger(1);
+        HttpSender flaky = request -> {
+            String body = new String(request.getEntity(), StandardCharsets.UTF_8);
+            attempts.add(body);
+            if (body.equals("a") && failReplays.getAndDecrement() >= 0) {
+                return new HttpSender.Response(503, null);
+            }
+            return new HttpSender.Response(200, null);
+        };
+        HttpSender sender = SpoolingHttpSender.builder(flaky, spoolDirectory)
+            .clock(clock)
+            .initialBackoff(Duration.ofSeconds(10))
+            .build();
+
+        send(sender, "a");
+        send(sender, "b");
+        send(sender, "c");
+        assertThat(attempts).containsExactly("a", "b", "a", "c");
+
+        clock.add(Duration.ofSeconds(10));
+        send(sender, "d");
+        assertThat(attempts).containsExactly("a", "b", "a", "c", "d", "a");
+    }
+
+    @Test
+    void expiredRequestsAreDiscarded() throws Throwable {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory)
+            .clock(clock)
+            .maxAge(Duration.ofMinutes(5))
+            .build();
+
+        status.set(503);
+        send(sender, "a");
+        clock.add(Duration.ofMinutes(6));
+        send(sender, "b");
+
+        status.set(200);
+        send(sender, "c");
+        assertThat(delivered).containsExactly("c", "b");
+    }
+
+    @Test
+    void oldestRequestsAreDroppedWhenTheSpoolIsFull() throws Throwable {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory)
+            .clock(clock)
+            .segmentBytes(256)
+            .maxBytes(1024)
+            .build();
+
+        status.set(503);
+        for (int i = 0; i < 20; i++) {
+            send(sender, "request-" + i);
+        }
+        assertThat(sender.spooledBytes()).isLessThanOrEqualTo(1024);
+
+        status.set(200);
+        send(sender, "last");
+        assertThat(delivered).startsWith("last").endsWith("request-19").doesNotContain("request-0");
+    }
+
+    @Test
+    void spooledRequestsSurviveARestart() throws Throwable {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+        status.set(503);
+        send(sender, "a");
+        send(sender, "b");
+        sender.close();
+
+        HttpSender restarted = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+        status.set(200);
+        send(restarted, "c");
+
+        assertThat(delivered).containsExactly("c", "a", "b");
+    }
+
+    @Test
+    void directoryCannotBeSharedUntilClosed() throws IOException {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory).build();
+
+        assertThatThrownBy(() -> SpoolingHttpSender.builder(endpoint, spoolDirectory).build())
+            .isInstanceOf(IllegalStateException.class);
+
+        sender.close();
+        SpoolingHttpSender.builder(endpoint, spoolDirectory).build().close();
+    }
+
+    @Test
+    void undecodableRequestsAreDiscarded() throws Throwable {
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+        status.set(503);
+        send(sender, "a");
+        sender.close();
+        try (MappedFileSpool spool = new MappedFileSpool(spoolDirectory, 1024, 4096)) {
+            spool.append(new byte[] { 1, 2, 3 });
+        }
+
+        SpoolingHttpSender restarted = SpoolingHttpSender.builder(endpoint, spoolDirectory).clock(clock).build();
+        status.set(503);
+        send(restarted, "b");
+        status.set(200);
+        send(restarted, "c");
+
+        assertThat(delivered).containsExactly("c", "a", "b");
+        assertThat(restarted.spooledBytes()).isZero();
+    }
+
+    @Test
+    void credentialsAreNotSpooled() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", "Bearer secret");
+        headers.put("X-Insert-Key", "secret");
+        headers.put("Content-Type", "application/json");
+        HttpSender.Request request = new HttpSender.Request(
+                new URL("https://micrometer.io/api?api_key=secret&precision=ms"),
+                "{\"metric\":1}".getBytes(StandardCharsets.UTF_8), HttpSender.Method.POST, headers);
+
+        byte[] record = SpoolingHttpSender.encode(request, 42);
+        SpoolingHttpSender.SpooledRequest decoded = SpoolingHttpSender.decode(record);
+
+        assertThat(new String(record, StandardCharsets.ISO_8859_1)).doesNotContain("secret");
+        assertThat(decoded.timestamp).isEqualTo(42);
+        assertThat(decoded.request.getUrl()).hasToString("https://micrometer.io/api?precision=ms");
+        assertThat(decoded.request.getMethod()).isEqualTo(HttpSender.Method.POST);
+        assertThat(decoded.request.getRequestHeaders()).containsExactly(entry("Content-Type", "application/json"));
+        assertThat(decoded.request.getEntity()).isEqualTo(request.getEntity());
+    }
+
+    @Test
+    void credentialsOfTheSentRequestAreUsedOnReplay() throws Throwable {
+        List<HttpSender.Request> requests = new ArrayList<>();
+        AtomicInteger code = new AtomicInteger(503);
+        HttpSender recording = request -> {
+            requests.add(request);
+            return new HttpSender.Response(code.get(), null);
+        };
+        SpoolingHttpSender sender = SpoolingHttpSender.builder(recording, spoolDirectory)
+            .clock(clock)
+            .replayCustomizer(request -> {
+                Map<String, String> headers = new LinkedHashMap<>(request.getRequestHeaders());
+                headers.put("X-Replayed", "true");
+                return new HttpSender.Request(request.getUrl(), request.getEntity(), request.getMethod(), headers);
+            })
+            .build();
+
+        sender.post("https://micrometer.io/api/v1/series?api_key=old")
+            .withHeader("Authorization", "Bearer old")
+            .withPlainText("a")
+            .send();
+        code.set(200);
+        sender.post("https://micrometer.io/api/v1/metrics?api_key=new")
+            .withHeader("Authorization", "Bearer new")
+            .withPlainText("b")
+            .send();
+
+        assertThat(requests).hasSize(3);
+        HttpSender.Request replayed = requests.get(2);
+        assertThat(replayed.getUrl()).hasToString("https://micrometer.io/api/v1/series?api_key=new");
+        assertThat(replayed.getRequestHeaders()).containsEntry("Authorization", "Bearer new")
+            .containsEntry("X-Replayed", "true");
+        assertThat(replayed.getEntity()).isEqualTo("a".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HttpSender.Response send(HttpSender sender, String body) throws Throwable {
+        return sender.post("https://micrometer.io/api").withPlainText(body).send();
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.java21.instrument.distribution;
+
+import io.micrometer.core.instrument.distribution.BucketArithmetic;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link VectorBucketArithmetic} with {@link BucketArithmetic#scalar()} over
+ * 10,000 histograms of 276 buckets, the bucket count of a percentile histogram with
+ * default bounds: merging every histogram into one aggregate, and turning every
+ * histogram's bucket counts into cumulative counts as a snapshot does.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BucketArithmeticBenchmark {
+
+    private static final int HISTOGRAMS = 10_000;
+
+    private static final int BUCKETS = 276;
+
+    @Param({ "scalar", "vector" })
+    String arithmeticType;
+
+    BucketArithmetic arithmetic;
+
+    long[][] counts;
+
+    long[] scratch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        arithmetic = "vector".equals(arithmeticType) ? new VectorBucketArithmetic() : BucketArithmetic.scalar();
+        Random random = new Random(1234567891L);
+        counts = new long[HISTOGRAMS][];
+        for (int i = 0; i < HISTOGRAMS; i++) {
+            counts[i] = random.longs(BUCKETS, 0, 1_000).toArray();
+        }
+        scratch = new long[BUCKETS];
+    }
+
+    @Benchmark
+    public long[] merge() {
+        long[] merged = new long[BUCKETS];
+        for (long[] histogram : counts) {
+            arithmetic.add(merged, histogram, BUCKETS);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public long cumulativeSum() {
+        long total = 0;
+        for (long[] histogram : counts) {
+            System.arraycopy(histogram, 0, scratch, 0, BUCKETS);
+            arithmetic.cumulativeSum(scratch, BUCKETS);
+            total += scratch[BUCKETS - 1];
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BucketArithmeticBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.java21.instrument.distribution;
+
+import io.micrometer.core.instrument.distribution.BucketArithmetic;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BucketArithmetic} with the vector API of the {@code jdk.incubator.vector}
+ * module. {@link BucketArithmetic#get()} picks this implementation when this module is on
+ * the class path and the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ * <p>
+ * Cumulative sums are computed a vector at a time with a log-step prefix sum within the
+ * vector, carrying the last lane over to the next vector.
+ *
+ * @since 1.17.0
+ */
+public final class VectorBucketArithmetic extends BucketArithmetic {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final LongVector ZERO = LongVector.zero(SPECIES);
+
+    /**
+     * Called reflectively by {@link BucketArithmetic#get()}.
+     * @throws UnsupportedOperationException If vectors of longs have a single lane on
+     * this platform, in which case plain loops are faster.
+     */
+    public VectorBucketArithmetic() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("No SIMD support for longs on this platform");
+        }
+    }
+
+    @Override
+    public void add(long[] target, long[] source, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            LongVector.fromArray(SPECIES, target, i).add(LongVector.fromArray(SPECIES, source, i)).intoArray(target, i);
+        }
+        for (; i < length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    @Override
+    public void cumulativeSum(long[] counts, int length) {
+        int lanes = SPECIES.length();
+        long carry = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += lanes) {
+            LongVector sums = LongVector.fromArray(SPECIES, counts, i);
+            for (int shift = 1; shift < lanes; shift <<= 1) {
+                // lanes shifted up by shift, zeros shifted in
+                sums = sums.add(ZERO.slice(lanes - shift, sums));
+            }
+            sums = sums.add(carry);
+            sums.intoArray(counts, i);
+            carry = sums.lane(lanes - 1);
+        }
+        for (; i < length; i++) {
+            carry += counts[i];
+            counts[i] = carry;
+        }
+    }
+
+}
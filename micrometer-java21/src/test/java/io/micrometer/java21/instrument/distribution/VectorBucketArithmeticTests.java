@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 VMware, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micrometer.java21.instrument.distribution;
+
+import io.micrometer.core.instrument.distribution.BucketArithmetic;
+import jdk.incubator.vector.LongVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link VectorBucketArithmetic}.
+ */
+class VectorBucketArithmeticTests {
+
+    private BucketArithmetic vector;
+
+    @BeforeEach
+    void setUp() {
+        // VectorBucketArithmetic is not available without more than one long lane
+        assumeTrue(LongVector.SPECIES_PREFERRED.length() > 1);
+        vector = new VectorBucketArithmetic();
+    }
+
+    @Test
+    void selectedAtRuntime() {
+        assertThat(BucketArithmetic.get()).isInstanceOf(VectorBucketArithmetic.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 3, 4, 7, 8, 9, 17, 64, 276 })
+    void addMatchesScalar(int length) {
+        Random random = new Random(length);
+        long[] source = random.longs(length + 2, 0, 1_000_000).toArray();
+        long[] expected = random.longs(length + 2, 0, 1_000_000).toArray();
+        long[] actual = expected.clone();
+
+        BucketArithmetic.scalar().add(expected, source, length);
+        vector.add(actual, source, length);
+
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 3, 4, 7, 8, 9, 17, 64, 276 })
+    void cumulativeSumMatchesScalar(int length) {
+        long[] expected = new Random(length).longs(length + 2, 0, 1_000_000).toArray();
+        long[] actual = expected.clone();
+
+        BucketArithmetic.scalar().cumulativeSum(expected, length);
+        vector.cumulativeSum(actual, length);
+
+        assertThat(actual).containsExactly(expected);
+    }
+
+}